@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.cache;
+
+import java.util.HashMap;
+
+/**
+ * Time to live of the cached responses, by endpoint template (e.g. "movie/{id}/images"). 
+ * The longest configured prefix of an endpoint wins; a time to live of 0 disables the caching.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbCacheTtl {
+
+	/**
+	 * The time to live of each endpoint prefix, in milliseconds.
+	 */
+	private final HashMap<String, Long> ttls = new HashMap<String, Long>();
+	
+	/**
+	 * The time to live of the endpoints without a configured one.
+	 */
+	private long defaultTtl = 60 * 60 * 1000L; // 1 hour
+	
+	/**
+	 * Creates a new table with the default time to live of the endpoints.
+	 */
+	public TMDbCacheTtl() {
+		long minute = 60 * 1000L;
+		long day = 24 * 60 * minute;
+		
+		ttls.put("configuration", day);
+		ttls.put("genre/list", day);
+		ttls.put("movie/{id}/images", day);
+		ttls.put("person/{id}/images", day);
+		ttls.put("collection/{id}/images", day);
+		ttls.put("movie/popular", 15 * minute);
+		ttls.put("movie/top_rated", 15 * minute);
+		ttls.put("movie/now_playing", 15 * minute);
+		ttls.put("movie/upcoming", 15 * minute);
+		ttls.put("search", 15 * minute);
+		
+		// Never cached: user data, sessions and changes.
+		ttls.put("account", 0L);
+		ttls.put("authentication", 0L);
+		ttls.put("movie/latest", 0L);
+		ttls.put("person/latest", 0L);
+		ttls.put("movie/changes", 0L);
+		ttls.put("person/changes", 0L);
+		ttls.put("movie/{id}/changes", 0L);
+		ttls.put("person/{id}/changes", 0L);
+	}
+	
+	/**
+	 * Sets the time to live of the endpoints starting with the given prefix (e.g. "movie/{id}").
+	 * 
+	 * @param endpoint The endpoint prefix
+	 * @param ttlMillis The time to live in milliseconds (0 to not cache the endpoint)
+	 */
+	public synchronized void setTtl(String endpoint, long ttlMillis) {
+		ttls.put(endpoint, Math.max(0, ttlMillis));
+	}
+	
+	/**
+	 * Sets the time to live of the endpoints without a configured one.
+	 * 
+	 * @param ttlMillis The time to live in milliseconds (0 to not cache them)
+	 */
+	public synchronized void setDefaultTtl(long ttlMillis) {
+		defaultTtl = Math.max(0, ttlMillis);
+	}
+	
+	/**
+	 * Gets the time to live of the given endpoint.
+	 * 
+	 * @param endpoint The endpoint template
+	 * @return The time to live in milliseconds
+	 */
+	public synchronized long getTtl(String endpoint) {
+		String longest = null;
+		for (String prefix : ttls.keySet()) {
+			if (endpoint.startsWith(prefix) && (endpoint.length() == prefix.length() || endpoint.charAt(prefix.length()) == '/')) {
+				if (longest == null || prefix.length() > longest.length()) longest = prefix;
+			}
+		}
+		if (longest != null) return ttls.get(longest);
+		
+		return defaultTtl;
+	}
+	
+}
@@ -0,0 +1,647 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.cache;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import mk.tmdb.utils.Log;
+import mk.tmdb.utils.TMDbExecutors;
+
+/**
+ * Persistent cache of the raw TMDb API responses, stored in a local directory so that they 
+ * survive a restart of the application.
+ * <p>
+ * The responses are appended to memory-mapped segment files of fixed size; a record is made of 
+ * the key length, the value length, the expiration time and the UTF-8 key and value. An in-memory 
+ * hash index maps every key to the segment and offset of its latest record, and is rebuilt by 
+ * scanning the segments when the cache is opened. In background, the expired records are released 
+ * and the segments whose live records are less than half of their content are compacted: their live 
+ * records are copied at the end of the current segment and the file is deleted. When the segments 
+ * exceed the {@link #setMaxSize(long) maximum size}, the oldest ones are evicted whole.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbDiskCache implements Closeable {
+
+	/**
+	 * Default size of a segment file (64 MB).
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+	
+	/**
+	 * Default maximum size of the segment files (1 GB).
+	 */
+	public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+	
+	/**
+	 * Interval between two compactions, in milliseconds.
+	 */
+	public static final long COMPACTION_INTERVAL = 60 * 1000L;
+	
+	/**
+	 * Size of a record header: key length, value length and expiration time.
+	 */
+	private static final int HEADER_SIZE = 16;
+	
+	/**
+	 * Pattern of the segment file names.
+	 */
+	private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.dat");
+	
+	/**
+	 * A segment file.
+	 */
+	private static final class Segment {
+		
+		final int id;
+		final File file;
+		final FileChannel channel;
+		final MappedByteBuffer buffer;
+		int position = 0;
+		long liveBytes = 0;
+		
+		Segment(int id, File file, int size) throws IOException {
+			this.id = id;
+			this.file = file;
+			
+			RandomAccessFile raf = new RandomAccessFile(file, "rw");
+			if (raf.length() < size) raf.setLength(size);
+			this.channel = raf.getChannel();
+			this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+	}
+	
+	/**
+	 * The cache directory.
+	 */
+	private final File directory;
+	
+	/**
+	 * The size of a segment file.
+	 */
+	private final int segmentSize;
+	
+	/**
+	 * The segments, by id.
+	 */
+	private final TreeMap<Integer, Segment> segments = new TreeMap<Integer, Segment>();
+	
+	/**
+	 * The location (segment id and offset) of the latest record of each key.
+	 */
+	private final HashMap<String, Long> index = new HashMap<String, Long>();
+	
+	/**
+	 * The time to live of the endpoints.
+	 */
+	private final TMDbCacheTtl ttl = new TMDbCacheTtl();
+	
+	/**
+	 * The compaction scheduler.
+	 */
+	private final ScheduledExecutorService compactor;
+	
+	/**
+	 * The segment where the new records are appended.
+	 */
+	private Segment active;
+	
+	/**
+	 * The maximum size of the segment files.
+	 */
+	private long maxSize = DEFAULT_MAX_SIZE;
+	
+	private long hits = 0;
+	private long misses = 0;
+	private boolean closed = false;
+	
+	/**
+	 * Opens the disk cache stored in the given directory, with the default segment size.
+	 * 
+	 * @param directory The cache directory (created if missing)
+	 * @throws IOException If the directory cannot be created or a segment cannot be read
+	 */
+	public TMDbDiskCache(File directory) throws IOException {
+		this(directory, DEFAULT_SEGMENT_SIZE);
+	}
+	
+	/**
+	 * Opens the disk cache stored in the given directory.
+	 * 
+	 * @param directory The cache directory (created if missing)
+	 * @param segmentSize The size of a segment file in bytes
+	 * @throws IOException If the directory cannot be created or a segment cannot be read
+	 */
+	public TMDbDiskCache(File directory, int segmentSize) throws IOException {
+		if (segmentSize <= HEADER_SIZE) throw new IllegalArgumentException("The segment size is too small");
+		if (!directory.isDirectory() && !directory.mkdirs()) throw new IOException("Cannot create the cache directory " + directory);
+		
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		
+		load();
+		
+		compactor = Executors.newSingleThreadScheduledExecutor(TMDbExecutors.daemonThreadFactory("tmdb-disk-cache"));
+		compactor.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				compact();
+			}
+		}, COMPACTION_INTERVAL, COMPACTION_INTERVAL, TimeUnit.MILLISECONDS);
+	}
+	
+	//region Settings
+	
+	/**
+	 * Gets the time to live of the cached endpoints, which can be changed.
+	 * 
+	 * @return The time to live table
+	 */
+	public TMDbCacheTtl getTtl() {
+		return ttl;
+	}
+	
+	/**
+	 * Gets the cache directory.
+	 * 
+	 * @return The cache directory
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+	
+	/**
+	 * Gets the maximum size of the segment files.
+	 * 
+	 * @return The maximum size in bytes
+	 */
+	public synchronized long getMaxSize() {
+		return maxSize;
+	}
+	
+	/**
+	 * Sets the maximum size of the segment files. When it is exceeded, the oldest segments are 
+	 * deleted with their records; the current segment is always kept.
+	 * 
+	 * @param bytes The maximum size in bytes
+	 */
+	public synchronized void setMaxSize(long bytes) {
+		if (bytes <= 0) throw new IllegalArgumentException("The maximum size must be positive");
+		maxSize = bytes;
+		evict();
+	}
+	
+	//endregion
+	
+	//region Operations
+	
+	/**
+	 * Gets the cached response of the given key.
+	 * 
+	 * @param key The request key
+	 * @return The cached response or null if it is missing or expired
+	 */
+	public synchronized String get(String key) {
+		Long location = closed ? null : index.get(key);
+		if (location == null) {
+			misses++;
+			return null;
+		}
+		
+		Segment segment = segments.get(segmentOf(location));
+		ByteBuffer record = segment.buffer.duplicate();
+		record.position(offsetOf(location));
+		
+		int keyLength = record.getInt();
+		int valueLength = record.getInt();
+		long expiresAt = record.getLong();
+		
+		if (expiresAt - System.currentTimeMillis() <= 0) {
+			index.remove(key);
+			segment.liveBytes -= HEADER_SIZE + keyLength + valueLength;
+			misses++;
+			return null;
+		}
+		
+		byte[] value = new byte[valueLength];
+		record.position(record.position() + keyLength);
+		record.get(value);
+		
+		hits++;
+		return new String(value, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Stores the response of the given key, if its endpoint has a positive time to live.
+	 * 
+	 * @param key The request key
+	 * @param endpoint The endpoint template
+	 * @param value The response
+	 */
+	public synchronized void put(String key, String endpoint, String value) {
+		long ttlMillis = ttl.getTtl(endpoint);
+		if (ttlMillis <= 0 || closed) return;
+		
+		try {
+			append(key.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8), System.currentTimeMillis() + ttlMillis);
+			evict();
+		} catch (IOException e) {
+			Log.print(e);
+		}
+	}
+	
+	/**
+	 * Removes the response of the given key.
+	 * 
+	 * @param key The request key
+	 */
+	public synchronized void invalidate(String key) {
+		Long location = index.remove(key);
+		if (location != null) release(location);
+	}
+	
+	/**
+	 * Removes all the cached responses of the given resource and of its sub-resources 
+	 * (e.g. the movie information, casts, images... of a movie).
+	 * 
+	 * @param resourceKey The resource key (see {@link mk.tmdb.core.TMDbURLCreator#getResourceKey(String, int) TMDbURLCreator.getResourceKey})
+	 */
+	public synchronized void invalidateResource(String resourceKey) {
+		Iterator<Map.Entry<String, Long>> entries = index.entrySet().iterator();
+		while (entries.hasNext()) {
+			Map.Entry<String, Long> entry = entries.next();
+			if (TMDbResponseCache.isResourceKey(entry.getKey(), resourceKey)) {
+				release(entry.getValue());
+				entries.remove();
+			}
+		}
+	}
+	
+	/**
+	 * Releases the expired records, then copies the live records of the segments that are mostly 
+	 * dead at the end of the current segment, and deletes them. This is done periodically in background.
+	 */
+	public synchronized void compact() {
+		if (closed) return;
+		
+		sweep();
+		
+		List<Segment> candidates = new ArrayList<Segment>();
+		for (Segment segment : segments.values()) {
+			if (segment != active && segment.liveBytes * 2 < segment.position) candidates.add(segment);
+		}
+		
+		long now = System.currentTimeMillis();
+		for (Segment segment : candidates) {
+			try {
+				
+				ByteBuffer record = segment.buffer.duplicate();
+				int offset = 0;
+				while (offset < segment.position) {
+					record.position(offset);
+					int keyLength = record.getInt();
+					int valueLength = record.getInt();
+					long expiresAt = record.getLong();
+					
+					byte[] key = new byte[keyLength];
+					record.get(key);
+					String keyString = new String(key, StandardCharsets.UTF_8);
+					
+					Long location = index.get(keyString);
+					if (location != null && location == locationOf(segment.id, offset)) {
+						if (expiresAt - now > 0) {
+							byte[] value = new byte[valueLength];
+							record.get(value);
+							append(key, value, expiresAt);
+						} else {
+							index.remove(keyString);
+						}
+					}
+					
+					offset += HEADER_SIZE + keyLength + valueLength;
+				}
+				
+				delete(segment);
+				
+			} catch (IOException e) {
+				Log.print(e);
+			}
+		}
+		
+		evict();
+	}
+	
+	/**
+	 * Flushes the segments to disk and releases them. The cache cannot be used after it has been closed.
+	 */
+	@Override
+	public synchronized void close() {
+		if (closed) return;
+		
+		closed = true;
+		compactor.shutdownNow();
+		for (Segment segment : segments.values()) {
+			try {
+				segment.buffer.force();
+				segment.channel.close();
+			} catch (IOException e) {
+				Log.print(e);
+			}
+		}
+		segments.clear();
+		index.clear();
+	}
+	
+	//endregion
+	
+	//region Statistics
+	
+	/**
+	 * Gets the number of requests served by the cache.
+	 * 
+	 * @return The number of hits
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+	
+	/**
+	 * Gets the number of requests not served by the cache.
+	 * 
+	 * @return The number of misses
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+	
+	/**
+	 * Gets the number of cached responses (including the expired ones not yet removed).
+	 * 
+	 * @return The number of entries
+	 */
+	public synchronized int size() {
+		return index.size();
+	}
+	
+	/**
+	 * Gets the number of segment files.
+	 * 
+	 * @return The number of segments
+	 */
+	public synchronized int getSegmentCount() {
+		return segments.size();
+	}
+	
+	/**
+	 * Gets the size of the segment files.
+	 * 
+	 * @return The size in bytes
+	 */
+	public synchronized long getDiskSize() {
+		long size = 0;
+		for (Segment segment : segments.values()) {
+			size += segment.buffer.capacity();
+		}
+		return size;
+	}
+	
+	//endregion
+	
+	//region Storage
+	
+	/**
+	 * Opens the existing segments and rebuilds the index.
+	 * 
+	 * @throws IOException If a segment cannot be read
+	 */
+	private void load() throws IOException {
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				Matcher matcher = SEGMENT_NAME.matcher(file.getName());
+				if (matcher.matches()) {
+					int id = Integer.parseInt(matcher.group(1));
+					segments.put(id, new Segment(id, file, (int) Math.max(segmentSize, file.length())));
+				}
+			}
+		}
+		
+		long now = System.currentTimeMillis();
+		for (Segment segment : segments.values()) {
+			ByteBuffer record = segment.buffer.duplicate();
+			int limit = record.capacity();
+			
+			int offset = 0;
+			while (offset + HEADER_SIZE <= limit) {
+				record.position(offset);
+				int keyLength = record.getInt();
+				int valueLength = record.getInt();
+				long expiresAt = record.getLong();
+				
+				int size = HEADER_SIZE + keyLength + valueLength;
+				if (keyLength <= 0 || valueLength < 0 || offset + size > limit) break;
+				
+				if (expiresAt - now > 0) {
+					byte[] key = new byte[keyLength];
+					record.get(key);
+					
+					Long previous = index.put(new String(key, StandardCharsets.UTF_8), locationOf(segment.id, offset));
+					if (previous != null) release(previous);
+					segment.liveBytes += size;
+				}
+				
+				offset += size;
+			}
+			segment.position = offset;
+		}
+		
+		active = segments.isEmpty() ? newSegment() : segments.lastEntry().getValue();
+	}
+	
+	/**
+	 * Appends a record to the current segment and updates the index.
+	 * 
+	 * @param key The key bytes
+	 * @param value The value bytes
+	 * @param expiresAt The expiration time
+	 * @throws IOException If a new segment cannot be created
+	 */
+	private void append(byte[] key, byte[] value, long expiresAt) throws IOException {
+		int size = HEADER_SIZE + key.length + value.length;
+		if (size > segmentSize) return;
+		
+		if (active.position + size > active.buffer.capacity()) {
+			active = newSegment();
+		}
+		
+		int offset = active.position;
+		ByteBuffer record = active.buffer.duplicate();
+		record.position(offset + 4);
+		record.putInt(value.length);
+		record.putLong(expiresAt);
+		record.put(key);
+		record.put(value);
+		// The key length is written last, so a partially written record ends the segment scan.
+		record.putInt(offset, key.length);
+		
+		active.position += size;
+		active.liveBytes += size;
+		
+		Long previous = index.put(new String(key, StandardCharsets.UTF_8), locationOf(active.id, offset));
+		if (previous != null) release(previous);
+	}
+	
+	/**
+	 * Removes from the index the records that are expired, even if they are never read again, 
+	 * so that their segments can be compacted.
+	 */
+	private void sweep() {
+		long now = System.currentTimeMillis();
+		
+		Iterator<Long> locations = index.values().iterator();
+		while (locations.hasNext()) {
+			long location = locations.next();
+			Segment segment = segments.get(segmentOf(location));
+			
+			ByteBuffer record = segment.buffer.duplicate();
+			record.position(offsetOf(location) + 8);
+			if (record.getLong() - now <= 0) {
+				release(location);
+				locations.remove();
+			}
+		}
+	}
+	
+	/**
+	 * Deletes the oldest segments, with their records, while the segment files exceed the maximum size.
+	 */
+	private void evict() {
+		long size = getDiskSize();
+		while (size > maxSize && segments.firstEntry().getValue() != active) {
+			Segment oldest = segments.firstEntry().getValue();
+			
+			Iterator<Long> locations = index.values().iterator();
+			while (locations.hasNext()) {
+				if (segmentOf(locations.next()) == oldest.id) locations.remove();
+			}
+			
+			size -= oldest.buffer.capacity();
+			try {
+				delete(oldest);
+			} catch (IOException e) {
+				Log.print(e);
+			}
+		}
+	}
+	
+	/**
+	 * Closes and deletes a segment file.
+	 * 
+	 * @param segment The segment
+	 * @throws IOException If the segment cannot be closed
+	 */
+	private void delete(Segment segment) throws IOException {
+		segments.remove(segment.id);
+		segment.channel.close();
+		if (!segment.file.delete()) segment.file.deleteOnExit();
+	}
+	
+	/**
+	 * Marks the record at the given location as dead.
+	 * 
+	 * @param location The record location
+	 */
+	private void release(long location) {
+		Segment segment = segments.get(segmentOf(location));
+		if (segment == null) return;
+		
+		ByteBuffer record = segment.buffer.duplicate();
+		record.position(offsetOf(location));
+		segment.liveBytes -= HEADER_SIZE + record.getInt() + record.getInt();
+	}
+	
+	/**
+	 * Creates a new empty segment.
+	 * 
+	 * @return The new segment
+	 * @throws IOException If the segment file cannot be created
+	 */
+	private Segment newSegment() throws IOException {
+		int id = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+		
+		Segment segment = new Segment(id, new File(directory, "segment-" + id + ".dat"), segmentSize);
+		segments.put(id, segment);
+		return segment;
+	}
+	
+	/**
+	 * Packs a segment id and an offset into a location.
+	 * 
+	 * @param segment The segment id
+	 * @param offset The record offset
+	 * @return The location
+	 */
+	private static long locationOf(int segment, int offset) {
+		return ((long) segment << 32) | (offset & 0xffffffffL);
+	}
+	
+	/**
+	 * Gets the segment id of a location.
+	 * 
+	 * @param location The location
+	 * @return The segment id
+	 */
+	private static int segmentOf(long location) {
+		return (int) (location >>> 32);
+	}
+	
+	/**
+	 * Gets the record offset of a location.
+	 * 
+	 * @param location The location
+	 * @return The record offset
+	 */
+	private static int offsetOf(long location) {
+		return (int) location;
+	}
+	
+	//endregion
+	
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.cache;
+
+/**
+ * Count-min sketch estimating how often the keys have been requested. The counters are 
+ * 4-bit wide and are halved once the number of increments reaches ten times the width 
+ * of the sketch, so that the estimation follows the recent popularity of the keys.
+ * 
+ * @author Mirko Polato
+ *
+ */
+final class TMDbFrequencySketch {
+
+	/**
+	 * Maximum value of a counter.
+	 */
+	private static final int MAX_COUNT = 15;
+	
+	/**
+	 * Seeds of the hash functions.
+	 */
+	private static final int[] SEEDS = { 0x97cb3127, 0xc2b2ae35, 0x85ebca6b, 0x27d4eb2f };
+	
+	/**
+	 * The counters, 16 per long.
+	 */
+	private final long[] table;
+	
+	/**
+	 * Mask of the counter indexes.
+	 */
+	private final int mask;
+	
+	/**
+	 * Number of increments before halving the counters.
+	 */
+	private final int sampleSize;
+	
+	/**
+	 * Number of increments since the last halving.
+	 */
+	private int size = 0;
+	
+	/**
+	 * Creates a new sketch.
+	 * 
+	 * @param expectedKeys The expected number of keys
+	 */
+	TMDbFrequencySketch(long expectedKeys) {
+		int counters = Integer.highestOneBit((int) Math.max(64, Math.min(expectedKeys, 1 << 24)) - 1) << 1;
+		
+		table = new long[counters / 16];
+		mask = counters - 1;
+		sampleSize = 10 * counters;
+	}
+	
+	/**
+	 * Records a request of the given key.
+	 * 
+	 * @param key The key
+	 */
+	void increment(String key) {
+		int hash = spread(key.hashCode());
+		boolean added = false;
+		
+		for (int i = 0; i < SEEDS.length; i++) {
+			int index = indexOf(hash, i);
+			int shift = (index & 15) << 2;
+			long counter = (table[index >>> 4] >>> shift) & 0xfL;
+			if (counter < MAX_COUNT) {
+				table[index >>> 4] += 1L << shift;
+				added = true;
+			}
+		}
+		
+		if (added && ++size >= sampleSize) reset();
+	}
+	
+	/**
+	 * Gets the estimated frequency of the given key.
+	 * 
+	 * @param key The key
+	 * @return The estimated frequency
+	 */
+	int frequency(String key) {
+		int hash = spread(key.hashCode());
+		int frequency = MAX_COUNT;
+		
+		for (int i = 0; i < SEEDS.length; i++) {
+			int index = indexOf(hash, i);
+			int counter = (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & 0xfL);
+			frequency = Math.min(frequency, counter);
+		}
+		
+		return frequency;
+	}
+	
+	/**
+	 * Halves all the counters.
+	 */
+	private void reset() {
+		for (int i = 0; i < table.length; i++) {
+			table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+		}
+		size /= 2;
+	}
+	
+	/**
+	 * Gets the counter index of the i-th hash function.
+	 * 
+	 * @param hash The spread hash of the key
+	 * @param i The hash function
+	 * @return The counter index
+	 */
+	private int indexOf(int hash, int i) {
+		int h = (hash + SEEDS[i]) * SEEDS[i];
+		h ^= h >>> 16;
+		return h & mask;
+	}
+	
+	/**
+	 * Spreads the bits of the hash code.
+	 * 
+	 * @param hash The hash code
+	 * @return The spread hash
+	 */
+	private static int spread(int hash) {
+		hash ^= hash >>> 17;
+		hash *= 0xed5ad4bb;
+		hash ^= hash >>> 11;
+		return hash;
+	}
+	
+}
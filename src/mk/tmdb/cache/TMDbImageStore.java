@@ -0,0 +1,476 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import mk.tmdb.utils.Log;
+
+/**
+ * Local store of the image files, kept in a directory so that they survive a restart of the 
+ * application.
+ * <p>
+ * An image is addressed by its size and its path: it is stored in the file "size/name" of the 
+ * store directory, where the name is the image path (which is already unique on TMDb) or, if the 
+ * path contains unsafe characters, its SHA-1 digest. The files are written to a temporary file and 
+ * then moved in place atomically, so a crash never leaves a partial image. When the total size of 
+ * the files exceeds the limit, the least recently used ones are deleted; the order of use is kept 
+ * in the last modification time of the files, so it is restored when the store is opened again.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbImageStore {
+
+	/**
+	 * Default maximum total size of the files (512 MB).
+	 */
+	public static final long DEFAULT_MAX_BYTES = 512L * 1024 * 1024;
+	
+	/**
+	 * Name of the directory of the temporary files.
+	 */
+	private static final String TEMP_DIRECTORY = ".tmp";
+	
+	/**
+	 * Maximum number of bytes transferred by a single channel transfer.
+	 */
+	private static final long TRANSFER_SIZE = 1024 * 1024;
+	
+	/**
+	 * Pattern of the file names that can be used as they are.
+	 */
+	private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+	
+	/**
+	 * The store directory.
+	 */
+	private final File directory;
+	
+	/**
+	 * The directory of the temporary files.
+	 */
+	private final File tempDirectory;
+	
+	/**
+	 * The size of the stored files, by key and in access order (the eldest is the least recently used).
+	 */
+	private final LinkedHashMap<String, Long> index = new LinkedHashMap<String, Long>(256, 0.75f, true);
+	
+	/**
+	 * The maximum total size of the files.
+	 */
+	private long maxBytes;
+	
+	private long totalBytes = 0;
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+	
+	/**
+	 * Opens the image store in the given directory, with the default size limit.
+	 * 
+	 * @param directory The store directory (created if missing)
+	 * @throws IOException If the directory cannot be created
+	 */
+	public TMDbImageStore(File directory) throws IOException {
+		this(directory, DEFAULT_MAX_BYTES);
+	}
+	
+	/**
+	 * Opens the image store in the given directory.
+	 * 
+	 * @param directory The store directory (created if missing)
+	 * @param maxBytes The maximum total size of the files
+	 * @throws IOException If the directory cannot be created
+	 */
+	public TMDbImageStore(File directory, long maxBytes) throws IOException {
+		if (maxBytes <= 0) throw new IllegalArgumentException("The size limit must be positive");
+		
+		this.directory = directory;
+		this.tempDirectory = new File(directory, TEMP_DIRECTORY);
+		this.maxBytes = maxBytes;
+		
+		if (!tempDirectory.isDirectory() && !tempDirectory.mkdirs()) throw new IOException("Cannot create the store directory " + directory);
+		
+		load();
+	}
+	
+	//region Settings
+	
+	/**
+	 * Gets the store directory.
+	 * 
+	 * @return The store directory
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+	
+	/**
+	 * Gets the maximum total size of the files.
+	 * 
+	 * @return The size limit in bytes
+	 */
+	public synchronized long getMaxBytes() {
+		return maxBytes;
+	}
+	
+	/**
+	 * Sets the maximum total size of the files, deleting the least recently used ones if needed.
+	 * 
+	 * @param maxBytes The new size limit in bytes
+	 */
+	public synchronized void setMaxBytes(long maxBytes) {
+		if (maxBytes <= 0) throw new IllegalArgumentException("The size limit must be positive");
+		
+		this.maxBytes = maxBytes;
+		evict();
+	}
+	
+	//endregion
+	
+	//region Operations
+	
+	/**
+	 * Gets the file where the image of the given size and path is (or would be) stored.
+	 * 
+	 * @param size The image size (e.g. "w185")
+	 * @param path The image path
+	 * @return The image file
+	 */
+	public File getFile(String size, String path) {
+		return new File(new File(directory, size), nameOf(path));
+	}
+	
+	/**
+	 * Gets the stored image of the given size and path, and marks it as recently used.
+	 * 
+	 * @param size The image size (e.g. "w185")
+	 * @param path The image path
+	 * @return The image file, or null if the image is not stored
+	 */
+	public synchronized File get(String size, String path) {
+		String key = keyOf(size, path);
+		if (index.get(key) == null) {
+			misses++;
+			return null;
+		}
+		
+		File file = getFile(size, path);
+		if (!file.isFile()) {
+			// Deleted from outside the store.
+			totalBytes -= index.remove(key);
+			misses++;
+			return null;
+		}
+		
+		file.setLastModified(System.currentTimeMillis());
+		hits++;
+		return file;
+	}
+	
+	/**
+	 * Checks whether the image of the given size and path is stored, without marking it as used.
+	 * 
+	 * @param size The image size (e.g. "w185")
+	 * @param path The image path
+	 * @return Whether the image is stored
+	 */
+	public synchronized boolean contains(String size, String path) {
+		return index.containsKey(keyOf(size, path));
+	}
+	
+	/**
+	 * Stores the content of the given channel as the image of the given size and path, replacing 
+	 * the stored one if present. The content is transferred to the file by the file channel, 
+	 * without copying it through a user buffer, and the lock of the store is not held meanwhile.
+	 * 
+	 * @param size The image size (e.g. "w185")
+	 * @param path The image path
+	 * @param source The image content
+	 * @return The image file
+	 * @throws IOException If the content cannot be read or written
+	 */
+	public File put(String size, String path, ReadableByteChannel source) throws IOException {
+		
+		File temp = createTempFile();
+		try {
+			
+			long length = 0;
+			RandomAccessFile raf = new RandomAccessFile(temp, "rw");
+			try {
+				FileChannel out = raf.getChannel();
+				long count;
+				while ((count = out.transferFrom(source, length, TRANSFER_SIZE)) > 0) {
+					length += count;
+				}
+			} finally {
+				raf.close();
+			}
+			
+			return commit(size, path, temp, length);
+			
+		} finally {
+			if (temp.exists() && !temp.delete()) temp.deleteOnExit();
+		}
+	}
+	
+	/**
+	 * Stores the given file as the image of the given size and path, replacing the stored one if 
+	 * present. The file is moved into the store.
+	 * 
+	 * @param size The image size (e.g. "w185")
+	 * @param path The image path
+	 * @param file The image file
+	 * @return The stored image file
+	 * @throws IOException If the file cannot be moved
+	 */
+	public File put(String size, String path, File file) throws IOException {
+		return commit(size, path, file, file.length());
+	}
+	
+	/**
+	 * Creates an empty temporary file in the store directory, which can be filled and then 
+	 * stored by {@link #put(String, String, File)} without copying it.
+	 * 
+	 * @return The temporary file
+	 * @throws IOException If the file cannot be created
+	 */
+	public File createTempFile() throws IOException {
+		return File.createTempFile("image", ".part", tempDirectory);
+	}
+	
+	/**
+	 * Removes the image of the given size and path.
+	 * 
+	 * @param size The image size (e.g. "w185")
+	 * @param path The image path
+	 * @return Whether the image was stored
+	 */
+	public synchronized boolean remove(String size, String path) {
+		Long length = index.remove(keyOf(size, path));
+		if (length == null) return false;
+		
+		totalBytes -= length;
+		delete(getFile(size, path));
+		return true;
+	}
+	
+	/**
+	 * Removes all the stored images.
+	 */
+	public synchronized void clear() {
+		for (String key : index.keySet()) {
+			delete(new File(directory, key));
+		}
+		index.clear();
+		totalBytes = 0;
+	}
+	
+	//endregion
+	
+	//region Statistics
+	
+	/**
+	 * Gets the number of requests served by the store.
+	 * 
+	 * @return The number of hits
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+	
+	/**
+	 * Gets the number of requests not served by the store.
+	 * 
+	 * @return The number of misses
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+	
+	/**
+	 * Gets the number of images deleted to respect the size limit.
+	 * 
+	 * @return The number of evictions
+	 */
+	public synchronized long getEvictionCount() {
+		return evictions;
+	}
+	
+	/**
+	 * Gets the number of stored images.
+	 * 
+	 * @return The number of images
+	 */
+	public synchronized int size() {
+		return index.size();
+	}
+	
+	/**
+	 * Gets the total size of the stored images.
+	 * 
+	 * @return The total size in bytes
+	 */
+	public synchronized long getTotalBytes() {
+		return totalBytes;
+	}
+	
+	//endregion
+	
+	//region Storage
+	
+	/**
+	 * Rebuilds the index from the files in the store directory, from the least to the most 
+	 * recently used, and deletes the temporary files left by an interrupted download.
+	 */
+	private void load() {
+		
+		File[] leftovers = tempDirectory.listFiles();
+		if (leftovers != null) {
+			for (File file : leftovers) delete(file);
+		}
+		
+		List<File> files = new ArrayList<File>();
+		File[] sizes = directory.listFiles();
+		if (sizes != null) {
+			for (File size : sizes) {
+				if (!size.isDirectory() || size.equals(tempDirectory)) continue;
+				
+				File[] images = size.listFiles();
+				if (images == null) continue;
+				for (File image : images) {
+					if (image.isFile()) files.add(image);
+				}
+			}
+		}
+		
+		files.sort(Comparator.comparingLong(File::lastModified));
+		for (File file : files) {
+			long length = file.length();
+			index.put(file.getParentFile().getName() + "/" + file.getName(), length);
+			totalBytes += length;
+		}
+		
+		evict();
+	}
+	
+	/**
+	 * Moves a complete file in place and adds it to the index.
+	 */
+	private File commit(String size, String path, File temp, long length) throws IOException {
+		
+		File file = getFile(size, path);
+		File parent = file.getParentFile();
+		if (!parent.isDirectory() && !parent.mkdirs()) throw new IOException("Cannot create the directory " + parent);
+		
+		synchronized (this) {
+			try {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				// The file comes from another file system.
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			
+			Long previous = index.put(keyOf(size, path), length);
+			if (previous != null) totalBytes -= previous;
+			totalBytes += length;
+			
+			evict();
+		}
+		
+		return file;
+	}
+	
+	/**
+	 * Deletes the least recently used images until the total size respects the limit. The most 
+	 * recently used image is always kept.
+	 */
+	private void evict() {
+		Iterator<Map.Entry<String, Long>> entries = index.entrySet().iterator();
+		while (totalBytes > maxBytes && index.size() > 1 && entries.hasNext()) {
+			Map.Entry<String, Long> eldest = entries.next();
+			
+			delete(new File(directory, eldest.getKey()));
+			totalBytes -= eldest.getValue();
+			evictions++;
+			entries.remove();
+		}
+	}
+	
+	/**
+	 * Deletes a file, or schedules its deletion if it cannot be deleted now.
+	 */
+	private static void delete(File file) {
+		if (file.exists() && !file.delete()) file.deleteOnExit();
+	}
+	
+	/**
+	 * Gets the index key of an image.
+	 */
+	private static String keyOf(String size, String path) {
+		return size + "/" + nameOf(path);
+	}
+	
+	/**
+	 * Gets the file name of an image path: the path itself without the leading slash, or its 
+	 * SHA-1 digest if it contains unsafe characters.
+	 */
+	private static String nameOf(String path) {
+		String name = path.startsWith("/") ? path.substring(1) : path;
+		if (SAFE_NAME.matcher(name).matches()) return name;
+		
+		try {
+			
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(path.getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder(digest.length * 2);
+			for (byte b : digest) {
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return hex.toString();
+			
+		} catch (NoSuchAlgorithmException e) {
+			Log.print(e);
+			return Integer.toHexString(path.hashCode());
+		}
+	}
+	
+	//endregion
+	
+}
@@ -0,0 +1,383 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory cache of the TMDb API responses, keyed by the normalized request URL 
+ * (see {@link mk.tmdb.core.TMDbURLCreator#getRequestKey(java.net.URL) TMDbURLCreator.getRequestKey}).
+ * <p>
+ * Each entry expires after the time to live of its endpoint (see {@link TMDbCacheTtl}). The cache is 
+ * bounded either by the estimated size of the responses in bytes or by the number of entries, and 
+ * evicts following the W-TinyLFU scheme: new entries enter a small LRU window, and when the window 
+ * overflows its victim is admitted into the main LRU area only if it has been requested more often 
+ * than the main area victim. The frequencies are estimated by a count-min sketch that is periodically 
+ * halved, so one-off requests (e.g. a crawl) cannot flush the popular entries.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbResponseCache {
+
+	/**
+	 * Default maximum size in bytes (32 MB).
+	 */
+	public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+	
+	/**
+	 * Estimated overhead in bytes of an entry.
+	 */
+	private static final int ENTRY_OVERHEAD = 96;
+	
+	/**
+	 * Percentage of the maximum weight reserved to the window area.
+	 */
+	private static final int WINDOW_PERCENT = 1;
+	
+	/**
+	 * A cached response.
+	 */
+	private static final class Entry {
+		
+		final String value;
+		final long weight;
+		final long expiresAt;
+		
+		Entry(String value, long weight, long expiresAt) {
+			this.value = value;
+			this.weight = weight;
+			this.expiresAt = expiresAt;
+		}
+	}
+	
+	/**
+	 * The maximum weight (bytes or entries).
+	 */
+	private final long maxWeight;
+	
+	/**
+	 * Whether the weight is the number of entries instead of the size in bytes.
+	 */
+	private final boolean weighEntries;
+	
+	/**
+	 * The window area (access ordered).
+	 */
+	private final LinkedHashMap<String, Entry> window = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+	
+	/**
+	 * The main area (access ordered).
+	 */
+	private final LinkedHashMap<String, Entry> main = new LinkedHashMap<String, Entry>(256, 0.75f, true);
+	
+	/**
+	 * The frequency sketch.
+	 */
+	private final TMDbFrequencySketch sketch;
+	
+	/**
+	 * The time to live of the endpoints.
+	 */
+	private final TMDbCacheTtl ttl = new TMDbCacheTtl();
+	
+	private long windowWeight = 0;
+	private long mainWeight = 0;
+	
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+	
+	/**
+	 * Creates a new cache bounded by the estimated size of the responses.
+	 * 
+	 * @param maxBytes The maximum size in bytes
+	 */
+	public TMDbResponseCache(long maxBytes) {
+		this(maxBytes, false);
+	}
+	
+	/**
+	 * Creates a new cache.
+	 * 
+	 * @param maxWeight The maximum weight
+	 * @param weighEntries Whether the maximum weight is a number of entries instead of a size in bytes
+	 */
+	private TMDbResponseCache(long maxWeight, boolean weighEntries) {
+		if (maxWeight <= 0) throw new IllegalArgumentException("The maximum size must be positive");
+		
+		this.maxWeight = maxWeight;
+		this.weighEntries = weighEntries;
+		this.sketch = new TMDbFrequencySketch(weighEntries ? maxWeight : maxWeight / 4096);
+	}
+	
+	/**
+	 * Creates a new cache bounded by the number of entries.
+	 * 
+	 * @param maxEntries The maximum number of entries
+	 * @return The new cache
+	 */
+	public static TMDbResponseCache withMaxEntries(int maxEntries) {
+		return new TMDbResponseCache(maxEntries, true);
+	}
+	
+	//region Settings
+	
+	/**
+	 * Gets the time to live of the cached endpoints, which can be changed.
+	 * 
+	 * @return The time to live table
+	 */
+	public TMDbCacheTtl getTtl() {
+		return ttl;
+	}
+	
+	//endregion
+	
+	//region Operations
+	
+	/**
+	 * Gets the cached response of the given key.
+	 * 
+	 * @param key The request key
+	 * @return The cached response or null if it is missing or expired
+	 */
+	public synchronized String get(String key) {
+		sketch.increment(key);
+		
+		Entry entry = window.get(key);
+		if (entry == null) entry = main.get(key);
+		
+		if (entry != null && entry.expiresAt - System.currentTimeMillis() <= 0) {
+			remove(key);
+			entry = null;
+		}
+		
+		if (entry == null) {
+			misses++;
+			return null;
+		}
+		
+		hits++;
+		return entry.value;
+	}
+	
+	/**
+	 * Caches the response of the given key, if its endpoint has a positive time to live.
+	 * 
+	 * @param key The request key
+	 * @param endpoint The endpoint template
+	 * @param value The response
+	 */
+	public synchronized void put(String key, String endpoint, String value) {
+		long ttlMillis = ttl.getTtl(endpoint);
+		if (ttlMillis <= 0) return;
+		
+		long weight = weighEntries ? 1 : ENTRY_OVERHEAD + 2L * (key.length() + value.length());
+		if (weight > maxWeight) return;
+		
+		remove(key);
+		window.put(key, new Entry(value, weight, System.currentTimeMillis() + ttlMillis));
+		windowWeight += weight;
+		
+		long windowMax = Math.max(1, maxWeight * WINDOW_PERCENT / 100);
+		while (windowWeight > windowMax && !window.isEmpty()) {
+			Map.Entry<String, Entry> candidate = window.entrySet().iterator().next();
+			window.remove(candidate.getKey());
+			windowWeight -= candidate.getValue().weight;
+			admit(candidate.getKey(), candidate.getValue());
+		}
+	}
+	
+	/**
+	 * Moves an entry evicted from the window into the main area if its frequency is higher 
+	 * than the one of the main area victims.
+	 * 
+	 * @param key The entry key
+	 * @param entry The entry
+	 */
+	private void admit(String key, Entry entry) {
+		long mainMax = maxWeight - Math.max(1, maxWeight * WINDOW_PERCENT / 100);
+		int frequency = sketch.frequency(key);
+		
+		Iterator<Map.Entry<String, Entry>> victims = main.entrySet().iterator();
+		long freed = 0;
+		while (mainWeight - freed + entry.weight > mainMax) {
+			if (!victims.hasNext()) break;
+			
+			Map.Entry<String, Entry> victim = victims.next();
+			if (sketch.frequency(victim.getKey()) >= frequency) {
+				evictions++;
+				return;
+			}
+			freed += victim.getValue().weight;
+		}
+		
+		victims = main.entrySet().iterator();
+		while (mainWeight + entry.weight > mainMax && victims.hasNext()) {
+			mainWeight -= victims.next().getValue().weight;
+			victims.remove();
+			evictions++;
+		}
+		
+		main.put(key, entry);
+		mainWeight += entry.weight;
+	}
+	
+	/**
+	 * Removes the response of the given key.
+	 * 
+	 * @param key The request key
+	 */
+	public synchronized void invalidate(String key) {
+		remove(key);
+	}
+	
+	/**
+	 * Removes all the cached responses of the given resource and of its sub-resources 
+	 * (e.g. the movie information, casts, images... of a movie).
+	 * 
+	 * @param resourceKey The resource key (see {@link mk.tmdb.core.TMDbURLCreator#getResourceKey(String, int) TMDbURLCreator.getResourceKey})
+	 */
+	public synchronized void invalidateResource(String resourceKey) {
+		removeResource(window, resourceKey);
+		removeResource(main, resourceKey);
+	}
+	
+	/**
+	 * Removes the entries of the given resource from an area.
+	 * 
+	 * @param area The area
+	 * @param resourceKey The resource key
+	 */
+	private void removeResource(LinkedHashMap<String, Entry> area, String resourceKey) {
+		Iterator<Map.Entry<String, Entry>> entries = area.entrySet().iterator();
+		while (entries.hasNext()) {
+			Map.Entry<String, Entry> entry = entries.next();
+			if (isResourceKey(entry.getKey(), resourceKey)) {
+				if (area == window) windowWeight -= entry.getValue().weight;
+				else mainWeight -= entry.getValue().weight;
+				entries.remove();
+			}
+		}
+	}
+	
+	/**
+	 * Checks whether a request key belongs to the given resource.
+	 * 
+	 * @param key The request key
+	 * @param resourceKey The resource key
+	 * @return Whether the request is about the resource or one of its sub-resources
+	 */
+	static boolean isResourceKey(String key, String resourceKey) {
+		if (!key.startsWith(resourceKey)) return false;
+		if (key.length() == resourceKey.length()) return true;
+		
+		char next = key.charAt(resourceKey.length());
+		return next == '?' || next == '/';
+	}
+	
+	/**
+	 * Removes all the cached responses.
+	 */
+	public synchronized void invalidateAll() {
+		window.clear();
+		main.clear();
+		windowWeight = 0;
+		mainWeight = 0;
+	}
+	
+	/**
+	 * Removes an entry from both the areas.
+	 * 
+	 * @param key The entry key
+	 */
+	private void remove(String key) {
+		Entry entry = window.remove(key);
+		if (entry != null) windowWeight -= entry.weight;
+		
+		entry = main.remove(key);
+		if (entry != null) mainWeight -= entry.weight;
+	}
+	
+	//endregion
+	
+	//region Statistics
+	
+	/**
+	 * Gets the number of requests served by the cache.
+	 * 
+	 * @return The number of hits
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+	
+	/**
+	 * Gets the number of requests not served by the cache.
+	 * 
+	 * @return The number of misses
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+	
+	/**
+	 * Gets the number of entries evicted (or not admitted) because of the size bound.
+	 * 
+	 * @return The number of evictions
+	 */
+	public synchronized long getEvictionCount() {
+		return evictions;
+	}
+	
+	/**
+	 * Gets the number of cached responses.
+	 * 
+	 * @return The number of entries
+	 */
+	public synchronized int size() {
+		return window.size() + main.size();
+	}
+	
+	/**
+	 * Gets the current weight of the cache (bytes or entries).
+	 * 
+	 * @return The current weight
+	 */
+	public synchronized long getWeight() {
+		return windowWeight + mainWeight;
+	}
+	
+	/**
+	 * Gets the maximum weight of the cache (bytes or entries).
+	 * 
+	 * @return The maximum weight
+	 */
+	public long getMaxWeight() {
+		return maxWeight;
+	}
+	
+	//endregion
+	
+}
@@ -0,0 +1,1625 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.core;
+
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import mk.tmdb.entity.TMDbAccount;
+import mk.tmdb.entity.TMDbToken;
+import mk.tmdb.net.TMDbRetryPolicy;
+import mk.tmdb.response.TMDbResponseArray;
+import mk.tmdb.response.TMDbResponseObject;
+import mk.tmdb.utils.TMDbExecutors;
+
+/**
+ * Static class that offers the asynchronous version of every {@link TMDbAPI} method.
+ * Each method returns immediately a {@link CompletableFuture} completed with the same response 
+ * the blocking method would return, so several requests can be in flight at the same time.
+ * <p>
+ * By default the requests run on virtual threads (one per request) when the JVM supports them, 
+ * otherwise on a cached pool of daemon threads. A different executor can be set by calling 
+ * {@link #setExecutor(Executor) setExecutor}. The requests are performed with the retry policy of the 
+ * calling thread, so they honor an enclosing {@link TMDbAPI#withRetryPolicy(TMDbRetryPolicy, Supplier)}.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public final class AsyncTMDbAPI {
+
+	private AsyncTMDbAPI() {}
+	
+	//region Executor
+	
+	/**
+	 * The executor that runs the requests.
+	 */
+	private static volatile Executor executor = TMDbExecutors.newBlockingExecutor("tmdb-async");
+	
+	/**
+	 * Gets the executor that runs the requests.
+	 * 
+	 * @return The executor
+	 */
+	public static Executor getExecutor() {
+		return executor;
+	}
+	
+	/**
+	 * Sets the executor that runs the requests.
+	 * 
+	 * @param newExecutor The new executor
+	 */
+	public static void setExecutor(Executor newExecutor) {
+		if (newExecutor == null) throw new IllegalArgumentException("The executor cannot be null");
+		executor = newExecutor;
+	}
+	
+	/**
+	 * Runs the given blocking call on the executor, with the retry policy of the calling thread.
+	 * 
+	 * @param call The blocking call
+	 * @return The future result of the call
+	 */
+	private static <T> CompletableFuture<T> submit(Supplier<T> call) {
+		final TMDbRetryPolicy policy = TMDbAPI.getRetryPolicy();
+		return CompletableFuture.supplyAsync(() -> TMDbAPI.withRetryPolicy(policy, call), executor);
+	}
+	
+	/**
+	 * Performs asynchronously the given calls with the given retry policy instead of the global one.
+	 * 
+	 * @param policy The retry policy
+	 * @param call The blocking calls to perform, e.g. <code>() -> TMDbAPI.getMovieInformation(id)</code>
+	 * @return The future result of the calls
+	 */
+	public static <T> CompletableFuture<T> withRetryPolicy(TMDbRetryPolicy policy, Supplier<T> call) {
+		return submit(() -> TMDbAPI.withRetryPolicy(policy, call));
+	}
+	
+	//endregion
+	
+	//region Configuration
+	
+	/**
+	 * Gets the system wide configuration information. Some elements of the API require some knowledge 
+	 * of this configuration data. This method currently holds the data relevant to building 
+	 * image URLs as well as the change key map. To build an image URL, you will need 3 pieces of data. 
+	 * The base_url, size and file_path. Simply combine them all and you will have a fully qualified URL.
+	 *  
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getConfiguration() {
+		return submit(() -> TMDbAPI.getConfiguration());
+	}
+	
+	//endregion
+	
+	//region Authentication
+	
+	/**
+	 * This method is used to generate a valid request token for user based authentication. 
+	 * A request token is required in order to request a session id. 
+	 * You can generate any number of request tokens but they will expire after 60 minutes. 
+	 * As soon as a valid session id has been created the token will be destroyed.
+	 * 
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getAuthenticationToken() {
+		return submit(() -> TMDbAPI.getAuthenticationToken());
+	}
+	
+	/**
+	 * This method is used to generate a session id for user based authentication. 
+	 * A session id is required in order to use any of the write methods.
+	 * 
+	 * @param token The authentication token
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getAuthenticationSession(TMDbToken token) {
+		return submit(() -> TMDbAPI.getAuthenticationSession(token));
+	}
+	
+	/**
+	 * This method is used to generate a guest session id. A guest session can be used to rate movies without 
+	 * having a registered TMDb user account. You should only generate a single guest session per user 
+	 * (or device) as you will be able to attach the ratings to a TMDb user account in the future. 
+	 * There is also IP limits in place so you should always make sure it's the end user doing the 
+	 * guest session actions. If a guest session is not used for the first time within 24 hours, 
+	 * it will be automatically discarded.
+	 *  
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getAuthenticationGuestSession() {
+		return submit(() -> TMDbAPI.getAuthenticationGuestSession());
+	}
+	
+	//endregion
+	
+	//region Account
+	
+	/**
+	 * Gets the basic information for an account. 
+	 * 
+	 * @param sessionID The session ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getAccountInformation(String sessionID) {
+		return submit(() -> TMDbAPI.getAccountInformation(sessionID));
+	}
+	
+	/**
+	 * Gets the lists that you have created and marked as a favorite.
+	 * Returns the results of the first page.
+	 * 
+	 * @param account The account information
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getFavoriteLists(TMDbAccount account) {
+		return submit(() -> TMDbAPI.getFavoriteLists(account));
+	}
+	
+	/**
+	 * Gets the lists that you have created and marked as a favorite.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param account The account information
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getFavoriteLists(TMDbAccount account, int page) {
+		return submit(() -> TMDbAPI.getFavoriteLists(account, page));
+	}
+	
+	/**
+	 * Gets all the lists that you have created and marked as a favorite.
+	 * 
+	 * @param account The account information
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllFavoriteLists(TMDbAccount account) {
+		return submit(() -> TMDbAPI.getAllFavoriteLists(account));
+	}
+	
+	/**
+	 * Gets the list of favorite movies for an account.
+	 * Returns the results of the first page.
+	 * 
+	 * @param account The account information
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getFavoriteMovies(TMDbAccount account) {
+		return submit(() -> TMDbAPI.getFavoriteMovies(account));
+	}
+	
+	/**
+	 * Gets the list of favorite movies for an account.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param account The account information
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getFavoriteMovies(TMDbAccount account, int page) {
+		return submit(() -> TMDbAPI.getFavoriteMovies(account, page));
+	}
+	
+	/**
+	 * Gets all the list of all favorite movies for an account.
+	 * 
+	 * @param account The account information
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllFavoriteMovies(TMDbAccount account) {
+		return submit(() -> TMDbAPI.getAllFavoriteMovies(account));
+	}
+	
+	/**
+	 * Adds a movie to an accounts favorite list.
+	 * 
+	 * @param account The account information
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> addMovieToFavorites(TMDbAccount account, int movieID) {
+		return submit(() -> TMDbAPI.addMovieToFavorites(account, movieID));
+	}
+	
+	/**
+	 * Removes a movie to an accounts favorite list.
+	 * 
+	 * @param account The account information
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> removeMovieFromFavorites(TMDbAccount account, int movieID) {
+		return submit(() -> TMDbAPI.removeMovieFromFavorites(account, movieID));
+	}
+	
+	/**
+	 * Gets the list of rated movies for an account.
+	 * Returns the results of the first page.
+	 * 
+	 * @param account The account information
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getRatedMovies(TMDbAccount account) {
+		return submit(() -> TMDbAPI.getRatedMovies(account));
+	}
+	
+	/**
+	 * Gets the list of rated movies for an account.
+	 * 
+	 * @param account The account information
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllRatedMovies(TMDbAccount account) {
+		return submit(() -> TMDbAPI.getAllRatedMovies(account));
+	}
+	
+	/**
+	 * Gets the list of all rated movies for an account.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param account The account information
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getRatedMovies(TMDbAccount account, int page) {
+		return submit(() -> TMDbAPI.getRatedMovies(account, page));
+	}
+	
+	/**
+	 * Gets the list of movies on an accounts watch list.
+	 * Returns the results of the first page.
+	 * 
+	 * @param account The account information
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getMovieWatchList(TMDbAccount account) {
+		return submit(() -> TMDbAPI.getMovieWatchList(account));
+	}
+	
+	/**
+	 * Gets the list of movies on an accounts watch list.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param account The account information
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getMovieWatchList(TMDbAccount account, int page) {
+		return submit(() -> TMDbAPI.getMovieWatchList(account, page));
+	}
+	
+	/**
+	 * Gets the list of all movies on an accounts watch list.
+	 * 
+	 * @param account The account information
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllMovieWatchList(TMDbAccount account) {
+		return submit(() -> TMDbAPI.getAllMovieWatchList(account));
+	}
+	
+	/**
+	 * Adds a movie to an accounts watch list.
+	 * 
+	 * @param account The account information
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> addMovieToWatchlist(TMDbAccount account, int movieID) {
+		return submit(() -> TMDbAPI.addMovieToWatchlist(account, movieID));
+	}
+	
+	/**
+	 * Removes a movie to an accounts watch list.
+	 * 
+	 * @param account The account information
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> removeMovieFromWatchlist(TMDbAccount account, int movieID) {
+		return submit(() -> TMDbAPI.removeMovieFromWatchlist(account, movieID));
+	}
+	
+	//endregion
+	
+	//region Movie
+	
+	/**
+	 * Gets the basic movie information for a specific movie id.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getMovieInformation(int movieID) {
+		return submit(() -> TMDbAPI.getMovieInformation(movieID));
+	}
+	
+	/**
+	 * Gets the basic movie information for a specific movie id together with the responses of the 
+	 * given sub-requests (append_to_response), in a single call.
+	 * 
+	 * @param movieID The movie ID
+	 * @param append The sub-requests to append
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getMovieInformation(int movieID, String... append) {
+		return submit(() -> TMDbAPI.getMovieInformation(movieID, append));
+	}
+	
+	/**
+	 * Gets the alternative titles for a specific movie id.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getAlternativeMovieTitles(int movieID) {
+		return submit(() -> TMDbAPI.getAlternativeMovieTitles(movieID));
+	}
+	
+	/**
+	 * Gets the cast information for a specific movie id.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getCastInformation(int movieID) {
+		return submit(() -> TMDbAPI.getCastInformation(movieID));
+	}
+	
+	/**
+	 * Gets the images (posters and backdrops) for a specific movie id.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getMovieImages(int movieID) {
+		return submit(() -> TMDbAPI.getMovieImages(movieID));
+	}
+	
+	/**
+	 * Gets the plot keywords for a specific movie id.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getMovieKeywords(int movieID) {
+		return submit(() -> TMDbAPI.getMovieKeywords(movieID));
+	}
+	
+	/**
+	 * Gets the release date by country for a specific movie id.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getMovieReleases(int movieID) {
+		return submit(() -> TMDbAPI.getMovieReleases(movieID));
+	}
+	
+	/**
+	 * Gets the trailers for a specific movie id.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getMovieTrailers(int movieID) {
+		return submit(() -> TMDbAPI.getMovieTrailers(movieID));
+	}
+	
+	/**
+	 * Gets the translations for a specific movie id.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getMovieTranslations(int movieID) {
+		return submit(() -> TMDbAPI.getMovieTranslations(movieID));
+	}
+	
+	/**
+	 * Gets the similar movies for a specific movie id.
+	 * Returns the results of the first page.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getSimilarMovies(int movieID) {
+		return submit(() -> TMDbAPI.getSimilarMovies(movieID));
+	}
+	
+	/**
+	 * Gets the similar movies for a specific movie id.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param movieID The movie ID
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getSimilarMovies(int movieID, int page) {
+		return submit(() -> TMDbAPI.getSimilarMovies(movieID, page));
+	}
+	
+	/**
+	 * Gets all the similar movies for a specific movie id.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllSimilarMovies(int movieID) {
+		return submit(() -> TMDbAPI.getAllSimilarMovies(movieID));
+	}
+	
+	/**
+	 * Get the changes for a specific movie id. Changes are grouped by key, 
+	 * and ordered by date in descending order. By default, only the last 24 hours of changes are returned. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * The language is present on fields that are translatable.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getMovieChanges(int movieID) {
+		return submit(() -> TMDbAPI.getMovieChanges(movieID));
+	}
+	
+	/**
+	 * Get the changes for a specific movie id. Changes are grouped by key, 
+	 * and ordered by date in descending order. By default, only the last 24 hours of changes are returned. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * The language is present on fields that are translatable.
+	 * 
+	 * @param movieID The movie ID
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends 
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getMovieChanges(int movieID, Date start, Date end) {
+		return submit(() -> TMDbAPI.getMovieChanges(movieID, start, end));
+	}
+	
+	/**
+	 * Get the changes for a specific movie id. Changes are grouped by key, 
+	 * and ordered by date in descending order. By default, only the last 24 hours of changes are returned. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * The language is present on fields that are translatable.
+	 * 
+	 * @param movieID The movie ID
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends 
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getMovieChanges(int movieID, String start, String end) {
+		return submit(() -> TMDbAPI.getMovieChanges(movieID, start, end));
+	}
+	
+	/**
+	 * Gets the lists that the movie belongs to.
+	 * Returns the results of the first page.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getListsBelongsToMovie(int movieID) {
+		return submit(() -> TMDbAPI.getListsBelongsToMovie(movieID));
+	}
+	
+	/**
+	 * Gets the lists that the movie belongs to.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param movieID The movie ID
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getListsBelongsToMovie(int movieID, int page) {
+		return submit(() -> TMDbAPI.getListsBelongsToMovie(movieID, page));
+	}
+	
+	/**
+	 * Gets all the lists that the movie belongs to.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllListsBelongsToMovie(int movieID) {
+		return submit(() -> TMDbAPI.getAllListsBelongsToMovie(movieID));
+	}
+	
+	/**
+	 * Gets the latest movie id.
+	 * 
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getLatestMovie() {
+		return submit(() -> TMDbAPI.getLatestMovie());
+	}
+	
+	/**
+	 * Gets the list of upcoming movies. This list refreshes every day. 
+	 * The maximum number of items this list will include is 100.
+	 * Returns the results of the first page.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getUpcomingMovies() {
+		return submit(() -> TMDbAPI.getUpcomingMovies());
+	}
+	
+	/**
+	 * Gets the list of upcoming movies. This list refreshes every day. 
+	 * The maximum number of items this list will include is 100.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getUpcomingMovies(int page) {
+		return submit(() -> TMDbAPI.getUpcomingMovies(page));
+	}
+	
+	/**
+	 * Gets the entire list of upcoming movies. This list refreshes every day. 
+	 * The maximum number of items this list will include is 100.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllUpcomingMovies() {
+		return submit(() -> TMDbAPI.getAllUpcomingMovies());
+	}
+	
+	/**
+	 * Gets the list of movies playing in theatres. This list refreshes every day. 
+	 * The maximum number of items this list will include is 100.
+	 * Returns the results of the first page.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getInTheatresMovies() {
+		return submit(() -> TMDbAPI.getInTheatresMovies());
+	}
+	
+	/**
+	 * Gets the list of movies playing in theatres. This list refreshes every day. 
+	 * The maximum number of items this list will include is 100.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getInTheatresMovies(int page) {
+		return submit(() -> TMDbAPI.getInTheatresMovies(page));
+	}
+	
+	/**
+	 * Gets the entire list of movies playing in theatres. This list refreshes every day. 
+	 * The maximum number of items this list will include is 100.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllInTheatresMovies() {
+		return submit(() -> TMDbAPI.getAllInTheatresMovies());
+	}
+	
+	/**
+	 * Gets the list of popular movies on The Movie Database. This list refreshes every day.
+	 * Returns the results of the first page.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getPopularMovies() {
+		return submit(() -> TMDbAPI.getPopularMovies());
+	}
+	
+	/**
+	 * Gets the list of popular movies on The Movie Database. This list refreshes every day.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getPopularMovies(int page) {
+		return submit(() -> TMDbAPI.getPopularMovies(page));
+	}
+	
+	/**
+	 * Gets the entire list of popular movies on The Movie Database. This list refreshes every day.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllPopularMovies() {
+		return submit(() -> TMDbAPI.getAllPopularMovies());
+	}
+	
+	/**
+	 * Gets the list of top rated movies. 
+	 * By default, this list will only include movies that have 10 or more votes. This list refreshes every day.
+	 * Returns the results of the first page.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getTopRatedMovies() {
+		return submit(() -> TMDbAPI.getTopRatedMovies());
+	}
+	
+	/**
+	 * Gets the list of top rated movies. 
+	 * By default, this list will only include movies that have 10 or more votes. This list refreshes every day.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getTopRatedMovies(int page) {
+		return submit(() -> TMDbAPI.getTopRatedMovies(page));
+	}
+	
+	/**
+	 * Gets the list of all top rated movies. 
+	 * By default, this list will only include movies that have 10 or more votes. This list refreshes every day.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllTopRatedMovies() {
+		return submit(() -> TMDbAPI.getAllTopRatedMovies());
+	}
+	
+	/**
+	 * This method lets users rate a movie.
+	 * 
+	 * @param sessionID The session ID
+	 * @param guest Whether the session is a guest session
+	 * @param movieID The movie ID
+	 * @param rating The rating of the movie
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> setMovieRate(String sessionID, boolean guest, int movieID, float rating) {
+		return submit(() -> TMDbAPI.setMovieRate(sessionID, guest, movieID, rating));
+	}
+	
+	//endregion
+	
+	//region People
+	
+	/**
+	 * Gets the general person information for a specific id.
+	 * 
+	 * @param personID The person ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getPersonInformation(int personID) {
+		return submit(() -> TMDbAPI.getPersonInformation(personID));
+	}
+	
+	/**
+	 * Gets the credits for a specific person id.
+	 * 
+	 * @param personID The person ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getPersonCredits(int personID) {
+		return submit(() -> TMDbAPI.getPersonCredits(personID));
+	}
+	
+	/**
+	 * Gets the images for a specific person id.
+	 * 
+	 * @param personID The person ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getPersonImages(int personID) {
+		return submit(() -> TMDbAPI.getPersonImages(personID));
+	}
+	
+	/**
+	 * Gets the changes for a specific person id. 
+	 * Changes are grouped by key, and ordered by date in descending order. 
+	 * By default, only the last 24 hours of changes are returned. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * The language is present on fields that are translatable.
+	 * 
+	 * @param personID The person ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getPersonChanges(int personID) {
+		return submit(() -> TMDbAPI.getPersonChanges(personID));
+	}
+	
+	/**
+	 * Gets the changes for a specific person id. 
+	 * Changes are grouped by key, and ordered by date in descending order. 
+	 * By default, only the last 24 hours of changes are returned. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * The language is present on fields that are translatable.
+	 * 
+	 * @param personID The person ID
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends 
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getPersonChanges(int personID, Date start, Date end) {
+		return submit(() -> TMDbAPI.getPersonChanges(personID, start, end));
+	}
+	
+	/**
+	 * Gets the changes for a specific person id. 
+	 * Changes are grouped by key, and ordered by date in descending order. 
+	 * By default, only the last 24 hours of changes are returned. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * The language is present on fields that are translatable.
+	 * 
+	 * @param personID The person ID
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends 
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getPersonChanges(int personID, String start, String end) {
+		return submit(() -> TMDbAPI.getPersonChanges(personID, start, end));
+	}
+	
+	/**
+	 * Gets the latest person id.
+	 * 
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getLatestPerson() {
+		return submit(() -> TMDbAPI.getLatestPerson());
+	}
+	
+	//endregion
+	
+	//region Collections
+	
+	/**
+	 * Gets the basic collection information for a specific collection id. 
+	 * You can get the ID needed for this method by making a /movie/{id} request 
+	 * and paying attention to the belongs_to_collection hash. Movie parts are not sorted in any particular order. 
+	 * If you would like to sort them yourself you can use the provided release_date.
+	 * 
+	 * @param collectionID The collection ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getCollectionInformation(int collectionID) {
+		return submit(() -> TMDbAPI.getCollectionInformation(collectionID));
+	}
+	
+	/**
+	 * Gets all of the images for a particular collection by collection id.
+	 * 
+	 * @param collectionID The collection ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getCollectionImages(int collectionID) {
+		return submit(() -> TMDbAPI.getCollectionImages(collectionID));
+	}
+	
+	//endregion
+	
+	//region Lists
+	
+	/**
+	 * Gets a list by id.
+	 * 
+	 * @param listID The list ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getList(String listID) {
+		return submit(() -> TMDbAPI.getList(listID));
+	}
+	
+	//endregion
+	
+	//region Company
+	
+	/**
+	 * This method is used to retrieve all of the basic information about a company.
+	 * 
+	 * @param companyID The company ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getCompanyInformation(int companyID) {
+		return submit(() -> TMDbAPI.getCompanyInformation(companyID));
+	}
+	
+	/**
+	 * Gets the list of movies associated with a particular company.
+	 * Returns the results of the first page.
+	 * 
+	 * @param companyID The company ID
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getMoviesByCompany(int companyID) {
+		return submit(() -> TMDbAPI.getMoviesByCompany(companyID));
+	}
+	
+	/**
+	 * Gets the list of movies associated with a particular company.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param companyID The company ID
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getMoviesByCompany(int companyID, int page) {
+		return submit(() -> TMDbAPI.getMoviesByCompany(companyID, page));
+	}
+	
+	/**
+	 * Gets the list of all movies associated with a particular company.
+	 * 
+	 * @param companyID The company ID
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllMoviesByCompany(int companyID) {
+		return submit(() -> TMDbAPI.getAllMoviesByCompany(companyID));
+	}
+	
+	//endregion
+	
+	//region Genre
+	
+	/**
+	 * Get the list of genres.
+	 * 
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getGenresList() {
+		return submit(() -> TMDbAPI.getGenresList());
+	}
+	
+	/**
+	 * Gets the list of movies for a particular genre by id. 
+	 * By default, only movies with 10 or more votes are included.
+	 * Returns the results of the first page.
+	 * 
+	 * @param genreID The genre ID
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getMoviesByGenre(int genreID) {
+		return submit(() -> TMDbAPI.getMoviesByGenre(genreID));
+	}
+	
+	/**
+	 * Gets the list of movies for a particular genre by id. 
+	 * By default, only movies with 10 or more votes are included.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param genreID The genre ID
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getMoviesByGenre(int genreID, int page) {
+		return submit(() -> TMDbAPI.getMoviesByGenre(genreID, page));
+	}
+	
+	/**
+	 * Gets the list of all movies for a particular genre by id. 
+	 * By default, only movies with 10 or more votes are included.
+	 * 
+	 * @param genreID The genre ID
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllMoviesByGenre(int genreID) {
+		return submit(() -> TMDbAPI.getAllMoviesByGenre(genreID));
+	}
+	
+	//endregion
+	
+	//region Keyword
+	
+	/**
+	 * Gets the keyword information.
+	 * 
+	 * @param keywordID The keyword ID
+	 * @return The future TMDb API response object
+	 */
+	public static CompletableFuture<TMDbResponseObject> getKeywordInformation(int keywordID) {
+		return submit(() -> TMDbAPI.getKeywordInformation(keywordID));
+	}
+	
+	/**
+	 * Gets the list of movies that has the specified keyword.
+	 * Returns the results of the first page.
+	 * 
+	 * @param keywordID The keyword ID
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getMoviesByKeyword(int keywordID) {
+		return submit(() -> TMDbAPI.getMoviesByKeyword(keywordID));
+	}
+	
+	/**
+	 * Gets the list of movies that has the specified keyword.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param keywordID The keyword ID
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getMoviesByKeyword(int keywordID, int page) {
+		return submit(() -> TMDbAPI.getMoviesByKeyword(keywordID, page));
+	}
+	
+	/**
+	 * Gets the entire list of movies that has the specified keyword.
+	 * 
+	 * @param keywordID The keyword ID
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllMoviesByKeyword(int keywordID) {
+		return submit(() -> TMDbAPI.getAllMoviesByKeyword(keywordID));
+	}
+	
+	//endregion
+	
+	//region Search
+	
+	/**
+	 * Searches for movies by title.
+	 * Returns the results of the first page.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchMovieByTitle(String movieTitle) {
+		return submit(() -> TMDbAPI.searchMovieByTitle(movieTitle));
+	}
+	
+	/**
+	 * Searches for movies by title.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchMovieByTitle(String movieTitle, int page) {
+		return submit(() -> TMDbAPI.searchMovieByTitle(movieTitle, page));
+	}
+	
+	/**
+	 * Searches for movies by title. Gets all the results.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> fullSearchMovieByTitle(String movieTitle) {
+		return submit(() -> TMDbAPI.fullSearchMovieByTitle(movieTitle));
+	}
+	
+	/**
+	 * Searches for movies by title and year.
+	 * Returns the results of the first page.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @param year The year of the movie
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchMovieByTitleAndYear(String movieTitle, int year) {
+		return submit(() -> TMDbAPI.searchMovieByTitleAndYear(movieTitle, year));
+	}
+	
+	/**
+	 * Searches for movies by title and year.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @param year The year of the movie
+	 * @param page the page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchMovieByTitleAndYear(String movieTitle, int year, int page) {
+		return submit(() -> TMDbAPI.searchMovieByTitleAndYear(movieTitle, year, page));
+	}
+	
+	/**
+	 * Searches for movies by title and year. Gets all the results.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @param year The year of the movie
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> fullSearchMovieByTitleAndYear(String movieTitle, int year) {
+		return submit(() -> TMDbAPI.fullSearchMovieByTitleAndYear(movieTitle, year));
+	}
+	
+	/**
+	 * Searches for movies by title.
+	 * Returns the results of the first page.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @param adult Whether the movie audience is adult only
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchMovieByTitle(String movieTitle, boolean adult) {
+		return submit(() -> TMDbAPI.searchMovieByTitle(movieTitle, adult));
+	}
+	
+	/**
+	 * Searches for movies by title.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @param adult Whether the movie audience is adult only
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchMovieByTitle(String movieTitle, boolean adult, int page) {
+		return submit(() -> TMDbAPI.searchMovieByTitle(movieTitle, adult, page));
+	}
+	
+	/**
+	 * Searches for movies by title. Gets all the results.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @param adult Whether the movie audience is adult only
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> fullSearchMovieByTitle(String movieTitle, boolean adult) {
+		return submit(() -> TMDbAPI.fullSearchMovieByTitle(movieTitle, adult));
+	}
+	
+	/**
+	 * Searches for movies by title.
+	 * Returns the results of the first page.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @param year The year of the movie
+	 * @param adult Whether the movie audience is adult only
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchMovieByTitleAndYear(String movieTitle, int year, boolean adult) {
+		return submit(() -> TMDbAPI.searchMovieByTitleAndYear(movieTitle, year, adult));
+	}
+	
+	/**
+	 * Searches for movies by title.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @param year The year of the movie
+	 * @param adult Whether the movie audience is adult only
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchMovieByTitleAndYear(String movieTitle, int year, boolean adult, int page) {
+		return submit(() -> TMDbAPI.searchMovieByTitleAndYear(movieTitle, year, adult, page));
+	}
+	
+	/**
+	 * Searches for movies by title. Gets all the results.
+	 * 
+	 * @param movieTitle The movie's title
+	 * @param year The year of the movie
+	 * @param adult Whether the movie audience is adult only
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> fullSearchMovieByTitleAndYear(String movieTitle, int year, boolean adult) {
+		return submit(() -> TMDbAPI.fullSearchMovieByTitleAndYear(movieTitle, year, adult));
+	}
+	
+	/**
+	 * Searches for people by name.
+	 * Returns the results of the first page.
+	 * 
+	 * @param name The person name
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchPersonByName(String name) {
+		return submit(() -> TMDbAPI.searchPersonByName(name));
+	}
+	
+	/**
+	 * Searches for people by name.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param name The person name
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchPersonByName(String name, int page) {
+		return submit(() -> TMDbAPI.searchPersonByName(name, page));
+	}
+	
+	/**
+	 * Searches for people by name.
+	 * Returns the results of the first page.
+	 * 
+	 * @param name The person name
+	 * @param adult Whether the movie audience is adult only
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchPersonByName(String name, boolean adult) {
+		return submit(() -> TMDbAPI.searchPersonByName(name, adult));
+	}
+	
+	/**
+	 * Searches for people by name.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param name The person name
+	 * @param adult Whether the movie audience is adult only
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchPersonByName(String name, boolean adult, int page) {
+		return submit(() -> TMDbAPI.searchPersonByName(name, adult, page));
+	}
+	
+	/**
+	 * Searches for people by name. Gets all the results.
+	 * 
+	 * @param name The person name
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> fullSearchPersonByName(String name) {
+		return submit(() -> TMDbAPI.fullSearchPersonByName(name));
+	}
+	
+	/**
+	 * Searches for people by name. Gets all the results.
+	 * 
+	 * @param name The person name
+	 * @param adult Whether the movie audience is adult only
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> fullSearchPersonByName(String name, boolean adult) {
+		return submit(() -> TMDbAPI.fullSearchPersonByName(name, adult));
+	}
+	
+	/**
+	 * Searches for company by name.
+	 * Returns the results of the first page.
+	 * 
+	 * @param name The company name
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchCompanyByName(String name) {
+		return submit(() -> TMDbAPI.searchCompanyByName(name));
+	}
+	
+	/**
+	 * Searches for company by name.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param name The company name
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchCompanyByName(String name, int page) {
+		return submit(() -> TMDbAPI.searchCompanyByName(name, page));
+	}
+	
+	/**
+	 * Searches for company by name. Gets all the results.
+	 * 
+	 * @param name The company name
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> fullSearchCompanyByName(String name) {
+		return submit(() -> TMDbAPI.fullSearchCompanyByName(name));
+	}
+	
+	/**
+	 * Searches for keyword by name.
+	 * Returns the results of the first page.
+	 * 
+	 * @param name The keyword name
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchKeywordByName(String name) {
+		return submit(() -> TMDbAPI.searchKeywordByName(name));
+	}
+	
+	/**
+	 * Searches for keyword by name.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param name The keyword name
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchKeywordByName(String name, int page) {
+		return submit(() -> TMDbAPI.searchKeywordByName(name, page));
+	}
+	
+	/**
+	 * Searches for keyword by name. Gets all the results.
+	 * 
+	 * @param name The keyword name
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> fullSearchKeywordByName(String name) {
+		return submit(() -> TMDbAPI.fullSearchKeywordByName(name));
+	}
+	
+	/**
+	 * Searches for lists by name and description.
+	 * Returns the results of the first page.
+	 * 
+	 * @param name The list name or description
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchListByName(String name) {
+		return submit(() -> TMDbAPI.searchListByName(name));
+	}
+	
+	/**
+	 * Searches for lists by name and description.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param name The list name or description
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchListByName(String name, int page) {
+		return submit(() -> TMDbAPI.searchListByName(name, page));
+	}
+	
+	/**
+	 * Searches for lists by name and description. Gets all the results.
+	 * 
+	 * @param name The list name or description
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> fullSearchListByName(String name) {
+		return submit(() -> TMDbAPI.fullSearchListByName(name));
+	}
+	
+	/**
+	 * Searches for collections by name.
+	 * Returns the results of the first page.
+	 * 
+	 * @param name The collection name
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchCollectionByName(String name) {
+		return submit(() -> TMDbAPI.searchCollectionByName(name));
+	}
+	
+	/**
+	 * Search for collections by name.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param name The collection name
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> searchCollectionByName(String name, int page) {
+		return submit(() -> TMDbAPI.searchCollectionByName(name, page));
+	}
+	
+	/**
+	 * Search for collections by name. Gets all the results.
+	 * 
+	 * @param name The collection name
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> fullSearchCollectionByName(String name) {
+		return submit(() -> TMDbAPI.fullSearchCollectionByName(name));
+	}
+	
+	//endregion
+	
+	//region Changes
+	
+	/**
+	 * Gets a list of movie ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show movies that have been edited since.
+	 * Returns the results of the first page.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedMovies() {
+		return submit(() -> TMDbAPI.getChangedMovies());
+	}
+	
+	/**
+	 * Gets a list of people ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show people that have been edited since.
+	 * Returns the results of the first page.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedPersons() {
+		return submit(() -> TMDbAPI.getChangedPersons());
+	}
+	
+	/**
+	 * Gets a list of movie ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show movies that have been edited since.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedMovies(int page) {
+		return submit(() -> TMDbAPI.getChangedMovies(page));
+	}
+	
+	/**
+	 * Gets a list of people ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show people that have been edited since.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedPersons(int page) {
+		return submit(() -> TMDbAPI.getChangedPersons(page));
+	}
+	
+	/**
+	 * Gets a list of all movie ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show movies that have been edited since.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllChangedMovies() {
+		return submit(() -> TMDbAPI.getAllChangedMovies());
+	}
+	
+	/**
+	 * Gets a list of all people ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show people that have been edited since.
+	 * 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllChangedPersons() {
+		return submit(() -> TMDbAPI.getAllChangedPersons());
+	}
+	
+	/**
+	 * Gets a list of movie ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show movies that have been edited since.
+	 * Returns the results of the first page.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedMovies(Date start, Date end) {
+		return submit(() -> TMDbAPI.getChangedMovies(start, end));
+	}
+	
+	/**
+	 * Gets a list of people ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show people that have been edited since.
+	 * Returns the results of the first page.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedPersons(Date start, Date end) {
+		return submit(() -> TMDbAPI.getChangedPersons(start, end));
+	}
+	
+	/**
+	 * Gets a list of movie ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show movies that have been edited since.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedMovies(Date start, Date end, int page) {
+		return submit(() -> TMDbAPI.getChangedMovies(start, end, page));
+	}
+	
+	/**
+	 * Gets a list of people ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show people that have been edited since.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @param page The page number to retrieve 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedPersons(Date start, Date end, int page) {
+		return submit(() -> TMDbAPI.getChangedPersons(start, end, page));
+	}
+	
+	/**
+	 * Gets a list of all movie ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show movies that have been edited since.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllChangedMovies(Date start, Date end) {
+		return submit(() -> TMDbAPI.getAllChangedMovies(start, end));
+	}
+	
+	/**
+	 * Gets a list of all people ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show people that have been edited since.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllChangedPersons(Date start, Date end) {
+		return submit(() -> TMDbAPI.getAllChangedPersons(start, end));
+	}
+	
+	/**
+	 * Gets a list of movie ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show movies that have been edited since.
+	 * Returns the results of the first page.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedMovies(String start, String end) {
+		return submit(() -> TMDbAPI.getChangedMovies(start, end));
+	}
+	
+	/**
+	 * Gets a list of people ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show people that have been edited since.
+	 * Returns the results of the first page.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends 
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedPersons(String start, String end) {
+		return submit(() -> TMDbAPI.getChangedPersons(start, end));
+	}
+	
+	/**
+	 * Gets a list of movie ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show movies that have been edited since.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedMovies(String start, String end, int page) {
+		return submit(() -> TMDbAPI.getChangedMovies(start, end, page));
+	}
+	
+	/**
+	 * Gets a list of people ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show people that have been edited since.
+	 * Returns the results of the given page number.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends 
+	 * @param page The page number to retrieve
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getChangedPersons(String start, String end, int page) {
+		return submit(() -> TMDbAPI.getChangedPersons(start, end, page));
+	}
+	
+	/**
+	 * Gets a list of all movie ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show movies that have been edited since.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllChangedMovies(String start, String end) {
+		return submit(() -> TMDbAPI.getAllChangedMovies(start, end));
+	}
+	
+	/**
+	 * Gets a list of all people ids that have been edited. 
+	 * By default we show the last 24 hours and only 100 items per page. 
+	 * The maximum number of days that can be returned in a single request is 14. 
+	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
+	 * Please note that the change log system to support this was changed on 
+	 * October 5, 2012 and will only show people that have been edited since.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @return The future TMDb API response array
+	 */
+	public static CompletableFuture<TMDbResponseArray> getAllChangedPersons(String start, String end) {
+		return submit(() -> TMDbAPI.getAllChangedPersons(start, end));
+	}
+	
+	//endregion
+	
+}
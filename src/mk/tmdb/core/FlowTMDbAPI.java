@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.core;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import mk.tmdb.entity.movie.TMDbMovie;
+import mk.tmdb.entity.movie.TMDbMovieThumbnail;
+import mk.tmdb.entity.person.TMDbPerson;
+import mk.tmdb.entity.person.TMDbPersonThumbnail;
+import net.sf.json.JSONObject;
+
+/**
+ * Static class that offers the reactive version of the paginated {@link TMDbAPI} methods and of the 
+ * bulk loads. Each method returns a cold {@link Flow.Publisher} (see {@link TMDbPublisher}): the pages 
+ * are fetched only as their results are requested by the subscriber, so a slow subscriber throttles 
+ * the TMDb requests instead of buffering the entire result.
+ * <p>
+ * A request failure is signaled to the subscriber with {@link Flow.Subscriber#onError(Throwable) onError}; 
+ * the error is a {@link mk.tmdb.exception.TMDbResponseException TMDbResponseException} when the server 
+ * response is not a success.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public final class FlowTMDbAPI {
+
+	private FlowTMDbAPI() {}
+	
+	//region Movies
+	
+	/**
+	 * Publishes the entire list of similar movies to the specified one.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The publisher of the similar movies
+	 */
+	public static Flow.Publisher<JSONObject> getSimilarMovies(int movieID) {
+		return TMDbPublisher.pages(page -> TMDbURLCreator.getSimilarMoviesUrl(movieID, page));
+	}
+	
+	/**
+	 * Publishes the entire list of upcoming movies.
+	 * 
+	 * @return The publisher of the upcoming movies
+	 */
+	public static Flow.Publisher<JSONObject> getUpcomingMovies() {
+		return TMDbPublisher.pages(TMDbURLCreator::getUpcomingMoviesListUrl);
+	}
+	
+	/**
+	 * Publishes the entire list of movies in theatres.
+	 * 
+	 * @return The publisher of the movies in theatres
+	 */
+	public static Flow.Publisher<JSONObject> getInTheatresMovies() {
+		return TMDbPublisher.pages(TMDbURLCreator::getInTheatresMoviesUrl);
+	}
+	
+	/**
+	 * Publishes the entire list of popular movies.
+	 * 
+	 * @return The publisher of the popular movies
+	 */
+	public static Flow.Publisher<JSONObject> getPopularMovies() {
+		return TMDbPublisher.pages(TMDbURLCreator::getPopularMoviesUrl);
+	}
+	
+	/**
+	 * Publishes the entire list of top rated movies.
+	 * 
+	 * @return The publisher of the top rated movies
+	 */
+	public static Flow.Publisher<JSONObject> getTopRatedMovies() {
+		return TMDbPublisher.pages(TMDbURLCreator::getTopRatedMoviesUrl);
+	}
+	
+	/**
+	 * Publishes the entire list of movies associated with the given company.
+	 * 
+	 * @param companyID The company ID
+	 * @return The publisher of the movies
+	 */
+	public static Flow.Publisher<JSONObject> getMoviesByCompany(int companyID) {
+		return TMDbPublisher.pages(page -> TMDbURLCreator.getMoviesListByCompanyUrl(companyID, page));
+	}
+	
+	/**
+	 * Publishes the entire list of movies of the given genre.
+	 * 
+	 * @param genreID The genre ID
+	 * @return The publisher of the movies
+	 */
+	public static Flow.Publisher<JSONObject> getMoviesByGenre(int genreID) {
+		return TMDbPublisher.pages(page -> TMDbURLCreator.getMoviesListByGenreUrl(genreID, page));
+	}
+	
+	/**
+	 * Publishes the entire list of movies with the given keyword.
+	 * 
+	 * @param keywordID The keyword ID
+	 * @return The publisher of the movies
+	 */
+	public static Flow.Publisher<JSONObject> getMoviesByKeyword(int keywordID) {
+		return TMDbPublisher.pages(page -> TMDbURLCreator.getMoviesListByKeyword(keywordID, page));
+	}
+	
+	//endregion
+	
+	//region Search
+	
+	/**
+	 * Publishes all the movies that match the given title.
+	 * 
+	 * @param movieTitle The movie title
+	 * @return The publisher of the movies
+	 */
+	public static Flow.Publisher<JSONObject> searchMovieByTitle(String movieTitle) {
+		return TMDbPublisher.pages(page -> TMDbURLCreator.searchMovieByTitleUrl(movieTitle, page));
+	}
+	
+	/**
+	 * Publishes all the people that match the given name.
+	 * 
+	 * @param name The person name
+	 * @return The publisher of the people
+	 */
+	public static Flow.Publisher<JSONObject> searchPersonByName(String name) {
+		return TMDbPublisher.pages(page -> TMDbURLCreator.searchPeopleByNameUrl(name, page));
+	}
+	
+	/**
+	 * Publishes all the companies that match the given name.
+	 * 
+	 * @param name The company name
+	 * @return The publisher of the companies
+	 */
+	public static Flow.Publisher<JSONObject> searchCompanyByName(String name) {
+		return TMDbPublisher.pages(page -> TMDbURLCreator.searchCompanyByNameUrl(name, page));
+	}
+	
+	/**
+	 * Publishes all the keywords that match the given name.
+	 * 
+	 * @param name The keyword name
+	 * @return The publisher of the keywords
+	 */
+	public static Flow.Publisher<JSONObject> searchKeywordByName(String name) {
+		return TMDbPublisher.pages(page -> TMDbURLCreator.searchKeywordByNameUrl(name, page));
+	}
+	
+	//endregion
+	
+	//region Changes
+	
+	/**
+	 * Publishes the ids of all the movies edited in the given date range. Ranges longer than 
+	 * 14 days are split into windows published one after the other, without duplicate ids.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @return The publisher of the changed movies
+	 */
+	public static Flow.Publisher<JSONObject> getChangedMovies(Date start, Date end) {
+		return changes(start, end, TMDbURLCreator::getChangedMoviesUrl);
+	}
+	
+	/**
+	 * Publishes the ids of all the people edited in the given date range. Ranges longer than 
+	 * 14 days are split into windows published one after the other, without duplicate ids.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @return The publisher of the changed people
+	 */
+	public static Flow.Publisher<JSONObject> getChangedPersons(Date start, Date end) {
+		return changes(start, end, TMDbURLCreator::getChangedPersonsUrl);
+	}
+	
+	/**
+	 * Publishes the results of a change list split into windows.
+	 * 
+	 * @param start The date where the search starts 
+	 * @param end The date where the search ends
+	 * @param pages The page URL builder
+	 * @return The publisher of the changes
+	 */
+	private static Flow.Publisher<JSONObject> changes(Date start, Date end, TMDbPagination.RangePageUrl pages) {
+		List<Date[]> windows = TMDbPagination.split(start, end);
+		if (windows.size() <= 1) return TMDbPublisher.pages(page -> pages.getUrl(start, end, page));
+		
+		List<TMDbPagination.PageUrl> urls = new ArrayList<TMDbPagination.PageUrl>(windows.size());
+		for (Date[] window : windows) {
+			urls.add(page -> pages.getUrl(window[0], window[1], page));
+		}
+		
+		return TMDbPublisher.pages(urls, true);
+	}
+	
+	//endregion
+	
+	//region Bulk
+	
+	/**
+	 * Publishes the basic information of the given movies, loaded at most 
+	 * {@link TMDbBulkLoader#getParallelism() parallelism} at a time and no more than requested.
+	 * 
+	 * @param movieIDs The movie IDs
+	 * @return The publisher of the per-ID results
+	 */
+	public static Flow.Publisher<TMDbBulkLoader.Result<TMDbMovie>> loadMovies(int[] movieIDs) {
+		return TMDbPublisher.load(movieIDs, TMDbMovieThumbnail::getInformation);
+	}
+	
+	/**
+	 * Publishes the basic information of the given people, loaded at most 
+	 * {@link TMDbBulkLoader#getParallelism() parallelism} at a time and no more than requested.
+	 * 
+	 * @param personIDs The person IDs
+	 * @return The publisher of the per-ID results
+	 */
+	public static Flow.Publisher<TMDbBulkLoader.Result<TMDbPerson>> loadPeople(int[] personIDs) {
+		return TMDbPublisher.load(personIDs, TMDbPersonThumbnail::getInformation);
+	}
+	
+	//endregion
+	
+}
@@ -20,25 +20,40 @@
 
 package mk.tmdb.core;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
+import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.text.DecimalFormat;
 import java.util.Date;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import mk.tmdb.cache.TMDbDiskCache;
+import mk.tmdb.cache.TMDbResponseCache;
 import mk.tmdb.entity.TMDbAccount;
 import mk.tmdb.entity.TMDbToken;
+import mk.tmdb.exception.TMDbPoolExhaustedException;
+import mk.tmdb.json.TMDbJsonReader;
+import mk.tmdb.metrics.TMDbApiCallEvent;
+import mk.tmdb.metrics.TMDbApiCallEvent.Source;
+import mk.tmdb.metrics.TMDbEndpointMetrics;
+import mk.tmdb.metrics.TMDbHttpRequestEvent;
+import mk.tmdb.metrics.TMDbMetrics;
+import mk.tmdb.net.TMDbHttpResponse;
+import mk.tmdb.net.TMDbPooledTransport;
+import mk.tmdb.net.TMDbRateLimiter;
+import mk.tmdb.net.TMDbRetryPolicy;
+import mk.tmdb.net.TMDbSingleFlight;
+import mk.tmdb.net.TMDbTransport;
 import mk.tmdb.response.TMDbResponseArray;
 import mk.tmdb.response.TMDbResponseObject;
 import mk.tmdb.response.TMDbStatus;
 import mk.tmdb.utils.Log;
+import mk.tmdb.utils.Pair;
 import net.sf.json.JSONObject;
-import net.sf.json.JSONSerializer;
 
 /**
  * Static class that offers methods for calling the The Movie Database Api.
@@ -66,8 +81,215 @@ public final class TMDbAPI {
 	
 	//endregion
 	
+	//region Transport
+	
+	/**
+	 * The transport used to perform the HTTP requests.
+	 */
+	private static volatile TMDbTransport transport = new TMDbPooledTransport();
+	
+	/**
+	 * Gets the transport used to perform the HTTP requests.
+	 * 
+	 * @return The transport
+	 */
+	public static TMDbTransport getTransport() {
+		return transport;
+	}
+	
+	/**
+	 * Sets the transport used to perform the HTTP requests.
+	 * 
+	 * @param newTransport The new transport
+	 */
+	public static void setTransport(TMDbTransport newTransport) {
+		if (newTransport == null) throw new IllegalArgumentException("The transport cannot be null");
+		transport = newTransport;
+	}
+	
+	//endregion
+	
+	//region Retry
+	
+	/**
+	 * The retry policy applied to all the GET requests.
+	 */
+	private static volatile TMDbRetryPolicy retryPolicy = TMDbRetryPolicy.DEFAULT;
+	
+	/**
+	 * The retry policy applied to all the POST requests, which are not idempotent.
+	 */
+	private static volatile TMDbRetryPolicy postRetryPolicy = TMDbRetryPolicy.NONE;
+	
+	/**
+	 * The retry policy that overrides the global one for the calls made by the current thread.
+	 */
+	private static final ThreadLocal<TMDbRetryPolicy> callRetryPolicy = new ThreadLocal<TMDbRetryPolicy>();
+	
+	/**
+	 * Gets the retry policy in use by the current thread: the one set by 
+	 * {@link #withRetryPolicy(TMDbRetryPolicy, Supplier) withRetryPolicy} or the global one.
+	 * 
+	 * @return The retry policy
+	 */
+	public static TMDbRetryPolicy getRetryPolicy() {
+		TMDbRetryPolicy policy = callRetryPolicy.get();
+		return policy != null ? policy : retryPolicy;
+	}
+	
+	/**
+	 * Sets the retry policy applied to all the GET requests.
+	 * 
+	 * @param policy The new retry policy ({@link TMDbRetryPolicy#NONE} to disable the retries)
+	 */
+	public static void setRetryPolicy(TMDbRetryPolicy policy) {
+		if (policy == null) throw new IllegalArgumentException("The retry policy cannot be null");
+		retryPolicy = policy;
+	}
+	
+	/**
+	 * Gets the retry policy in use by the current thread for the POST requests: the one set by 
+	 * {@link #withRetryPolicy(TMDbRetryPolicy, Supplier) withRetryPolicy} or the global POST one.
+	 * 
+	 * @return The retry policy of the POST requests
+	 */
+	public static TMDbRetryPolicy getPostRetryPolicy() {
+		TMDbRetryPolicy policy = callRetryPolicy.get();
+		return policy != null ? policy : postRetryPolicy;
+	}
+	
+	/**
+	 * Sets the retry policy applied to all the POST requests. By default they are not retried, as a POST 
+	 * that timed out may have been applied by the server (e.g. a rating or a list change).
+	 * 
+	 * @param policy The new retry policy ({@link TMDbRetryPolicy#NONE} to disable the retries)
+	 */
+	public static void setPostRetryPolicy(TMDbRetryPolicy policy) {
+		if (policy == null) throw new IllegalArgumentException("The retry policy cannot be null");
+		postRetryPolicy = policy;
+	}
+	
+	/**
+	 * Performs the given calls with the given retry policy instead of the global ones. 
+	 * The policy also applies to the POST requests, so it is the way to opt in to their retries for some calls.
+	 * 
+	 * @param policy The retry policy
+	 * @param call The calls to perform, e.g. <code>() -> TMDbAPI.getMovieInformation(id)</code>
+	 * @return The result of the calls
+	 */
+	public static <T> T withRetryPolicy(TMDbRetryPolicy policy, Supplier<T> call) {
+		TMDbRetryPolicy previous = callRetryPolicy.get();
+		callRetryPolicy.set(policy);
+		try {
+			return call.get();
+		} finally {
+			if (previous != null) callRetryPolicy.set(previous);
+			else callRetryPolicy.remove();
+		}
+	}
+	
+	//endregion
+	
+	//region Cache
+	
+	/**
+	 * The cache of the GET responses (null if the caching is disabled).
+	 */
+	private static volatile TMDbResponseCache cache = new TMDbResponseCache(TMDbResponseCache.DEFAULT_MAX_BYTES);
+	
+	/**
+	 * Gets the cache of the GET responses.
+	 * 
+	 * @return The response cache or null if the caching is disabled
+	 */
+	public static TMDbResponseCache getCache() {
+		return cache;
+	}
+	
+	/**
+	 * Sets the cache of the GET responses.
+	 * 
+	 * @param newCache The new response cache (null to disable the caching)
+	 */
+	public static void setCache(TMDbResponseCache newCache) {
+		cache = newCache;
+	}
+	
+	/**
+	 * The persistent cache of the GET responses, checked after the in-memory one (null if disabled).
+	 */
+	private static volatile TMDbDiskCache diskCache = null;
+	
+	/**
+	 * Gets the persistent cache of the GET responses.
+	 * 
+	 * @return The disk cache or null if it is disabled
+	 */
+	public static TMDbDiskCache getDiskCache() {
+		return diskCache;
+	}
+	
+	/**
+	 * Sets the persistent cache of the GET responses. The previous one is not closed.
+	 * 
+	 * @param newCache The new disk cache (null to disable it)
+	 */
+	public static void setDiskCache(TMDbDiskCache newCache) {
+		diskCache = newCache;
+	}
+	
+	//endregion
+	
+	//region Coalescing
+	
+	/**
+	 * The in-flight GET requests, shared by the concurrent identical requests.
+	 */
+	private static final TMDbSingleFlight<String> singleFlight = new TMDbSingleFlight<String>();
+	
+	/**
+	 * Whether the concurrent identical GET requests share a single call.
+	 */
+	private static volatile boolean coalescing = true;
+	
+	/**
+	 * Gets the deduplicator of the in-flight GET requests, which exposes the number of 
+	 * executed and coalesced requests.
+	 * 
+	 * @return The in-flight requests deduplicator
+	 */
+	public static TMDbSingleFlight<String> getSingleFlight() {
+		return singleFlight;
+	}
+	
+	/**
+	 * Checks whether the concurrent identical GET requests share a single call.
+	 * 
+	 * @return Whether the coalescing is enabled
+	 */
+	public static boolean isCoalescing() {
+		return coalescing;
+	}
+	
+	/**
+	 * Sets whether the concurrent identical GET requests (same normalized URL) share a single call. 
+	 * The waiting requests receive the result obtained with the retry policy of the first one.
+	 * 
+	 * @param enabled Whether the coalescing is enabled
+	 */
+	public static void setCoalescing(boolean enabled) {
+		coalescing = enabled;
+	}
+	
+	//endregion
+	
 	//region API Calls
 	
+	/**
+	 * Pattern that finds the TMDb status code in a response body.
+	 */
+	private static final Pattern STATUS_CODE_PATTERN = Pattern.compile("\"" + TMDbConstants.STATUS_CODE + "\"\\s*:\\s*(\\d+)");
+	
 	/**
 	 * Makes an HTTP request (GET) and gets back the result as a string.
 	 * 
@@ -75,39 +297,7 @@ public final class TMDbAPI {
 	 * @return The result string
 	 */
 	public static String makeApiCallGet(URL url) {
-		StringBuilder result = new StringBuilder();
-		try {
-			HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-			conn.setRequestMethod("GET");
-			conn.setReadTimeout(timeout);
-			conn.setRequestProperty("User-Agent","Mozilla/5.0 ( compatible ) ");
-			conn.setRequestProperty("Accept","*/*");
-			BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-			for (String line = null; (line = reader.readLine()) != null;) {
-			    result.append(line).append("\n");
-			}
-			reader.close();
-			
-		} catch (SocketTimeoutException ste) {
-			Log.print(ste);
-			
-			JSONObject json = new JSONObject();
-			json.put(TMDbConstants.STATUS_CODE, TMDbStatus.TIMEOUT);
-			
-			result.setLength(0);
-			result.append(json.toString());
-			
-		} catch (Exception e) {
-			Log.print(e);
-			
-			JSONObject json = new JSONObject();
-			json.put(TMDbConstants.STATUS_CODE, TMDbStatus.UNKNOWN_ERROR.getCode());
-			
-			result.setLength(0);
-			result.append(json.toString());
-		}
-		
-		return result.toString();
+		return makeApiCall(url, null);
 	}
 	
 	/**
@@ -118,55 +308,260 @@ public final class TMDbAPI {
 	 * @return The result string
 	 */
 	public static String makeApiCallPost(URL url, JSONObject json) {
-		StringBuilder result = new StringBuilder();
-		try {
-			HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-			conn.setRequestProperty("Content-Type", "application/json");
-			conn.setDoOutput(true);
-			conn.setReadTimeout(timeout);
-			
-			OutputStream out = conn.getOutputStream();
-			OutputStreamWriter wr = new OutputStreamWriter(out);
-			wr.write(json.toString());
-			wr.flush();
-			wr.close();
-			
-			BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream(), "UTF-8"));
-			for (String line = null; (line = reader.readLine()) != null;) {
-			    result.append(line).append("\n");
+		return makeApiCall(url, json.toString());
+	}
+	
+	/**
+	 * Makes an HTTP request (GET or POST) and gets back the result as a string. 
+	 * The successful GET responses are served from and stored into the in-memory and disk caches, if enabled, 
+	 * and concurrent identical GET requests share a single call, if the coalescing is enabled. 
+	 * The request is recorded in the {@link TMDbMetrics metrics} of its endpoint, if enabled, and 
+	 * in a {@link TMDbApiCallEvent} flight recorder event.
+	 * 
+	 * @param url The query URL
+	 * @param body The JSON string to post (null for a GET request)
+	 * @return The result string
+	 */
+	private static String makeApiCall(final URL url, String body) {
+		
+		final TMDbEndpointMetrics metrics = TMDbMetrics.forUrl(url);
+		TMDbApiCallEvent event = TMDbApiCallEvent.start();
+		
+		if (body != null) {
+			Pair<TMDbStatus, String> result = callWithRetries(url, body, metrics);
+			event.finish(url, true, Source.NETWORK, result.getFirst(), result.getSecond());
+			return result.getSecond();
+		}
+		
+		final String key = TMDbURLCreator.getRequestKey(url);
+		final TMDbResponseCache memoryCache = cache;
+		final TMDbDiskCache persistentCache = diskCache;
+		
+		String cached = memoryCache != null ? memoryCache.get(key) : null;
+		if (cached != null) {
+			if (metrics != null) metrics.recordMemoryCacheHit();
+			event.finish(url, false, Source.MEMORY_CACHE, TMDbStatus.NONE, cached);
+			return cached;
+		}
+		
+		cached = persistentCache != null ? persistentCache.get(key) : null;
+		if (cached != null) {
+			if (memoryCache != null) memoryCache.put(key, TMDbURLCreator.getEndpoint(url), cached);
+			if (metrics != null) metrics.recordDiskCacheHit();
+			event.finish(url, false, Source.DISK_CACHE, TMDbStatus.NONE, cached);
+			return cached;
+		}
+		
+		final TMDbStatus[] status = new TMDbStatus[1];
+		Supplier<String> call = () -> {
+			Pair<TMDbStatus, String> result = callWithRetries(url, null, metrics);
+			status[0] = result.getFirst();
+			
+			if (result.getFirst() == TMDbStatus.NONE) {
+				String endpoint = TMDbURLCreator.getEndpoint(url);
+				if (memoryCache != null) memoryCache.put(key, endpoint, result.getSecond());
+				if (persistentCache != null) persistentCache.put(key, endpoint, result.getSecond());
+			}
+			return result.getSecond();
+		};
+		
+		String result = coalescing ? singleFlight.execute(key, call) : call.get();
+		
+		boolean performed = status[0] != null;
+		if (!performed && metrics != null) metrics.recordCoalesced();
+		event.finish(url, false, performed ? Source.NETWORK : Source.COALESCED, status[0], result);
+		
+		return result;
+	}
+	
+	/**
+	 * Makes an HTTP request, attempting it again according to the retry policy while it fails with 
+	 * a transient status. The POST requests use the {@link #getPostRetryPolicy() POST retry policy}. In case of failure the result contains only the failure status code.
+	 * 
+	 * @param url The query URL
+	 * @param body The JSON string to post (null for a GET request)
+	 * @param metrics The metrics of the endpoint (null if disabled)
+	 * @return The failure status (NONE if the request succeeded) and the result string
+	 */
+	private static Pair<TMDbStatus, String> callWithRetries(URL url, String body, TMDbEndpointMetrics metrics) {
+		
+		TMDbRetryPolicy policy = body == null ? getRetryPolicy() : getPostRetryPolicy();
+		long start = System.currentTimeMillis();
+		long startNanos = System.nanoTime();
+		
+		for (int attempt = 1; ; attempt++) {
+			Pair<TMDbStatus, String> result = attempt(url, body, metrics);
+			
+			long delay = policy.getRetryDelay(result.getFirst(), attempt, System.currentTimeMillis() - start);
+			if (delay >= 0) {
+				try {
+					Thread.sleep(delay);
+					continue;
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+				}
 			}
-			reader.close();
+			
+			if (metrics != null) metrics.recordRequest(result.getFirst(), attempt, System.nanoTime() - startNanos);
+			return result;
+		}
+	}
+	
+	/**
+	 * Makes a single attempt of an HTTP request.
+	 * 
+	 * @param url The query URL
+	 * @param body The JSON string to post (null for a GET request)
+	 * @param metrics The metrics of the endpoint (null if disabled)
+	 * @return The failure status (NONE if the request succeeded) and the result string
+	 */
+	private static Pair<TMDbStatus, String> attempt(URL url, String body, TMDbEndpointMetrics metrics) {
+		try {
+			
+			TMDbHttpResponse response = execute(url, body, metrics);
+			
+			if (response.isSuccessful()) {
+				return new Pair<TMDbStatus, String>(TMDbStatus.NONE, response.getBodyAsString());
+			}
+			
+			return failure(getErrorStatus(response));
+			
+		} catch (TMDbPoolExhaustedException pee) {
+			Log.print(pee);
+			
+			return failure(TMDbStatus.POOL_EXHAUSTED);
 			
 		} catch (SocketTimeoutException ste) {
 			Log.print(ste);
 			
-			JSONObject jsonErr = new JSONObject();
-			jsonErr.put(TMDbConstants.STATUS_CODE, TMDbStatus.TIMEOUT);
+			return failure(TMDbStatus.TIMEOUT);
+			
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			Log.print(ie);
 			
-			result.setLength(0);
-			result.append(jsonErr.toString());
+			return failure(TMDbStatus.UNKNOWN_ERROR);
 			
 		} catch (Exception e) {
 			Log.print(e);
 			
-			JSONObject jsonErr = new JSONObject();
-			jsonErr.put(TMDbConstants.STATUS_CODE, TMDbStatus.UNKNOWN_ERROR);
+			return failure(TMDbStatus.UNKNOWN_ERROR);
+		}
+	}
+	
+	/**
+	 * Creates the result of a failed attempt.
+	 * 
+	 * @param status The failure status
+	 * @return The failure status and its JSON string
+	 */
+	private static Pair<TMDbStatus, String> failure(TMDbStatus status) {
+		return new Pair<TMDbStatus, String>(status, errorJson(status));
+	}
+	
+	/**
+	 * Gets the status of an error response: the TMDb status code in the body if present, 
+	 * otherwise a status derived from the HTTP status code.
+	 * 
+	 * @param response The error response
+	 * @return The response status
+	 */
+	private static TMDbStatus getErrorStatus(TMDbHttpResponse response) {
+		
+		if (response.getCode() == TMDbHttpResponse.TOO_MANY_REQUESTS) return TMDbStatus.REQUEST_LIMIT_EXCEEDED;
+		
+		Matcher matcher = STATUS_CODE_PATTERN.matcher(response.getBodyAsString());
+		if (matcher.find()) return TMDbStatus.getStatusByCode(Integer.parseInt(matcher.group(1)));
+		
+		switch (response.getCode()) {
+			case HttpURLConnection.HTTP_INTERNAL_ERROR: 
+				return TMDbStatus.INTERNAL_ERROR;
+			case HttpURLConnection.HTTP_BAD_GATEWAY:
+			case HttpURLConnection.HTTP_UNAVAILABLE:
+				return TMDbStatus.SERVICE_OFFLINE;
+			case HttpURLConnection.HTTP_GATEWAY_TIMEOUT:
+				return TMDbStatus.TIMEOUT;
+			default:
+				return TMDbStatus.UNKNOWN_ERROR;
+		}
+	}
+	
+	/**
+	 * Sends the request through the transport once the rate limiter of the API key allows it.
+	 * A request rejected with "429 Too Many Requests" pauses the limiter for the Retry-After time 
+	 * and is sent again, up to the limiter maximum number of throttled retries.
+	 * 
+	 * @param url The query URL
+	 * @param body The JSON string to post (null for a GET request)
+	 * @param metrics The metrics of the endpoint (null if disabled)
+	 * @return The server response
+	 * @throws IOException Throws if the request cannot be performed
+	 * @throws InterruptedException Throws if the thread is interrupted while waiting for the limiter
+	 */
+	private static TMDbHttpResponse execute(URL url, String body, TMDbEndpointMetrics metrics) throws IOException, InterruptedException {
+		
+		TMDbRateLimiter limiter = TMDbRateLimiter.forApiKey(getApiKey(url));
+		
+		for (int attempt = 0; ; attempt++) {
+			limiter.acquire();
+			
+			TMDbHttpResponse response;
+			TMDbHttpRequestEvent event = TMDbHttpRequestEvent.start();
+			try {
+				response = body == null ? transport.get(url, timeout) : transport.post(url, body, timeout);
+			} catch (IOException e) {
+				event.finish(url, body != null, -1, 0);
+				if (metrics != null) metrics.recordHttpFailure();
+				throw e;
+			}
+			event.finish(url, body != null, response.getCode(), response.getBody().length);
+			if (metrics != null) metrics.recordHttpResponse(response.getCode(), response.getBody().length);
+			if (response.getCode() != TMDbHttpResponse.TOO_MANY_REQUESTS) return response;
 			
-			result.setLength(0);
-			result.append(jsonErr.toString());
+			limiter.pause(response.getRetryAfter(TMDbRateLimiter.DEFAULT_RETRY_AFTER));
+			if (attempt >= limiter.getMaxThrottledRetries()) return response;
 		}
+	}
+	
+	/**
+	 * Gets the API key of the given query URL.
+	 * 
+	 * @param url The query URL
+	 * @return The API key (empty if the URL has none)
+	 */
+	private static String getApiKey(URL url) {
+		String query = url.getQuery();
+		if (query == null) return "";
 		
-		return result.toString();
+		String prefix = TMDbConstants.API_KEY.substring(1) + "=";
+		for (String param : query.split("&")) {
+			if (param.startsWith(prefix)) return param.substring(prefix.length());
+		}
+		
+		return "";
 	}
 	
 	/**
-	 * Converts a string to a JSONObject.
+	 * Creates the JSON string of a response that carries only the given status.
+	 * 
+	 * @param status The response status
+	 * @return The JSON string
+	 */
+	private static String errorJson(TMDbStatus status) {
+		JSONObject json = new JSONObject();
+		json.put(TMDbConstants.STATUS_CODE, status.getCode());
+		
+		return json.toString();
+	}
+	
+	/**
+	 * Converts a string to a JSONObject, building the same json-lib tree as <code>JSONSerializer</code>.
 	 * 
 	 * @param strJson The JSON string
 	 * @return The JSONObject
 	 */
-	private static JSONObject toJSON(String strJson) {
-		return (JSONObject) JSONSerializer.toJSON(strJson);
+	static JSONObject toJSON(String strJson) {
+		return TMDbJsonReader.parseObject(strJson);
 	}
 	
 	//endregion
@@ -321,16 +716,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllFavoriteLists(TMDbAccount account) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getAccountFavsListsUrl(account.getId(), account.getSessionID()))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-                TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getAccountFavsListsUrl(account.getId(), account.getSessionID(), p))));
-                for (Object obj : page.getData()) {
-                    result.addData((JSONObject) obj);
-                }
-            }
-            
-            return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getAccountFavsListsUrl(account.getId(), account.getSessionID(), page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -379,16 +765,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllFavoriteMovies(TMDbAccount account) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getAccountFavsMoviesUrl(account.getId(), account.getSessionID()))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-                TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getAccountFavsMoviesUrl(account.getId(), account.getSessionID(), p))));
-                for (Object obj : page.getData()) {
-                    result.addData((JSONObject) obj);
-                }
-            }
-            
-            return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getAccountFavsMoviesUrl(account.getId(), account.getSessionID(), page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -463,16 +840,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllRatedMovies(TMDbAccount account) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getRatedMoviesUrl(account.getId(), account.getSessionID()))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-                TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getRatedMoviesUrl(account.getId(), account.getSessionID(), p))));
-                for (Object obj : page.getData()) {
-                    result.addData((JSONObject) obj);
-                }
-            }
-            
-            return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getRatedMoviesUrl(account.getId(), account.getSessionID(), page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -541,16 +909,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllMovieWatchList(TMDbAccount account) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getWatchlistUrl(account.getId(), account.getSessionID()))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-                TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getWatchlistUrl(account.getId(), account.getSessionID(), p))));
-                for (Object obj : page.getData()) {
-                    result.addData((JSONObject) obj);
-                }
-            }
-            
-            return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getWatchlistUrl(account.getId(), account.getSessionID(), page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -626,6 +985,26 @@ public final class TMDbAPI {
 		}
 	}
 	
+	/**
+	 * Gets the basic movie information for a specific movie id together with the responses of the 
+	 * given sub-requests (append_to_response), in a single call. Each sub-response is a property 
+	 * of the result named as the sub-request.
+	 * 
+	 * @param movieID The movie ID
+	 * @param append The sub-requests to append (e.g. {@link TMDbConstants#CASTS}, {@link TMDbConstants#IMAGES})
+	 * @return The TMDb API response object
+	 */
+	public static TMDbResponseObject getMovieInformation(int movieID, String... append) {
+		try {
+			return new TMDbResponseObject(toJSON(makeApiCallGet(TMDbURLCreator.getMovieInfoUrl(movieID, append))));
+			
+		} catch (MalformedURLException e) {
+			Log.print(e);
+			
+			return new TMDbResponseObject(TMDbStatus.MALFORMED_URL);
+		}
+	}
+	
 	/**
 	 * Gets the alternative titles for a specific movie id.
 	 * 
@@ -786,16 +1165,7 @@ public final class TMDbAPI {
 	 */
 	public static TMDbResponseArray getAllSimilarMovies(int movieID) {
 		try {
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getSimilarMoviesUrl(movieID))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getSimilarMoviesUrl(movieID, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getSimilarMoviesUrl(movieID, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -906,16 +1276,7 @@ public final class TMDbAPI {
 	 */
 	public static TMDbResponseArray getAllListsBelongsToMovie(int movieID) {
 		try {
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getListsBelongsToMovieUrl(movieID))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getUpcomingMoviesListUrl(p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getListsBelongsToMovieUrl(movieID, page));
 		} catch (MalformedURLException e) {
 			Log.print(e);
 			
@@ -978,16 +1339,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllUpcomingMovies() {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getUpcomingMoviesListUrl())));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getUpcomingMoviesListUrl(p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getUpcomingMoviesListUrl(page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1035,16 +1387,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllInTheatresMovies() {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getInTheatresMoviesUrl())));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getInTheatresMoviesUrl(p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getInTheatresMoviesUrl(page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1089,16 +1432,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllPopularMovies() {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getPopularMoviesUrl())));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getPopularMoviesUrl(p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getPopularMoviesUrl(page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1146,16 +1480,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllTopRatedMovies() {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getTopRatedMoviesUrl())));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getTopRatedMoviesUrl(p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getTopRatedMoviesUrl(page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1453,16 +1778,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllMoviesByCompany(int companyID) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getMoviesListByCompanyUrl(companyID))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getMoviesListByCompanyUrl(companyID, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getMoviesListByCompanyUrl(companyID, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1533,16 +1849,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllMoviesByGenre(int genreID) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getMoviesListByGenreUrl(genreID))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getMoviesListByGenreUrl(genreID, p))));
-				for (JSONObject json : page.getData()) {
-					result.addData(json);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getMoviesListByGenreUrl(genreID, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1618,16 +1925,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray getAllMoviesByKeyword(int keywordID) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getMoviesListByKeyword(keywordID))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getMoviesListByKeyword(keywordID, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getMoviesListByKeyword(keywordID, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1679,16 +1977,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray fullSearchMovieByTitle(String movieTitle) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchMovieByTitleUrl(movieTitle))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchMovieByTitleUrl(movieTitle, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.searchMovieByTitleUrl(movieTitle, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1739,16 +2028,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray fullSearchMovieByTitleAndYear(String movieTitle, int year) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchMovieByTitleAndYearUrl(movieTitle, year))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchMovieByTitleAndYearUrl(movieTitle, year, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.searchMovieByTitleAndYearUrl(movieTitle, year, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1799,16 +2079,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray fullSearchMovieByTitle(String movieTitle, boolean adult) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchMovieByTitleUrl(movieTitle, adult))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchMovieByTitleUrl(movieTitle, adult, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.searchMovieByTitleUrl(movieTitle, adult, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1862,16 +2133,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray fullSearchMovieByTitleAndYear(String movieTitle, int year, boolean adult) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchMovieByTitleUrl(movieTitle, year, adult))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchMovieByTitleUrl(movieTitle, year, adult, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.searchMovieByTitleUrl(movieTitle, year, adult, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1951,16 +2213,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray fullSearchPersonByName(String name) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchPeopleByNameUrl(name))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchPeopleByNameUrl(name, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.searchPeopleByNameUrl(name, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -1979,16 +2232,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray fullSearchPersonByName(String name, boolean adult) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchPeopleByNameUrl(name, adult))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchPeopleByNameUrl(name, adult, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.searchPeopleByNameUrl(name, adult, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -2036,16 +2280,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray fullSearchCompanyByName(String name) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchCompanyByNameUrl(name))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchCompanyByNameUrl(name, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.searchCompanyByNameUrl(name, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -2093,16 +2328,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray fullSearchKeywordByName(String name) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchKeywordByNameUrl(name))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchKeywordByNameUrl(name, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.searchKeywordByNameUrl(name, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -2151,16 +2377,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray fullSearchListByName(String name) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchListByNameUrl(name))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchListByNameUrl(name, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.searchListByNameUrl(name, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -2209,16 +2426,7 @@ public final class TMDbAPI {
 	public static TMDbResponseArray fullSearchCollectionByName(String name) {
 		try {
 			
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchCollectionByNameUrl(name))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.searchCollectionByNameUrl(name, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.searchCollectionByNameUrl(name, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -2319,16 +2527,7 @@ public final class TMDbAPI {
 	 */
 	public static TMDbResponseArray getAllChangedMovies() {
 		try {
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedMoviesUrl())));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedMoviesUrl(p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getChangedMoviesUrl(page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -2349,16 +2548,7 @@ public final class TMDbAPI {
 	 */
 	public static TMDbResponseArray getAllChangedPersons() {
 		try {
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedPersonsUrl())));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedPersonsUrl(p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getChangedPersonsUrl(page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -2454,7 +2644,7 @@ public final class TMDbAPI {
 	/**
 	 * Gets a list of all movie ids that have been edited. 
 	 * By default we show the last 24 hours and only 100 items per page. 
-	 * The maximum number of days that can be returned in a single request is 14. 
+	 * Ranges longer than 14 days (the maximum of a single request) are split into windows fetched concurrently. 
 	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
 	 * Please note that the change log system to support this was changed on 
 	 * October 5, 2012 and will only show movies that have been edited since.
@@ -2465,16 +2655,7 @@ public final class TMDbAPI {
 	 */
 	public static TMDbResponseArray getAllChangedMovies(Date start, Date end) {
 		try {
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedMoviesUrl(start, end))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedMoviesUrl(start, end, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(start, end, TMDbURLCreator::getChangedMoviesUrl);
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -2486,7 +2667,7 @@ public final class TMDbAPI {
 	/**
 	 * Gets a list of all people ids that have been edited. 
 	 * By default we show the last 24 hours and only 100 items per page. 
-	 * The maximum number of days that can be returned in a single request is 14. 
+	 * Ranges longer than 14 days (the maximum of a single request) are split into windows fetched concurrently. 
 	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
 	 * Please note that the change log system to support this was changed on 
 	 * October 5, 2012 and will only show people that have been edited since.
@@ -2497,16 +2678,7 @@ public final class TMDbAPI {
 	 */
 	public static TMDbResponseArray getAllChangedPersons(Date start, Date end) {
 		try {
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedPersonsUrl(start, end))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedPersonsUrl(start, end, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(start, end, TMDbURLCreator::getChangedPersonsUrl);
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -2602,7 +2774,7 @@ public final class TMDbAPI {
 	/**
 	 * Gets a list of all movie ids that have been edited. 
 	 * By default we show the last 24 hours and only 100 items per page. 
-	 * The maximum number of days that can be returned in a single request is 14. 
+	 * Ranges longer than 14 days (the maximum of a single request) are split into windows fetched concurrently. 
 	 * You can then use the {@link #getMovieChanges(int) getMovieChanges} method to get the actual data that has been changed.
 	 * Please note that the change log system to support this was changed on 
 	 * October 5, 2012 and will only show movies that have been edited since.
@@ -2612,17 +2784,12 @@ public final class TMDbAPI {
 	 * @return The TMDb API response array
 	 */
 	public static TMDbResponseArray getAllChangedMovies(String start, String end) {
+		Date startDate = TMDbPagination.parseDay(start);
+		Date endDate = TMDbPagination.parseDay(end);
+		if (startDate != null && endDate != null) return getAllChangedMovies(startDate, endDate);
+		
 		try {
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedMoviesUrl(start, end))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedMoviesUrl(start, end, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getChangedMoviesUrl(start, end, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -2634,7 +2801,7 @@ public final class TMDbAPI {
 	/**
 	 * Gets a list of all people ids that have been edited. 
 	 * By default we show the last 24 hours and only 100 items per page. 
-	 * The maximum number of days that can be returned in a single request is 14. 
+	 * Ranges longer than 14 days (the maximum of a single request) are split into windows fetched concurrently. 
 	 * You can then use the {@link #getPersonChanges(int) getPersonChanges} method to get the actual data that has been changed. 
 	 * Please note that the change log system to support this was changed on 
 	 * October 5, 2012 and will only show people that have been edited since.
@@ -2644,17 +2811,12 @@ public final class TMDbAPI {
 	 * @return The TMDb API response array
 	 */
 	public static TMDbResponseArray getAllChangedPersons(String start, String end) {
+		Date startDate = TMDbPagination.parseDay(start);
+		Date endDate = TMDbPagination.parseDay(end);
+		if (startDate != null && endDate != null) return getAllChangedPersons(startDate, endDate);
+		
 		try {
-			TMDbResponseArray result = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedPersonsUrl(start, end))));
-			
-			for (int p = 2; p <= result.getPages(); p++) {
-				TMDbResponseArray page = new TMDbResponseArray(toJSON(makeApiCallGet(TMDbURLCreator.getChangedPersonsUrl(start, end, p))));
-				for (Object obj : page.getData()) {
-					result.addData((JSONObject) obj);
-				}
-			}
-			
-			return result;
+			return TMDbPagination.getAllPages(page -> TMDbURLCreator.getChangedPersonsUrl(start, end, page));
 			
 		} catch (MalformedURLException e) {
 			Log.print(e);
@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import mk.tmdb.entity.TMDbCollection;
+import mk.tmdb.entity.TMDbKeyword;
+import mk.tmdb.entity.company.TMDbCompany;
+import mk.tmdb.entity.company.TMDbCompanyThumbnail;
+import mk.tmdb.entity.movie.TMDbMovie;
+import mk.tmdb.entity.movie.TMDbMovieThumbnail;
+import mk.tmdb.entity.person.TMDbPerson;
+import mk.tmdb.entity.person.TMDbPersonThumbnail;
+import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.net.TMDbRetryPolicy;
+import mk.tmdb.response.TMDbStatus;
+import mk.tmdb.utils.Log;
+import mk.tmdb.utils.TMDbExecutors;
+
+/**
+ * Static class that loads many entities by ID.
+ * <p>
+ * The IDs are deduplicated and loaded concurrently (at most {@link #getParallelism() parallelism} 
+ * requests in flight) through the single ID methods, so the response caches and the request 
+ * coalescing of {@link TMDbAPI} apply. Every ID gets its own {@link Result}: the IDs that fail 
+ * carry the failure status and do not affect the others. The entities are loaded with the retry 
+ * policy of the calling thread.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public final class TMDbBulkLoader {
+
+	private TMDbBulkLoader() {}
+	
+	/**
+	 * Loads a single entity by ID.
+	 * 
+	 * @param <T> The type of the entity
+	 */
+	public interface Loader<T> {
+		
+		/**
+		 * Loads the entity of the given ID.
+		 * 
+		 * @param id The entity ID
+		 * @return The entity
+		 * @throws TMDbResponseException Throws whether the server response is not a success.
+		 */
+		public T load(int id) throws TMDbResponseException;
+		
+	}
+	
+	/**
+	 * The outcome of the loading of a single ID.
+	 * 
+	 * @param <T> The type of the entity
+	 */
+	public static final class Result<T> {
+		
+		private final int id;
+		private final T entity;
+		private final TMDbStatus status;
+		
+		private Result(int id, T entity, TMDbStatus status) {
+			this.id = id;
+			this.entity = entity;
+			this.status = status;
+		}
+		
+		/**
+		 * Gets the entity ID.
+		 * 
+		 * @return The entity ID
+		 */
+		public int getId() {
+			return id;
+		}
+		
+		/**
+		 * Gets the loaded entity.
+		 * 
+		 * @return The entity or null if the loading failed
+		 */
+		public T getEntity() {
+			return entity;
+		}
+		
+		/**
+		 * Gets the loading status.
+		 * 
+		 * @return NONE if the entity has been loaded, the failure status otherwise
+		 */
+		public TMDbStatus getStatus() {
+			return status;
+		}
+		
+		/**
+		 * Checks whether the entity has been loaded.
+		 * 
+		 * @return Whether the loading succeeded
+		 */
+		public boolean isSuccess() {
+			return entity != null;
+		}
+		
+		@Override
+		public String toString() {
+			return id + ": " + (isSuccess() ? entity : status.getMessage());
+		}
+	}
+	
+	//region Settings
+	
+	/**
+	 * Default maximum number of entities loaded concurrently.
+	 */
+	public static final int DEFAULT_PARALLELISM = 8;
+	
+	/**
+	 * Maximum number of entities loaded concurrently.
+	 */
+	private static volatile int parallelism = DEFAULT_PARALLELISM;
+	
+	/**
+	 * The executor that loads the entities.
+	 */
+	private static volatile Executor executor = TMDbExecutors.newBlockingExecutor("tmdb-bulk");
+	
+	/**
+	 * Gets the maximum number of entities loaded concurrently.
+	 * 
+	 * @return The maximum number of entities loaded concurrently
+	 */
+	public static int getParallelism() {
+		return parallelism;
+	}
+	
+	/**
+	 * Sets the maximum number of entities loaded concurrently (1 means sequential).
+	 * 
+	 * @param limit The maximum number of entities loaded concurrently
+	 */
+	public static void setParallelism(int limit) {
+		if (limit < 1) limit = 1;
+		parallelism = limit;
+	}
+	
+	/**
+	 * Gets the executor that loads the entities.
+	 * 
+	 * @return The executor
+	 */
+	public static Executor getExecutor() {
+		return executor;
+	}
+	
+	/**
+	 * Sets the executor that loads the entities.
+	 * 
+	 * @param newExecutor The new executor
+	 */
+	public static void setExecutor(Executor newExecutor) {
+		if (newExecutor == null) throw new IllegalArgumentException("The executor cannot be null");
+		executor = newExecutor;
+	}
+	
+	//endregion
+	
+	//region Loading
+	
+	/**
+	 * Loads the entities of the given IDs.
+	 * 
+	 * @param ids The IDs (duplicates are loaded once)
+	 * @param loader The single ID loader, e.g. <code>TMDbMovieThumbnail::getInformation</code>
+	 * @return The results by ID, following the order of the IDs
+	 */
+	public static <T> Map<Integer, Result<T>> loadAll(int[] ids, Loader<T> loader) {
+		return loadAll(IntStream.of(ids), loader);
+	}
+	
+	/**
+	 * Loads the entities of the given IDs.
+	 * 
+	 * @param ids The IDs (duplicates are loaded once)
+	 * @param loader The single ID loader, e.g. <code>TMDbMovieThumbnail::getInformation</code>
+	 * @return The results by ID, following the order of the IDs
+	 */
+	public static <T> Map<Integer, Result<T>> loadAll(IntStream ids, Loader<T> loader) {
+		Map<Integer, Result<T>> results = new LinkedHashMap<Integer, Result<T>>();
+		
+		int[] distinct = ids.distinct().toArray();
+		for (int id : distinct) {
+			results.put(id, null);
+		}
+		
+		Iterator<Result<T>> loaded = new LoadingIterator<T>(IntStream.of(distinct).iterator(), loader);
+		while (loaded.hasNext()) {
+			Result<T> result = loaded.next();
+			results.put(result.getId(), result);
+		}
+		
+		return results;
+	}
+	
+	/**
+	 * Loads lazily the entities of the given IDs: the results are produced as soon as they are loaded 
+	 * (not following the order of the IDs), and no more than {@link #getParallelism() parallelism} IDs 
+	 * are loaded ahead of the consumer, so arbitrarily long ID streams can be processed.
+	 * 
+	 * @param ids The IDs (duplicates are loaded once)
+	 * @param loader The single ID loader, e.g. <code>TMDbMovieThumbnail::getInformation</code>
+	 * @return The stream of the results
+	 */
+	public static <T> Stream<Result<T>> stream(IntStream ids, Loader<T> loader) {
+		Iterator<Result<T>> loaded = new LoadingIterator<T>(ids.distinct().iterator(), loader);
+		
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(loaded, Spliterator.NONNULL), false);
+	}
+	
+	/**
+	 * Loads a single ID, turning the failure into a result.
+	 * 
+	 * @param id The entity ID
+	 * @param loader The single ID loader
+	 * @return The result
+	 */
+	static <T> Result<T> load(int id, Loader<T> loader) {
+		try {
+			T entity = loader.load(id);
+			if (entity == null) return new Result<T>(id, null, TMDbStatus.INVALID_ID);
+			
+			return new Result<T>(id, entity, TMDbStatus.NONE);
+			
+		} catch (TMDbResponseException e) {
+			return new Result<T>(id, null, e.getStatus());
+		} catch (RuntimeException e) {
+			Log.print(e);
+			return new Result<T>(id, null, TMDbStatus.UNKNOWN_ERROR);
+		}
+	}
+	
+	/**
+	 * Iterator that keeps at most "parallelism" IDs loading and returns the results as they complete.
+	 */
+	private static final class LoadingIterator<T> implements Iterator<Result<T>> {
+		
+		private final PrimitiveIterator.OfInt ids;
+		private final Loader<T> loader;
+		private final int window = parallelism;
+		private final Executor loaderExecutor = executor;
+		private final TMDbRetryPolicy policy = TMDbAPI.getRetryPolicy();
+		private final LinkedBlockingQueue<Result<T>> completed = new LinkedBlockingQueue<Result<T>>();
+		private int inFlight = 0;
+		
+		LoadingIterator(PrimitiveIterator.OfInt ids, Loader<T> loader) {
+			this.ids = ids;
+			this.loader = loader;
+		}
+		
+		/**
+		 * Starts loading IDs until the window is full. Every started ID enqueues exactly one result, 
+		 * also when the loading throws an error or the executor rejects it.
+		 */
+		private void fill() {
+			while (inFlight < window && ids.hasNext()) {
+				final int id = ids.nextInt();
+				inFlight++;
+				try {
+					CompletableFuture.supplyAsync(() -> TMDbAPI.withRetryPolicy(policy, () -> load(id, loader)), loaderExecutor)
+						.whenComplete((result, error) -> completed.add(error == null ? result : failed(id, error)));
+				} catch (RuntimeException e) {
+					completed.add(failed(id, e));
+				}
+			}
+		}
+		
+		/**
+		 * Turns an unexpected failure into a result.
+		 * 
+		 * @param id The entity ID
+		 * @param error The failure
+		 * @return The failed result
+		 */
+		private Result<T> failed(int id, Throwable error) {
+			Log.print(error);
+			return new Result<T>(id, null, TMDbStatus.UNKNOWN_ERROR);
+		}
+		
+		@Override
+		public boolean hasNext() {
+			fill();
+			return inFlight > 0;
+		}
+		
+		@Override
+		public Result<T> next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			
+			try {
+				Result<T> result = completed.take();
+				inFlight--;
+				return result;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while loading the entities", e);
+			}
+		}
+	}
+	
+	//endregion
+	
+	//region Entities
+	
+	/**
+	 * Loads the movies of the given IDs.
+	 * 
+	 * @param movieIDs The movie IDs
+	 * @return The results by ID
+	 */
+	public static Map<Integer, Result<TMDbMovie>> loadMovies(int[] movieIDs) {
+		return loadAll(movieIDs, TMDbMovieThumbnail::getInformation);
+	}
+	
+	/**
+	 * Loads the people of the given IDs.
+	 * 
+	 * @param personIDs The person IDs
+	 * @return The results by ID
+	 */
+	public static Map<Integer, Result<TMDbPerson>> loadPeople(int[] personIDs) {
+		return loadAll(personIDs, TMDbPersonThumbnail::getInformation);
+	}
+	
+	/**
+	 * Loads the companies of the given IDs.
+	 * 
+	 * @param companyIDs The company IDs
+	 * @return The results by ID
+	 */
+	public static Map<Integer, Result<TMDbCompany>> loadCompanies(int[] companyIDs) {
+		return loadAll(companyIDs, TMDbCompanyThumbnail::getInformation);
+	}
+	
+	/**
+	 * Loads the keywords of the given IDs.
+	 * 
+	 * @param keywordIDs The keyword IDs
+	 * @return The results by ID
+	 */
+	public static Map<Integer, Result<TMDbKeyword>> loadKeywords(int[] keywordIDs) {
+		return loadAll(keywordIDs, TMDbKeyword::getInformation);
+	}
+	
+	/**
+	 * Loads the collections of the given IDs.
+	 * 
+	 * @param collectionIDs The collection IDs
+	 * @return The results by ID
+	 */
+	public static Map<Integer, Result<TMDbCollection>> loadCollections(int[] collectionIDs) {
+		return loadAll(collectionIDs, TMDbCollection::getInformation);
+	}
+	
+	//endregion
+	
+}
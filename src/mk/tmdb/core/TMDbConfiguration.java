@@ -20,22 +20,37 @@
 
 package mk.tmdb.core;
 
-import java.util.Collections;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import mk.tmdb.exception.TMDbConfigurationNotLoadedException;
 import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.json.TMDbJsonReader;
 import mk.tmdb.response.TMDbResponseObject;
-import net.sf.json.JSONArray;
-import net.sf.json.JSONObject;
+import mk.tmdb.utils.Log;
+import mk.tmdb.utils.TMDbExecutors;
 
 /**
  * Class that contains the configuration information. 
  * First of all is necessary to {@link #load() load} these information calling load method.
  * Then if you want to be sure that the configuration is up to date call the 
- * {@link #forceLoad() forceLoad} method.
+ * {@link #forceLoad() forceLoad} method, or {@link #startRefresh(long) refresh} it periodically in background.
+ * <p>
+ * The configuration is published as an immutable {@link TMDbConfigurationSnapshot} through an atomic 
+ * reference: the readers never block and never see a partially loaded configuration. If a 
+ * {@link #setCacheFile(File) cache file} is set, each loaded configuration is persisted, and the next 
+ * {@link #load()} starts from the persisted one without waiting for TMDb (the configuration is then 
+ * refreshed in background).
  * 
  * @author mirkopolato
  *
@@ -43,50 +58,44 @@ import net.sf.json.JSONObject;
 public class TMDbConfiguration {
 	
 	/**
-	 * Base URL for getting the images.
+	 * The current configuration snapshot (null if not loaded yet).
 	 */
-	private static String url;
+	private static final AtomicReference<TMDbConfigurationSnapshot> snapshot = new AtomicReference<TMDbConfigurationSnapshot>();
 	
 	/**
-	 * Base secure URL (https) for getting the images.
+	 * Serializes the loadings, so a slow loading never replaces the result of a later one.
 	 */
-	private static String secureUrl;
+	private static final Object loadLock = new Object();
 	
 	/**
-	 * List of poster sizes.
+	 * The file where the configuration is persisted (null if not persisted).
 	 */
-	private static List<String> posterSizes = Collections.synchronizedList(new LinkedList<String>());
+	private static volatile File cacheFile = null;
 	
 	/**
-	 * List of backdrop sizes.
+	 * The background refresh scheduler.
 	 */
-	private static List<String> backdropSizes = Collections.synchronizedList(new LinkedList<String>());
+	private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(TMDbExecutors.daemonThreadFactory("tmdb-configuration"));
 	
 	/**
-	 * List of profile sizes.
+	 * The periodic refresh task.
 	 */
-	private static List<String> profileSizes = Collections.synchronizedList(new LinkedList<String>());
+	private static ScheduledFuture<?> refresh = null;
 	
-	/**
-	 * List of logo sizes.
-	 */
-	private static List<String> logoSizes = Collections.synchronizedList(new LinkedList<String>());
-	
-	/**
-	 * List of change keys.
-	 */
-	private static List<String> changeKeys = Collections.synchronizedList(new LinkedList<String>());
+	//region Snapshot
 	
 	/**
-	 * Whether the configuration information has been loaded or not.
-	 */
-	private static boolean loaded = false;
-	
-	/**
-	 * Last time when the configuration information has been loaded.
+	 * Gets the current configuration snapshot. Hold the returned snapshot to read several values 
+	 * of the same configuration.
+	 * 
+	 * @return The configuration snapshot
+	 * @throws TMDbConfigurationNotLoadedException Throws if the load method has not been called before
 	 */
-	private static Date loadedTime = null;
-
+	public static TMDbConfigurationSnapshot getSnapshot() throws TMDbConfigurationNotLoadedException {
+		TMDbConfigurationSnapshot current = snapshot.get();
+		if (current == null) throw new TMDbConfigurationNotLoadedException();
+		return current;
+	}
 	
 	/**
 	 * Gets the base URL.
@@ -95,8 +104,7 @@ public class TMDbConfiguration {
 	 * @throws TMDbConfigurationNotLoadedException Throws if the load method has not been called before
 	 */
 	public static String getUrl() throws TMDbConfigurationNotLoadedException {
-		if (!loaded) throw new TMDbConfigurationNotLoadedException();
-		return url;
+		return getSnapshot().getUrl();
 	}
 
 	/**
@@ -106,8 +114,7 @@ public class TMDbConfiguration {
 	 * @throws TMDbConfigurationNotLoadedException Throws if the load method has not been called before
 	 */
 	public static String getSecureUrl() throws TMDbConfigurationNotLoadedException {
-		if (!loaded) throw new TMDbConfigurationNotLoadedException();
-		return secureUrl;
+		return getSnapshot().getSecureUrl();
 	}
 
 	/**
@@ -117,8 +124,7 @@ public class TMDbConfiguration {
 	 * @throws TMDbConfigurationNotLoadedException Throws if the load method has not been called before
 	 */
 	public static List<String> getPosterSizes() throws TMDbConfigurationNotLoadedException {
-		if (!loaded) throw new TMDbConfigurationNotLoadedException();
-		return posterSizes;
+		return getSnapshot().getPosterSizes();
 	}
 
 	/**
@@ -128,8 +134,7 @@ public class TMDbConfiguration {
 	 * @throws TMDbConfigurationNotLoadedException Throws if the load method has not been called before
 	 */
 	public static List<String> getBackdropSizes() throws TMDbConfigurationNotLoadedException {
-		if (!loaded) throw new TMDbConfigurationNotLoadedException();
-		return backdropSizes;
+		return getSnapshot().getBackdropSizes();
 	}
 
 	/**
@@ -139,8 +144,7 @@ public class TMDbConfiguration {
 	 * @throws TMDbConfigurationNotLoadedException Throws if the load method has not been called before
 	 */
 	public static List<String> getProfileSizes() throws TMDbConfigurationNotLoadedException {
-		if (!loaded) throw new TMDbConfigurationNotLoadedException();
-		return profileSizes;
+		return getSnapshot().getProfileSizes();
 	}
 
 	/**
@@ -150,8 +154,7 @@ public class TMDbConfiguration {
 	 * @throws TMDbConfigurationNotLoadedException Throws if the load method has not been called before
 	 */
 	public static List<String> getLogoSizes() throws TMDbConfigurationNotLoadedException {
-		if (!loaded) throw new TMDbConfigurationNotLoadedException();
-		return logoSizes;
+		return getSnapshot().getLogoSizes();
 	}
 
 	/**
@@ -161,8 +164,7 @@ public class TMDbConfiguration {
 	 * @throws TMDbConfigurationNotLoadedException Throws if the load method has not been called before
 	 */
 	public static List<String> getChangeKeys() throws TMDbConfigurationNotLoadedException {
-		if (!loaded) throw new TMDbConfigurationNotLoadedException();
-		return changeKeys;
+		return getSnapshot().getChangeKeys();
 	}
 
 	/**
@@ -171,7 +173,7 @@ public class TMDbConfiguration {
 	 * @return Whether the configuration information has been loaded.
 	 */
 	public static boolean isLoaded() {
-		return loaded;
+		return snapshot.get() != null;
 	}
 
 	/**
@@ -180,66 +182,148 @@ public class TMDbConfiguration {
 	 * @return The last time that the configuration information has been loaded.
 	 */
 	public static Date getLoadedTime() {
-		return loadedTime;
+		TMDbConfigurationSnapshot current = snapshot.get();
+		return current != null ? current.getLoadedTime() : null;
 	}
+	
+	//endregion
+	
+	//region Loading
 
 	/**
-	 * Loads the configuration information (if it was not already loaded). 
+	 * Loads the configuration information (if it was not already loaded). If the cache file holds 
+	 * a persisted configuration it is used immediately and refreshed in background, otherwise the 
+	 * configuration is retrieved from TMDb.
 	 * 
 	 * @throws TMDbResponseException Throws if the API call is failed for some reason.
 	 */
 	public static void load() throws TMDbResponseException {
-			
-		if (loaded) return;
+		if (isLoaded()) return;
 		
-		TMDbResponseObject response = TMDbAPI.getConfiguration(); 
-		
-		if (response.hasError()) {
-			throw new TMDbResponseException(response.getStatus());
+		TMDbConfigurationSnapshot persisted = readCacheFile();
+		if (persisted != null && snapshot.compareAndSet(null, persisted)) {
+			scheduler.execute(TMDbConfiguration::refreshQuietly);
+			return;
 		}
 		
-		JSONObject json = response.getData().getJSONObject(TMDbConstants.IMAGES);
-		
-		url = json.getString(TMDbConstants.BASE_URL);
-		secureUrl = json.getString(TMDbConstants.SECURE_URL);
-		
-		JSONArray posters = json.getJSONArray(TMDbConstants.POSTER_SIZES);
-		for (Object obj : posters) {
-			posterSizes.add((String) obj);
-		}
-		
-		JSONArray backdrops = json.getJSONArray(TMDbConstants.BACKDROP_SIZES);
-		for (Object obj : backdrops) {
-			backdropSizes.add((String) obj);
+		synchronized (TMDbConfiguration.class) {
+			if (!isLoaded()) forceLoad();
 		}
-		
-		JSONArray profiles = json.getJSONArray(TMDbConstants.PROFILE_SIZES);
-		for (Object obj : profiles) {
-			profileSizes.add((String) obj);
+	}
+	
+	/**
+	 * Forces the loading of the configuration information. The current configuration is replaced 
+	 * only if the new one is successfully retrieved. Concurrent loadings are performed one at a time.
+	 * 
+	 * @throws TMDbResponseException Throws if the API call fail for some reason.
+	 */
+	public static void forceLoad() throws TMDbResponseException {
+		synchronized (loadLock) {
+			TMDbResponseObject response = TMDbAPI.getConfiguration(); 
+			
+			if (response.hasError()) {
+				throw new TMDbResponseException(response.getStatus());
+			}
+			
+			TMDbConfigurationSnapshot loaded = new TMDbConfigurationSnapshot(response.getData(), System.currentTimeMillis());
+			snapshot.set(loaded);
+			writeCacheFile(loaded);
 		}
-		
-		JSONArray logos = json.getJSONArray(TMDbConstants.LOGO_SIZES);
-		for (Object obj : logos) {
-			logoSizes.add((String) obj);
+	}
+	
+	/**
+	 * Forces the loading of the configuration information, logging the failures.
+	 */
+	private static void refreshQuietly() {
+		try {
+			forceLoad();
+		} catch (TMDbResponseException | RuntimeException e) {
+			Log.print(e);
 		}
+	}
+	
+	/**
+	 * Starts refreshing the configuration periodically in background. A failed refresh keeps 
+	 * the current configuration.
+	 * 
+	 * @param periodMillis The time between two refreshes
+	 */
+	public static synchronized void startRefresh(long periodMillis) {
+		if (refresh != null) refresh.cancel(false);
+		refresh = scheduler.scheduleWithFixedDelay(TMDbConfiguration::refreshQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Stops refreshing the configuration periodically.
+	 */
+	public static synchronized void stopRefresh() {
+		if (refresh != null) refresh.cancel(false);
+		refresh = null;
+	}
+	
+	//endregion
+	
+	//region Persistence
+	
+	/**
+	 * Gets the file where the configuration is persisted.
+	 * 
+	 * @return The cache file or null
+	 */
+	public static File getCacheFile() {
+		return cacheFile;
+	}
+	
+	/**
+	 * Sets the file where the configuration is persisted (null to disable the persistence).
+	 * 
+	 * @param file The cache file
+	 */
+	public static void setCacheFile(File file) {
+		cacheFile = file;
+	}
+	
+	/**
+	 * Reads the persisted configuration.
+	 * 
+	 * @return The persisted configuration or null if there is not a valid one
+	 */
+	private static TMDbConfigurationSnapshot readCacheFile() {
+		File file = cacheFile;
+		if (file == null || !file.isFile()) return null;
 		
-		JSONArray keys = response.getData().getJSONArray(TMDbConstants.CHANGE_KEYS);
-		for (Object obj : keys) {
-			changeKeys.add((String) obj);
+		try {
+			String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+			return TMDbConfigurationSnapshot.fromJSON(TMDbJsonReader.parseObject(json));
+		} catch (IOException | RuntimeException e) {
+			Log.print(e);
+			return null;
 		}
-		
-		loaded = true;
-		loadedTime = new Date();
 	}
 	
 	/**
-	 * Forces the loading of the configuration information.
+	 * Persists the configuration. The file is replaced atomically, so a crash never leaves a partial file, 
+	 * and the temporary file is deleted if the writing fails.
 	 * 
-	 * @throws TMDbResponseException Throws if the API call fail for some reason.
+	 * @param configuration The configuration
 	 */
-	public void forceLoad() throws TMDbResponseException {
-		loaded = false;
-		load();
+	private static void writeCacheFile(TMDbConfigurationSnapshot configuration) {
+		File file = cacheFile;
+		if (file == null) return;
+		
+		File temp = null;
+		try {
+			File parent = file.getAbsoluteFile().getParentFile();
+			temp = File.createTempFile(file.getName(), ".tmp", parent);
+			Files.write(temp.toPath(), configuration.toJSON().toString().getBytes(StandardCharsets.UTF_8));
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			Log.print(e);
+		} finally {
+			if (temp != null && temp.exists() && !temp.delete()) temp.deleteOnExit();
+		}
 	}
 	
+	//endregion
+	
 }
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.core;
+
+import java.util.Date;
+import java.util.List;
+
+import mk.tmdb.utils.TMDbImmutableList;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Immutable snapshot of the configuration information. A snapshot never changes after it has been 
+ * created: a new configuration is published by {@link TMDbConfiguration} as a new snapshot, so the 
+ * readers that hold a snapshot always see a consistent configuration without locking.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public final class TMDbConfigurationSnapshot {
+
+	/**
+	 * The key of the loading time in the persisted JSON object.
+	 */
+	private static final String LOADED_TIME = "loaded_time";
+	
+	private final String url;
+	private final String secureUrl;
+	private final List<String> posterSizes;
+	private final List<String> backdropSizes;
+	private final List<String> profileSizes;
+	private final List<String> logoSizes;
+	private final List<String> changeKeys;
+	private final long loadedTime;
+	
+	/**
+	 * Creates a new snapshot from the response data of the configuration API method.
+	 * 
+	 * @param json The configuration data
+	 * @param loadedTime The time when the data have been retrieved (milliseconds since the epoch)
+	 */
+	public TMDbConfigurationSnapshot(JSONObject json, long loadedTime) {
+		JSONObject images = json.getJSONObject(TMDbConstants.IMAGES);
+		
+		this.url = images.getString(TMDbConstants.BASE_URL);
+		this.secureUrl = images.getString(TMDbConstants.SECURE_URL);
+		this.posterSizes = toList(images.getJSONArray(TMDbConstants.POSTER_SIZES));
+		this.backdropSizes = toList(images.getJSONArray(TMDbConstants.BACKDROP_SIZES));
+		this.profileSizes = toList(images.getJSONArray(TMDbConstants.PROFILE_SIZES));
+		this.logoSizes = toList(images.getJSONArray(TMDbConstants.LOGO_SIZES));
+		this.changeKeys = toList(json.getJSONArray(TMDbConstants.CHANGE_KEYS));
+		this.loadedTime = loadedTime;
+	}
+	
+	/**
+	 * Creates a snapshot from a JSON object made by {@link #toJSON()}.
+	 * 
+	 * @param json The persisted JSON object
+	 * @return The snapshot
+	 */
+	public static TMDbConfigurationSnapshot fromJSON(JSONObject json) {
+		return new TMDbConfigurationSnapshot(json, json.getLong(LOADED_TIME));
+	}
+	
+	/**
+	 * Converts the snapshot into a JSON object with the same form of the configuration response 
+	 * data, plus its loading time.
+	 * 
+	 * @return The JSON object
+	 */
+	public JSONObject toJSON() {
+		JSONObject images = new JSONObject();
+		images.put(TMDbConstants.BASE_URL, url);
+		images.put(TMDbConstants.SECURE_URL, secureUrl);
+		images.put(TMDbConstants.POSTER_SIZES, JSONArray.fromObject(posterSizes));
+		images.put(TMDbConstants.BACKDROP_SIZES, JSONArray.fromObject(backdropSizes));
+		images.put(TMDbConstants.PROFILE_SIZES, JSONArray.fromObject(profileSizes));
+		images.put(TMDbConstants.LOGO_SIZES, JSONArray.fromObject(logoSizes));
+		
+		JSONObject json = new JSONObject();
+		json.put(TMDbConstants.IMAGES, images);
+		json.put(TMDbConstants.CHANGE_KEYS, JSONArray.fromObject(changeKeys));
+		json.put(LOADED_TIME, loadedTime);
+		
+		return json;
+	}
+	
+	/**
+	 * Converts a JSON array of strings.
+	 * 
+	 * @param array The JSON array
+	 * @return The immutable list of strings
+	 */
+	private static List<String> toList(JSONArray array) {
+		return TMDbImmutableList.of(array, obj -> (String) obj);
+	}
+	
+	//region Getters
+	
+	/**
+	 * Gets the base URL for getting the images.
+	 * 
+	 * @return The base URL
+	 */
+	public String getUrl() {
+		return url;
+	}
+	
+	/**
+	 * Gets the secure (https) base URL for getting the images.
+	 * 
+	 * @return The secure base URL
+	 */
+	public String getSecureUrl() {
+		return secureUrl;
+	}
+	
+	/**
+	 * Gets the poster sizes.
+	 * 
+	 * @return The poster sizes
+	 */
+	public List<String> getPosterSizes() {
+		return posterSizes;
+	}
+	
+	/**
+	 * Gets the backdrop sizes.
+	 * 
+	 * @return The backdrop sizes
+	 */
+	public List<String> getBackdropSizes() {
+		return backdropSizes;
+	}
+	
+	/**
+	 * Gets the profile sizes.
+	 * 
+	 * @return The profile sizes
+	 */
+	public List<String> getProfileSizes() {
+		return profileSizes;
+	}
+	
+	/**
+	 * Gets the logo sizes.
+	 * 
+	 * @return The logo sizes
+	 */
+	public List<String> getLogoSizes() {
+		return logoSizes;
+	}
+	
+	/**
+	 * Gets the change keys.
+	 * 
+	 * @return The change keys
+	 */
+	public List<String> getChangeKeys() {
+		return changeKeys;
+	}
+	
+	/**
+	 * Gets the time when the configuration information has been retrieved.
+	 * 
+	 * @return The loading time
+	 */
+	public Date getLoadedTime() {
+		return new Date(loadedTime);
+	}
+	
+	/**
+	 * Gets the age of the configuration information.
+	 * 
+	 * @return The milliseconds since the configuration information has been retrieved
+	 */
+	public long getAge() {
+		return System.currentTimeMillis() - loadedTime;
+	}
+	
+	//endregion
+	
+}
@@ -35,6 +35,7 @@ public final class TMDbConstants {
 	public static final String ALT_TITLES = "alternative_titles";
 	public static final String API_BASE_URL = "http://api.themoviedb.org/";
 	public static final String API_KEY = "?api_key";
+	public static final String APPEND_TO_RESPONSE = "append_to_response";
 	public static final String AUTHENTICATION = "authentication/";
 	public static final String AVERAGE = "vote_average";
 	public static final String BACKDROP_PATH = "backdrop_path";
@@ -0,0 +1,697 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.core;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mk.tmdb.cache.TMDbImageStore;
+import mk.tmdb.entity.image.TMDbImage;
+import mk.tmdb.entity.image.TMDbImageResolver;
+import mk.tmdb.entity.movie.TMDbMovieThumbnail;
+import mk.tmdb.entity.person.TMDbPersonThumbnail;
+import mk.tmdb.exception.TMDbConfigurationNotLoadedException;
+import mk.tmdb.exception.TMDbImageSizeNotSupportedException;
+import mk.tmdb.net.TMDbPooledTransport;
+import mk.tmdb.net.TMDbTransport;
+import mk.tmdb.utils.Log;
+import mk.tmdb.utils.TMDbExecutors;
+import mk.tmdb.utils.TMDbImageScaler;
+import mk.tmdb.utils.TMDbSize;
+
+/**
+ * Downloads the image files into a {@link TMDbImageStore}.
+ * <p>
+ * The downloads run in background on a pool of {@link #getMaxConcurrent() maxConcurrent} threads, 
+ * the others wait in its queue without holding a thread, and the response body is streamed to the store through a channel transfer. The images 
+ * already stored are returned without any request, and the concurrent requests of the same image 
+ * (same path and size) share a single download.
+ * <p>
+ * Several sizes of the same image can be obtained with a single download: 
+ * {@link #fetchVariants(TMDbImageResolver.Type, String, TMDbSize...) fetchVariants} downloads the 
+ * size needed by the largest variant and derives the others locally with {@link TMDbImageScaler}, 
+ * on a pool of worker threads. The derived variants are stored next to the downloaded one, so 
+ * they are also returned by the plain fetch methods.
+ * <p>
+ * The image URLs are resolved with the shared {@link TMDbImageResolver}, so the configuration 
+ * must be loaded.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbImageFetcher implements Closeable {
+
+	/**
+	 * Opens the content of an image URL.
+	 * 
+	 * @author Mirko Polato
+	 *
+	 */
+	@FunctionalInterface
+	public interface Connector {
+		
+		/**
+		 * Opens the content of the given URL.
+		 * 
+		 * @param url The image URL
+		 * @param readTimeout The read timeout in milliseconds
+		 * @return The image content
+		 * @throws IOException Throws if the content cannot be opened or the server reports an error
+		 */
+		public InputStream open(URL url, int readTimeout) throws IOException;
+	}
+	
+	//region Fields
+	
+	/**
+	 * Default maximum number of concurrent downloads.
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT = 6;
+	
+	/**
+	 * Default read timeout of a download (30 seconds).
+	 */
+	public static final int DEFAULT_READ_TIMEOUT = 30000;
+	
+	/**
+	 * The store of the downloaded images.
+	 */
+	private final TMDbImageStore store;
+	
+	/**
+	 * The maximum number of concurrent downloads.
+	 */
+	private final int maxConcurrent;
+	
+	/**
+	 * The executor that runs the downloads, one thread per concurrent download.
+	 */
+	private final ExecutorService executor;
+	
+	/**
+	 * The executor that derives the variants, one thread per processor.
+	 */
+	private final ExecutorService resizer = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), 
+																		 TMDbExecutors.daemonThreadFactory("tmdb-image-resize"));
+	
+	/**
+	 * The downloads in flight, by store key.
+	 */
+	private final ConcurrentMap<String, CompletableFuture<File>> inFlight = new ConcurrentHashMap<String, CompletableFuture<File>>();
+	
+	/**
+	 * The connector that opens the image URLs.
+	 */
+	private volatile Connector connector = TMDbImageFetcher::openConnection;
+	
+	private volatile boolean secure = false;
+	private volatile int readTimeout = DEFAULT_READ_TIMEOUT;
+	
+	private final AtomicLong downloads = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+	private final AtomicLong derivations = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+	
+	//endregion
+	
+	/**
+	 * Creates a new fetcher with the default maximum number of concurrent downloads.
+	 * 
+	 * @param store The store of the downloaded images
+	 */
+	public TMDbImageFetcher(TMDbImageStore store) {
+		this(store, DEFAULT_MAX_CONCURRENT);
+	}
+	
+	/**
+	 * Creates a new fetcher.
+	 * 
+	 * @param store The store of the downloaded images
+	 * @param maxConcurrent The maximum number of concurrent downloads
+	 */
+	public TMDbImageFetcher(TMDbImageStore store, int maxConcurrent) {
+		if (maxConcurrent < 1) throw new IllegalArgumentException("At least one concurrent download is required");
+		
+		this.store = store;
+		this.maxConcurrent = maxConcurrent;
+		this.executor = Executors.newFixedThreadPool(maxConcurrent, TMDbExecutors.daemonThreadFactory("tmdb-image"));
+	}
+	
+	//region Settings
+	
+	/**
+	 * Gets the store of the downloaded images.
+	 * 
+	 * @return The image store
+	 */
+	public TMDbImageStore getStore() {
+		return store;
+	}
+	
+	/**
+	 * Gets the maximum number of concurrent downloads.
+	 * 
+	 * @return The maximum number of concurrent downloads
+	 */
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+	
+	/**
+	 * Checks whether the images are downloaded through secure URLs.
+	 * 
+	 * @return Whether the URLs are secure
+	 */
+	public boolean isSecure() {
+		return secure;
+	}
+	
+	/**
+	 * Sets whether the images are downloaded through secure URLs.
+	 * 
+	 * @param secure Whether the URLs have to be secure
+	 */
+	public void setSecure(boolean secure) {
+		this.secure = secure;
+	}
+	
+	/**
+	 * Gets the read timeout of a download.
+	 * 
+	 * @return The read timeout in milliseconds
+	 */
+	public int getReadTimeout() {
+		return readTimeout;
+	}
+	
+	/**
+	 * Sets the read timeout of a download.
+	 * 
+	 * @param readTimeout The new read timeout in milliseconds
+	 */
+	public void setReadTimeout(int readTimeout) {
+		this.readTimeout = readTimeout;
+	}
+	
+	/**
+	 * Sets the connector that opens the image URLs. The default one uses {@link HttpURLConnection}.
+	 * 
+	 * @param connector The new connector
+	 */
+	public void setConnector(Connector connector) {
+		if (connector == null) throw new IllegalArgumentException("The connector cannot be null");
+		this.connector = connector;
+	}
+	
+	//endregion
+	
+	//region Fetch
+	
+	/**
+	 * Fetches the image in the given size.
+	 * 
+	 * @param image The image
+	 * @param size The image size
+	 * @return The future image file, or a future completed with null if the image has no path
+	 */
+	public CompletableFuture<File> fetch(TMDbImage image, TMDbSize size) {
+		return fetch(image.getType(), image.getPath(), size);
+	}
+	
+	/**
+	 * Fetches the image in the size that best fits the given width.
+	 * 
+	 * @param image The image
+	 * @param width The target width in pixels
+	 * @return The future image file, or a future completed with null if the image has no path
+	 */
+	public CompletableFuture<File> fetch(TMDbImage image, int width) {
+		return fetch(image.getType(), image.getPath(), width);
+	}
+	
+	/**
+	 * Fetches the image with the given type and path in the given size.
+	 * 
+	 * @param type The image type
+	 * @param path The image path (e.g. the poster path of a movie)
+	 * @param size The image size
+	 * @return The future image file, or a future completed with null if the path is null
+	 */
+	public CompletableFuture<File> fetch(TMDbImageResolver.Type type, String path, TMDbSize size) {
+		if (path == null) return CompletableFuture.completedFuture(null);
+		
+		try {
+			
+			TMDbImageResolver resolver = TMDbImageResolver.getInstance(secure);
+			if (!resolver.isSupported(type, size)) throw new TMDbImageSizeNotSupportedException();
+			
+			return fetch(size.toString(), path, resolver.getUrl(type, path, size));
+			
+		} catch (TMDbConfigurationNotLoadedException | TMDbImageSizeNotSupportedException e) {
+			return failed(e);
+		}
+	}
+	
+	/**
+	 * Fetches the image with the given type and path in the size that best fits the given width.
+	 * 
+	 * @param type The image type
+	 * @param path The image path (e.g. the poster path of a movie)
+	 * @param width The target width in pixels
+	 * @return The future image file, or a future completed with null if the path is null
+	 */
+	public CompletableFuture<File> fetch(TMDbImageResolver.Type type, String path, int width) {
+		if (path == null) return CompletableFuture.completedFuture(null);
+		
+		try {
+			
+			TMDbImageResolver resolver = TMDbImageResolver.getInstance(secure);
+			return fetch(resolver.getBestSize(type, width), path, resolver.getUrl(type, path, width));
+			
+		} catch (TMDbConfigurationNotLoadedException e) {
+			return failed(e);
+		}
+	}
+	
+	/**
+	 * Fetches all the given images in the size that best fits the given width. The failed 
+	 * downloads are logged and do not fail the others.
+	 * 
+	 * @param images The images
+	 * @param width The target width in pixels
+	 * @return The future image files, aligned with the images (null for the images without a 
+	 * path and for the failed downloads)
+	 */
+	public CompletableFuture<List<File>> fetchAll(List<? extends TMDbImage> images, int width) {
+		List<CompletableFuture<File>> files = new ArrayList<CompletableFuture<File>>(images.size());
+		for (TMDbImage image : images) {
+			files.add(fetch(image, width));
+		}
+		
+		return join(files);
+	}
+	
+	/**
+	 * Fetches the posters of all the given movies (e.g. the ones returned by 
+	 * {@link TMDbMovieThumbnail#getAllPopularMovies()}) in the size that best fits the given width. 
+	 * The failed downloads are logged and do not fail the others.
+	 * 
+	 * @param movies The movies
+	 * @param width The target width in pixels
+	 * @return The future poster files, aligned with the movies (null for the movies without a 
+	 * poster and for the failed downloads)
+	 */
+	public CompletableFuture<List<File>> fetchPosters(Collection<? extends TMDbMovieThumbnail> movies, int width) {
+		List<CompletableFuture<File>> files = new ArrayList<CompletableFuture<File>>(movies.size());
+		for (TMDbMovieThumbnail movie : movies) {
+			files.add(fetch(TMDbImageResolver.Type.POSTER, movie.getPosterPath(), width));
+		}
+		
+		return join(files);
+	}
+	
+	/**
+	 * Fetches the profile images of all the given people in the size that best fits the given 
+	 * width. The failed downloads are logged and do not fail the others.
+	 * 
+	 * @param people The people
+	 * @param width The target width in pixels
+	 * @return The future profile files, aligned with the people (null for the people without a 
+	 * profile image and for the failed downloads)
+	 */
+	public CompletableFuture<List<File>> fetchProfiles(Collection<? extends TMDbPersonThumbnail> people, int width) {
+		List<CompletableFuture<File>> files = new ArrayList<CompletableFuture<File>>(people.size());
+		for (TMDbPersonThumbnail person : people) {
+			files.add(fetch(TMDbImageResolver.Type.PROFILE, person.getProfilePath(), width));
+		}
+		
+		return join(files);
+	}
+	
+	/**
+	 * Fetches the given sizes of the image, downloading only the size needed by the largest one 
+	 * and deriving the others locally. The sizes already stored are not fetched again.
+	 * 
+	 * @param image The image
+	 * @param sizes The image sizes
+	 * @return The future image files by size, or a future completed with null if the image has no path
+	 */
+	public CompletableFuture<Map<TMDbSize, File>> fetchVariants(TMDbImage image, TMDbSize... sizes) {
+		return fetchVariants(image.getType(), image.getPath(), sizes);
+	}
+	
+	/**
+	 * Fetches the given sizes of the image with the given type and path, downloading only the 
+	 * size needed by the largest one and deriving the others locally. If all the sizes are widths 
+	 * the downloaded size is the smallest supported one that is at least as wide as the largest 
+	 * width, otherwise it is the original size. The sizes already stored are not fetched again.
+	 * <p>
+	 * As for {@link #fetch(TMDbImageResolver.Type, String, TMDbSize) fetch}, all the sizes must be 
+	 * supported by the image type, otherwise the future fails with a {@link TMDbImageSizeNotSupportedException}.
+	 * 
+	 * @param type The image type
+	 * @param path The image path (e.g. the poster path of a movie)
+	 * @param sizes The image sizes
+	 * @return The future image files by size, or a future completed with null if the path is null
+	 */
+	public CompletableFuture<Map<TMDbSize, File>> fetchVariants(TMDbImageResolver.Type type, String path, TMDbSize... sizes) {
+		if (path == null) return CompletableFuture.completedFuture(null);
+		
+		TMDbImageResolver resolver;
+		try {
+			
+			resolver = TMDbImageResolver.getInstance(secure);
+			for (TMDbSize size : sizes) {
+				if (!resolver.isSupported(type, size)) throw new TMDbImageSizeNotSupportedException();
+			}
+			
+		} catch (TMDbConfigurationNotLoadedException | TMDbImageSizeNotSupportedException e) {
+			return failed(e);
+		}
+		
+		final Map<TMDbSize, CompletableFuture<File>> variants = new EnumMap<TMDbSize, CompletableFuture<File>>(TMDbSize.class);
+		List<TMDbSize> missing = new ArrayList<TMDbSize>(sizes.length);
+		int target = 0;
+		
+		for (TMDbSize size : sizes) {
+			File stored = store.get(size.toString(), path);
+			if (stored != null) {
+				variants.put(size, CompletableFuture.completedFuture(stored));
+			} else {
+				missing.add(size);
+			}
+			target = size.getWidth() > 0 ? Math.max(target, size.getWidth()) : Integer.MAX_VALUE;
+		}
+		
+		if (!missing.isEmpty()) {
+			String sourceSize = resolver.getBestSize(type, target);
+			CompletableFuture<File> source = fetch(sourceSize, path, resolver.getUrl(type, path, target));
+			
+			for (TMDbSize size : missing) {
+				variants.put(size, size.toString().equals(sourceSize) ? source : derive(size, path, source));
+			}
+		}
+		
+		return CompletableFuture.allOf(variants.values().toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+			Map<TMDbSize, File> files = new EnumMap<TMDbSize, File>(TMDbSize.class);
+			for (Map.Entry<TMDbSize, CompletableFuture<File>> variant : variants.entrySet()) {
+				files.put(variant.getKey(), variant.getValue().join());
+			}
+			return files;
+		});
+	}
+	
+	/**
+	 * Fetches the given sizes of the posters of all the given movies, downloading a single size 
+	 * for each poster (see {@link #fetchVariants(TMDbImageResolver.Type, String, TMDbSize...) fetchVariants}). 
+	 * The failed posters are logged and do not fail the others.
+	 * 
+	 * @param movies The movies
+	 * @param sizes The poster sizes
+	 * @return The future poster files by size, aligned with the movies (null for the movies 
+	 * without a poster and for the failed posters)
+	 */
+	public CompletableFuture<List<Map<TMDbSize, File>>> fetchPosterVariants(Collection<? extends TMDbMovieThumbnail> movies, TMDbSize... sizes) {
+		List<CompletableFuture<Map<TMDbSize, File>>> files = new ArrayList<CompletableFuture<Map<TMDbSize, File>>>(movies.size());
+		for (TMDbMovieThumbnail movie : movies) {
+			files.add(fetchVariants(TMDbImageResolver.Type.POSTER, movie.getPosterPath(), sizes));
+		}
+		
+		return join(files);
+	}
+	
+	/**
+	 * Stops the fetcher: the queued downloads and derivations are not started. The store is not closed.
+	 */
+	@Override
+	public void close() {
+		executor.shutdown();
+		resizer.shutdown();
+	}
+	
+	//endregion
+	
+	//region Statistics
+	
+	/**
+	 * Gets the number of images downloaded.
+	 * 
+	 * @return The number of downloads
+	 */
+	public long getDownloadCount() {
+		return downloads.get();
+	}
+	
+	/**
+	 * Gets the number of requests served by a download of the same image already in flight.
+	 * 
+	 * @return The number of coalesced requests
+	 */
+	public long getCoalescedCount() {
+		return coalesced.get();
+	}
+	
+	/**
+	 * Gets the number of image sizes derived locally instead of being downloaded.
+	 * 
+	 * @return The number of derivations
+	 */
+	public long getDerivationCount() {
+		return derivations.get();
+	}
+	
+	/**
+	 * Gets the number of failed downloads and derivations.
+	 * 
+	 * @return The number of failures
+	 */
+	public long getFailureCount() {
+		return failures.get();
+	}
+	
+	/**
+	 * Gets the number of downloads and derivations in flight (running or waiting).
+	 * 
+	 * @return The number of downloads and derivations in flight
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+	
+	//endregion
+	
+	//region Download
+	
+	/**
+	 * Returns the stored image, or joins its download in flight, or starts its download.
+	 */
+	private CompletableFuture<File> fetch(final String size, final String path, final String url) {
+		
+		File stored = store.get(size, path);
+		if (stored != null) return CompletableFuture.completedFuture(stored);
+		
+		final String key = size + path;
+		final CompletableFuture<File> flight = new CompletableFuture<File>();
+		CompletableFuture<File> leader = inFlight.putIfAbsent(key, flight);
+		if (leader != null) {
+			coalesced.incrementAndGet();
+			return leader;
+		}
+		
+		try {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						flight.complete(download(size, path, url));
+					} catch (IOException | RuntimeException e) {
+						failures.incrementAndGet();
+						flight.completeExceptionally(e);
+					} finally {
+						inFlight.remove(key, flight);
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+			// The fetcher has been closed.
+			inFlight.remove(key, flight);
+			flight.completeExceptionally(e);
+		}
+		
+		return flight;
+	}
+	
+	/**
+	 * Downloads an image into the store.
+	 */
+	private File download(String size, String path, String url) throws IOException {
+		
+		// Stored by a download completed while this one was queued.
+		if (store.contains(size, path)) {
+			File stored = store.get(size, path);
+			if (stored != null) return stored;
+		}
+		
+		InputStream in = connector.open(new URL(url), readTimeout);
+		try {
+			ReadableByteChannel channel = Channels.newChannel(in);
+			File file = store.put(size, path, channel);
+			downloads.incrementAndGet();
+			return file;
+		} finally {
+			in.close();
+		}
+	}
+	
+	/**
+	 * Derives a size of an image from its source file once it has been fetched, or joins the 
+	 * derivation (or download) of the same size already in flight.
+	 */
+	private CompletableFuture<File> derive(final TMDbSize size, final String path, CompletableFuture<File> source) {
+		
+		final String key = size + path;
+		final CompletableFuture<File> flight = new CompletableFuture<File>();
+		CompletableFuture<File> leader = inFlight.putIfAbsent(key, flight);
+		if (leader != null) {
+			coalesced.incrementAndGet();
+			return leader;
+		}
+		
+		source.whenComplete((file, error) -> {
+			if (error != null) {
+				inFlight.remove(key, flight);
+				flight.completeExceptionally(error);
+				return;
+			}
+			
+			try {
+				resizer.execute(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							flight.complete(derive(size, path, file));
+						} catch (IOException | RuntimeException e) {
+							failures.incrementAndGet();
+							flight.completeExceptionally(e);
+						} finally {
+							inFlight.remove(key, flight);
+						}
+					}
+				});
+			} catch (RuntimeException e) {
+				// The fetcher has been closed.
+				inFlight.remove(key, flight);
+				flight.completeExceptionally(e);
+			}
+		});
+		
+		return flight;
+	}
+	
+	/**
+	 * Derives a size of an image from its source file into the store.
+	 */
+	private File derive(TMDbSize size, String path, File source) throws IOException {
+		
+		File stored = store.contains(size.toString(), path) ? store.get(size.toString(), path) : null;
+		if (stored != null) return stored;
+		
+		File temp = store.createTempFile();
+		try {
+			TMDbImageScaler.resize(source, temp, size);
+			File file = store.put(size.toString(), path, temp);
+			derivations.incrementAndGet();
+			return file;
+		} finally {
+			if (temp.exists() && !temp.delete()) temp.deleteOnExit();
+		}
+	}
+	
+	/**
+	 * Opens the content of an image URL through an {@link HttpURLConnection}, with the connect timeout 
+	 * of the {@link TMDbAPI#getTransport() API transport} when it is a {@link TMDbPooledTransport}.
+	 */
+	private static InputStream openConnection(URL url, int readTimeout) throws IOException {
+		TMDbTransport transport = TMDbAPI.getTransport();
+		int connectTimeout = transport instanceof TMDbPooledTransport ? 
+							 ((TMDbPooledTransport) transport).getConnectTimeout() : TMDbPooledTransport.DEFAULT_CONNECT_TIMEOUT;
+		
+		HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+		conn.setConnectTimeout(connectTimeout);
+		conn.setReadTimeout(readTimeout);
+		
+		int code = conn.getResponseCode();
+		if (code != HttpURLConnection.HTTP_OK) {
+			conn.disconnect();
+			throw new IOException("Image download failed with status " + code + ": " + url);
+		}
+		
+		return conn.getInputStream();
+	}
+	
+	/**
+	 * Waits for all the given fetches, replacing the failed ones with null.
+	 */
+	private static <T> CompletableFuture<List<T>> join(List<CompletableFuture<T>> files) {
+		List<CompletableFuture<T>> safe = new ArrayList<CompletableFuture<T>>(files.size());
+		for (CompletableFuture<T> file : files) {
+			safe.add(file.exceptionally(e -> {
+				Log.print(e);
+				return null;
+			}));
+		}
+		
+		return CompletableFuture.allOf(safe.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+			List<T> result = new ArrayList<T>(safe.size());
+			for (CompletableFuture<T> file : safe) result.add(file.join());
+			return result;
+		});
+	}
+	
+	/**
+	 * Creates a future failed with the given exception.
+	 */
+	private static <T> CompletableFuture<T> failed(Throwable e) {
+		CompletableFuture<T> future = new CompletableFuture<T>();
+		future.completeExceptionally(e);
+		return future;
+	}
+	
+	//endregion
+	
+}
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.core;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.net.TMDbRetryPolicy;
+import mk.tmdb.response.TMDbResponseArray;
+import mk.tmdb.response.TMDbStatus;
+import mk.tmdb.utils.Log;
+import net.sf.json.JSONObject;
+
+/**
+ * Lazy iterator over the results of a paginated TMDb API method.
+ * <p>
+ * Only the page being consumed and the next one are held in memory: when a page is loaded, the 
+ * following page is prefetched in background by the {@link TMDbPagination#getExecutor() pagination executor}. 
+ * As in {@link TMDbPagination#getAllPages(TMDbPagination.PageUrl)} a page that fails after the first one 
+ * is not skipped: the iteration stops with a <code>CompletionException</code> caused by a 
+ * {@link TMDbResponseException} with the page status. The iterator is terminal after a failure: the following 
+ * calls throw the same exception, and the pages after the failed one are never fetched. Closing the iterator 
+ * stops the prefetching, so a short-circuited stream does not fetch the rest of the pages.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbPageIterator implements Iterator<JSONObject>, AutoCloseable {
+
+	/**
+	 * The page URL builder.
+	 */
+	private final TMDbPagination.PageUrl pages;
+	
+	/**
+	 * The retry policy of the thread that created the iterator.
+	 */
+	private final TMDbRetryPolicy policy;
+	
+	/**
+	 * The total number of pages.
+	 */
+	private final int totalPages;
+	
+	/**
+	 * The total number of results.
+	 */
+	private final int totalResults;
+	
+	/**
+	 * The number of the last requested page.
+	 */
+	private int page = 1;
+	
+	/**
+	 * The results of the current page.
+	 */
+	private Iterator<JSONObject> current;
+	
+	/**
+	 * The next page, being prefetched.
+	 */
+	private CompletableFuture<TMDbResponseArray> next = null;
+	
+	/**
+	 * Whether the next page is fetched in background.
+	 */
+	private final boolean prefetch;
+	
+	private boolean closed = false;
+	
+	/**
+	 * The failure that ended the iteration.
+	 */
+	private CompletionException failure = null;
+	
+	/**
+	 * Creates a new iterator that prefetches the next page, and synchronously gets the first page.
+	 * 
+	 * @param pages The page URL builder
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 */
+	public TMDbPageIterator(TMDbPagination.PageUrl pages) throws TMDbResponseException {
+		this(pages, true);
+	}
+	
+	/**
+	 * Creates a new iterator and synchronously gets the first page. Without prefetching, 
+	 * each page is fetched by the first {@link #hasNext()} call that needs it.
+	 * 
+	 * @param pages The page URL builder
+	 * @param prefetch Whether the next page is fetched in background
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 */
+	public TMDbPageIterator(TMDbPagination.PageUrl pages, boolean prefetch) throws TMDbResponseException {
+		this.pages = pages;
+		this.prefetch = prefetch;
+		this.policy = TMDbAPI.getRetryPolicy();
+		
+		TMDbResponseArray first;
+		try {
+			first = TMDbPagination.getPage(pages.getUrl(1));
+		} catch (MalformedURLException e) {
+			Log.print(e);
+			throw new TMDbResponseException(TMDbStatus.MALFORMED_URL);
+		}
+		
+		if (first.hasError()) throw new TMDbResponseException(first.getStatus());
+		
+		totalPages = first.getPages();
+		totalResults = first.getResults();
+		current = first.getData().iterator();
+		prefetch();
+	}
+	
+	/**
+	 * Gets the total number of pages, as reported by the first page.
+	 * 
+	 * @return The total number of pages
+	 */
+	public int getTotalPages() {
+		return totalPages;
+	}
+	
+	/**
+	 * Gets the total number of results, as reported by the first page.
+	 * 
+	 * @return The total number of results
+	 */
+	public int getTotalResults() {
+		return totalResults;
+	}
+	
+	@Override
+	public synchronized boolean hasNext() {
+		if (failure != null) throw failure;
+		
+		while (!current.hasNext()) {
+			if (!prefetch && !closed) fetch(call -> CompletableFuture.completedFuture(call.get()));
+			if (next == null) return false;
+			
+			TMDbResponseArray response;
+			try {
+				response = next.join();
+				if (response.hasError()) throw new CompletionException(new TMDbResponseException(response.getStatus()));
+			} catch (CompletionException e) {
+				next = null;
+				failure = e;
+				throw e;
+			}
+			
+			next = null;
+			current = response.getData().iterator();
+			prefetch();
+		}
+		
+		return true;
+	}
+	
+	@Override
+	public synchronized JSONObject next() {
+		if (!hasNext()) throw new NoSuchElementException();
+		return current.next();
+	}
+	
+	/**
+	 * Stops the prefetching. The results of the current page can still be consumed.
+	 */
+	@Override
+	public synchronized void close() {
+		closed = true;
+		if (next != null) next.cancel(false);
+		next = null;
+	}
+	
+	/**
+	 * Starts fetching the next page in background, if any.
+	 */
+	private void prefetch() {
+		if (prefetch && !closed) {
+			fetch(call -> CompletableFuture.supplyAsync(call, TMDbPagination.getExecutor()));
+		}
+	}
+	
+	/**
+	 * Fetches the next page, if any, with the given strategy and the retry policy of the iterator. 
+	 * If the page URL cannot be built, the next page fails with the MALFORMED_URL status.
+	 * 
+	 * @param strategy Runs the page call (synchronously or not)
+	 */
+	private void fetch(Function<Supplier<TMDbResponseArray>, CompletableFuture<TMDbResponseArray>> strategy) {
+		if (next != null || page >= totalPages) return;
+		
+		try {
+			final URL url = pages.getUrl(++page);
+			next = strategy.apply(() -> TMDbAPI.withRetryPolicy(policy, () -> TMDbPagination.getPage(url)));
+		} catch (MalformedURLException e) {
+			Log.print(e);
+			next = new CompletableFuture<TMDbResponseArray>();
+			next.completeExceptionally(new TMDbResponseException(TMDbStatus.MALFORMED_URL));
+		}
+	}
+	
+}
@@ -0,0 +1,353 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.core;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.net.TMDbRetryPolicy;
+import mk.tmdb.response.TMDbResponseArray;
+import mk.tmdb.utils.TMDbExecutors;
+import net.sf.json.JSONObject;
+
+/**
+ * Static class that retrieves all the pages of a paginated TMDb API method.
+ * <p>
+ * The first page is fetched synchronously to get the total number of pages, then the remaining 
+ * pages are fetched concurrently (at most {@link #getParallelism() parallelism} requests in flight) 
+ * and merged into the first page response following the page order. The pages are fetched with 
+ * the retry policy of the calling thread.
+ * <p>
+ * The date range methods (e.g. the change lists) are split into windows of at most 
+ * {@link #MAX_RANGE_DAYS} days, whose pages are fetched the same way and merged without duplicates.
+ * <p>
+ * The "stream" methods do not wait for all the pages: they lazily iterate over the results while 
+ * the next page is prefetched (see {@link TMDbPageIterator}).
+ * 
+ * @author Mirko Polato
+ *
+ */
+public final class TMDbPagination {
+
+	private TMDbPagination() {}
+	
+	/**
+	 * Builds the query URL of a single page.
+	 */
+	public interface PageUrl {
+		
+		/**
+		 * Returns the query URL of the given page.
+		 * 
+		 * @param page The page number
+		 * @return The query URL
+		 * @throws MalformedURLException Throws if the URL has an invalid form
+		 */
+		public URL getUrl(int page) throws MalformedURLException;
+		
+	}
+	
+	/**
+	 * Builds the query URL of a single page of a date range.
+	 */
+	public interface RangePageUrl {
+		
+		/**
+		 * Returns the query URL of the given page of the given date range.
+		 * 
+		 * @param start The first day of the range
+		 * @param end The last day of the range
+		 * @param page The page number
+		 * @return The query URL
+		 * @throws MalformedURLException Throws if the URL has an invalid form
+		 */
+		public URL getUrl(Date start, Date end, int page) throws MalformedURLException;
+		
+	}
+	
+	/**
+	 * Maximum number of days that TMDb accepts in a single date range request.
+	 */
+	public static final int MAX_RANGE_DAYS = 14;
+	
+	//region Settings
+	
+	/**
+	 * Default maximum number of pages fetched concurrently.
+	 */
+	public static final int DEFAULT_PARALLELISM = 4;
+	
+	/**
+	 * Maximum number of pages fetched concurrently.
+	 */
+	private static volatile int parallelism = DEFAULT_PARALLELISM;
+	
+	/**
+	 * The executor that fetches the pages. It is not shared with {@link AsyncTMDbAPI}, so an 
+	 * asynchronous call of a "getAll" method never waits for tasks queued behind itself.
+	 */
+	private static volatile Executor executor = TMDbExecutors.newBlockingExecutor("tmdb-pages");
+	
+	/**
+	 * Gets the maximum number of pages fetched concurrently.
+	 * 
+	 * @return The maximum number of pages fetched concurrently
+	 */
+	public static int getParallelism() {
+		return parallelism;
+	}
+	
+	/**
+	 * Sets the maximum number of pages fetched concurrently (1 means sequential).
+	 * 
+	 * @param limit The maximum number of pages fetched concurrently
+	 */
+	public static void setParallelism(int limit) {
+		if (limit < 1) limit = 1;
+		parallelism = limit;
+	}
+	
+	/**
+	 * Gets the executor that fetches the pages.
+	 * 
+	 * @return The executor
+	 */
+	public static Executor getExecutor() {
+		return executor;
+	}
+	
+	/**
+	 * Sets the executor that fetches the pages.
+	 * 
+	 * @param newExecutor The new executor
+	 */
+	public static void setExecutor(Executor newExecutor) {
+		if (newExecutor == null) throw new IllegalArgumentException("The executor cannot be null");
+		executor = newExecutor;
+	}
+	
+	//endregion
+	
+	/**
+	 * Gets all the pages of a paginated method. If a page fails, the response of the first failing 
+	 * page is returned, so a partial result is never reported as a success.
+	 * 
+	 * @param pages The page URL builder
+	 * @return The TMDb API response array with the data of all the pages, or the failing page
+	 * @throws MalformedURLException Throws if a page URL has an invalid form
+	 */
+	public static TMDbResponseArray getAllPages(PageUrl pages) throws MalformedURLException {
+		
+		TMDbResponseArray result = getPage(pages.getUrl(1));
+		if (result.hasError() || result.getPages() <= 1) return result;
+		
+		List<CompletableFuture<TMDbResponseArray>> futures = new ArrayList<CompletableFuture<TMDbResponseArray>>(result.getPages() - 1);
+		final Semaphore slots = new Semaphore(parallelism);
+		final TMDbRetryPolicy policy = TMDbAPI.getRetryPolicy();
+		
+		for (int p = 2; p <= result.getPages(); p++) {
+			final URL url = pages.getUrl(p);
+			
+			slots.acquireUninterruptibly();
+			futures.add(CompletableFuture.supplyAsync(() -> TMDbAPI.withRetryPolicy(policy, () -> getPage(url)), executor)
+										 .whenComplete((page, error) -> slots.release()));
+		}
+		
+		for (CompletableFuture<TMDbResponseArray> future : futures) {
+			TMDbResponseArray page = future.join();
+			if (page.hasError()) return page;
+			
+			for (JSONObject obj : page.getData()) {
+				result.addData(obj);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Gets all the pages of a paginated date range method. A range longer than {@link #MAX_RANGE_DAYS} 
+	 * days is split into consecutive windows: the first pages of all the windows are fetched concurrently, 
+	 * then all their remaining pages. The data are merged following the window and page order, skipping 
+	 * the objects whose ID has already been merged. If a page fails the response of the first failing page is returned.
+	 * 
+	 * @param start The first day of the range
+	 * @param end The last day of the range
+	 * @param pages The page URL builder
+	 * @return The TMDb API response array with the data of all the windows
+	 * @throws MalformedURLException Throws if a page URL has an invalid form
+	 */
+	public static TMDbResponseArray getAllPages(Date start, Date end, RangePageUrl pages) throws MalformedURLException {
+		
+		List<Date[]> windows = split(start, end);
+		if (windows.size() <= 1) return getAllPages(page -> pages.getUrl(start, end, page));
+		
+		final Semaphore slots = new Semaphore(parallelism);
+		final TMDbRetryPolicy policy = TMDbAPI.getRetryPolicy();
+		
+		List<CompletableFuture<TMDbResponseArray>> firsts = new ArrayList<CompletableFuture<TMDbResponseArray>>(windows.size());
+		for (Date[] window : windows) {
+			firsts.add(fetch(pages.getUrl(window[0], window[1], 1), slots, policy));
+		}
+		
+		List<CompletableFuture<TMDbResponseArray>> futures = new ArrayList<CompletableFuture<TMDbResponseArray>>();
+		for (int w = 0; w < windows.size(); w++) {
+			TMDbResponseArray first = firsts.get(w).join();
+			if (first.hasError()) return first;
+			
+			futures.add(CompletableFuture.completedFuture(first));
+			for (int p = 2; p <= first.getPages(); p++) {
+				futures.add(fetch(pages.getUrl(windows.get(w)[0], windows.get(w)[1], p), slots, policy));
+			}
+		}
+		
+		TMDbResponseArray result = futures.get(0).join();
+		Set<Integer> ids = new HashSet<Integer>();
+		for (JSONObject obj : result.getData()) {
+			if (obj.has(TMDbConstants.ID)) ids.add(obj.getInt(TMDbConstants.ID));
+		}
+		
+		for (int i = 1; i < futures.size(); i++) {
+			TMDbResponseArray page = futures.get(i).join();
+			if (page.hasError()) return page;
+			
+			for (JSONObject obj : page.getData()) {
+				if (!obj.has(TMDbConstants.ID) || ids.add(obj.getInt(TMDbConstants.ID))) {
+					result.addData(obj);
+				}
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Splits a date range into consecutive windows of at most {@link #MAX_RANGE_DAYS} days. 
+	 * The days are counted in the default time zone, as the dates are formatted in the query URLs.
+	 * 
+	 * @param start The first day of the range
+	 * @param end The last day of the range
+	 * @return The list of windows (first and last day)
+	 */
+	static List<Date[]> split(Date start, Date end) {
+		ZoneId zone = ZoneId.systemDefault();
+		LocalDate first = start.toInstant().atZone(zone).toLocalDate();
+		LocalDate last = end.toInstant().atZone(zone).toLocalDate();
+		
+		List<Date[]> windows = new ArrayList<Date[]>();
+		while (!first.isAfter(last)) {
+			LocalDate windowEnd = first.plusDays(MAX_RANGE_DAYS - 1);
+			if (windowEnd.isAfter(last)) windowEnd = last;
+			
+			windows.add(new Date[] {Date.from(first.atStartOfDay(zone).toInstant()), Date.from(windowEnd.atStartOfDay(zone).toInstant())});
+			first = windowEnd.plusDays(1);
+		}
+		
+		return windows;
+	}
+	
+	/**
+	 * Parses a day in the format used by the query URLs ("yyyy-MM-dd").
+	 * 
+	 * @param day The day
+	 * @return The date or null if the day has an invalid form
+	 */
+	static Date parseDay(String day) {
+		try {
+			return Date.from(LocalDate.parse(day).atStartOfDay(ZoneId.systemDefault()).toInstant());
+		} catch (DateTimeParseException | NullPointerException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Fetches a page asynchronously with the given retry policy, holding one of the given slots.
+	 * 
+	 * @param url The page URL
+	 * @param slots The concurrent requests slots
+	 * @param policy The retry policy
+	 * @return The future page
+	 */
+	private static CompletableFuture<TMDbResponseArray> fetch(final URL url, final Semaphore slots, final TMDbRetryPolicy policy) {
+		slots.acquireUninterruptibly();
+		return CompletableFuture.supplyAsync(() -> TMDbAPI.withRetryPolicy(policy, () -> getPage(url)), executor)
+								.whenComplete((page, error) -> slots.release());
+	}
+	
+	/**
+	 * Returns a lazy sequential stream over the results of a paginated method. The first page is fetched 
+	 * immediately, the following ones while the stream is consumed. Closing the stream (e.g. with a 
+	 * try-with-resources statement) stops the prefetching of the next page. If a following page fails, 
+	 * the stream stops with a <code>CompletionException</code> caused by a {@link TMDbResponseException}.
+	 * 
+	 * @param pages The page URL builder
+	 * @return The stream of results
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 */
+	public static Stream<JSONObject> stream(PageUrl pages) throws TMDbResponseException {
+		TMDbPageIterator iterator = new TMDbPageIterator(pages);
+		
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+							.onClose(iterator::close);
+	}
+	
+	/**
+	 * Returns a lazy sequential stream over the results of a paginated method, converted to entities.
+	 * 
+	 * @param pages The page URL builder
+	 * @param mapper The entity constructor
+	 * @param <T> The entity type
+	 * @return The stream of entities
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 * @see #stream(PageUrl)
+	 */
+	public static <T> Stream<T> stream(PageUrl pages, Function<JSONObject, T> mapper) throws TMDbResponseException {
+		return stream(pages).map(mapper);
+	}
+	
+	/**
+	 * Gets a single page.
+	 * 
+	 * @param url The page URL
+	 * @return The TMDb API response array
+	 */
+	static TMDbResponseArray getPage(URL url) {
+		return new TMDbResponseArray(TMDbAPI.toJSON(TMDbAPI.makeApiCallGet(url)));
+	}
+	
+}
@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.core;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.net.TMDbRetryPolicy;
+import net.sf.json.JSONObject;
+
+/**
+ * Cold {@link Flow.Publisher} of TMDb results, driven by the demand of its subscribers.
+ * <p>
+ * Nothing is requested to TMDb before the subscriber signals demand, and the items being fetched 
+ * never exceed the outstanding demand: the pages of a paginated method are fetched one at a time 
+ * as their results are requested, the entities of a bulk load at most {@link TMDbBulkLoader#getParallelism() parallelism} 
+ * at a time. So a slow subscriber throttles the TMDb requests, and the memory is bounded by its demand. 
+ * Every subscription starts from the beginning. Signals to a subscriber are never concurrent.
+ * 
+ * @author Mirko Polato
+ *
+ * @param <T> The type of the published items
+ */
+public final class TMDbPublisher<T> implements Flow.Publisher<T> {
+
+	/**
+	 * Produces the items of a subscription one at a time.
+	 * 
+	 * @param <T> The type of the items
+	 */
+	private interface Source<T> {
+		
+		/**
+		 * Starts producing the next item.
+		 * 
+		 * @return The future item (completed with null if there are no more items), or null if there are no more items
+		 */
+		public CompletableFuture<T> next();
+		
+	}
+	
+	/**
+	 * The factory of the sources, one per subscription.
+	 */
+	private final Supplier<Source<T>> sources;
+	
+	/**
+	 * The maximum number of items fetched concurrently.
+	 */
+	private final int maxInFlight;
+	
+	private TMDbPublisher(Supplier<Source<T>> sources, int maxInFlight) {
+		this.sources = sources;
+		this.maxInFlight = maxInFlight;
+	}
+	
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		if (subscriber == null) throw new NullPointerException("The subscriber cannot be null");
+		
+		DemandSubscription<T> subscription = new DemandSubscription<T>(subscriber, sources.get(), maxInFlight);
+		subscriber.onSubscribe(subscription);
+	}
+	
+	//region Factories
+	
+	/**
+	 * Creates a publisher of the results of a paginated method.
+	 * 
+	 * @param pages The page URL builder
+	 * @return The publisher
+	 */
+	public static TMDbPublisher<JSONObject> pages(TMDbPagination.PageUrl pages) {
+		return pages(List.of(pages), false);
+	}
+	
+	/**
+	 * Creates a publisher of the results of a paginated method, converted to entities.
+	 * 
+	 * @param pages The page URL builder
+	 * @param mapper The entity constructor
+	 * @param <T> The entity type
+	 * @return The publisher
+	 */
+	public static <T> TMDbPublisher<T> pages(TMDbPagination.PageUrl pages, Function<JSONObject, T> mapper) {
+		final TMDbPublisher<JSONObject> results = pages(pages);
+		return new TMDbPublisher<T>(() -> {
+			final Source<JSONObject> source = results.sources.get();
+			return () -> {
+				CompletableFuture<JSONObject> next = source.next();
+				return next != null ? next.thenApply(json -> json != null ? mapper.apply(json) : null) : null;
+			};
+		}, 1);
+	}
+	
+	/**
+	 * Creates a publisher of the results of several paginated methods, one after the other 
+	 * (e.g. the windows of a date range).
+	 * 
+	 * @param pages The page URL builders
+	 * @param distinct Whether the results whose ID has already been published are skipped
+	 * @return The publisher
+	 */
+	static TMDbPublisher<JSONObject> pages(final List<TMDbPagination.PageUrl> pages, final boolean distinct) {
+		return new TMDbPublisher<JSONObject>(() -> new PageSource(pages, distinct), 1);
+	}
+	
+	/**
+	 * Creates a publisher of the results of a bulk load (see {@link TMDbBulkLoader}). The IDs are 
+	 * deduplicated and the results are published in completion order.
+	 * 
+	 * @param ids The entity IDs
+	 * @param loader The single entity loader, e.g. <code>TMDbMovieThumbnail::getInformation</code>
+	 * @param <T> The entity type
+	 * @return The publisher
+	 */
+	public static <T> TMDbPublisher<TMDbBulkLoader.Result<T>> load(final int[] ids, final TMDbBulkLoader.Loader<T> loader) {
+		return new TMDbPublisher<TMDbBulkLoader.Result<T>>(() -> {
+			final PrimitiveIterator.OfInt iterator = IntStream.of(ids).distinct().iterator();
+			final Executor executor = TMDbBulkLoader.getExecutor();
+			final TMDbRetryPolicy policy = TMDbAPI.getRetryPolicy();
+			
+			return () -> {
+				if (!iterator.hasNext()) return null;
+				
+				final int id = iterator.nextInt();
+				return CompletableFuture.supplyAsync(() -> TMDbAPI.withRetryPolicy(policy, () -> TMDbBulkLoader.load(id, loader)), executor);
+			};
+		}, TMDbBulkLoader.getParallelism());
+	}
+	
+	//endregion
+	
+	//region Sources
+	
+	/**
+	 * Source of the results of a sequence of paginated methods. The results are pulled one at a time 
+	 * by the pagination executor, so the next page is fetched only when its first result is requested.
+	 */
+	private static final class PageSource implements Source<JSONObject> {
+		
+		private final List<TMDbPagination.PageUrl> pages;
+		private final Set<Integer> published;
+		private final TMDbRetryPolicy policy = TMDbAPI.getRetryPolicy();
+		private int index = 0;
+		private TMDbPageIterator iterator = null;
+		
+		PageSource(List<TMDbPagination.PageUrl> pages, boolean distinct) {
+			this.pages = pages;
+			this.published = distinct ? new HashSet<Integer>() : null;
+		}
+		
+		@Override
+		public CompletableFuture<JSONObject> next() {
+			return CompletableFuture.supplyAsync(() -> TMDbAPI.withRetryPolicy(policy, this::pull), TMDbPagination.getExecutor());
+		}
+		
+		/**
+		 * Pulls the next result, fetching the next page when needed.
+		 * 
+		 * @return The next result or null if there are no more results
+		 */
+		private JSONObject pull() {
+			while (true) {
+				if (iterator == null) {
+					if (index >= pages.size()) return null;
+					
+					try {
+						iterator = new TMDbPageIterator(pages.get(index++), false);
+					} catch (TMDbResponseException e) {
+						throw new CompletionException(e);
+					}
+				}
+				
+				if (!iterator.hasNext()) {
+					iterator = null;
+					continue;
+				}
+				
+				JSONObject json = iterator.next();
+				if (published == null || !json.has(TMDbConstants.ID) || published.add(json.getInt(TMDbConstants.ID))) {
+					return json;
+				}
+			}
+		}
+	}
+	
+	//endregion
+	
+	//region Subscription
+	
+	/**
+	 * Subscription that starts fetching an item only when it is covered by the outstanding demand.
+	 * All the work is done by a serialized drain loop, entered by the requests and by the completed items.
+	 */
+	private static final class DemandSubscription<T> implements Flow.Subscription {
+		
+		/**
+		 * Marks the end of the items.
+		 */
+		private static final Object END = new Object();
+		
+		private final Flow.Subscriber<? super T> subscriber;
+		private final Source<T> source;
+		private final int maxInFlight;
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private final Queue<Object> completed = new ConcurrentLinkedQueue<Object>();
+		
+		private volatile boolean cancelled = false;
+		private long emitted = 0;
+		private int outstanding = 0;
+		private boolean exhausted = false;
+		
+		DemandSubscription(Flow.Subscriber<? super T> subscriber, Source<T> source, int maxInFlight) {
+			this.subscriber = subscriber;
+			this.source = source;
+			this.maxInFlight = maxInFlight;
+		}
+		
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				fail(new IllegalArgumentException("The number of requested items must be positive"));
+				return;
+			}
+			
+			requested.accumulateAndGet(n, (r, m) -> r + m < 0 ? Long.MAX_VALUE : r + m);
+			drain();
+		}
+		
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+		
+		/**
+		 * Signals an error in place of the next items.
+		 * 
+		 * @param error The error
+		 */
+		private void fail(Throwable error) {
+			completed.add(new Failure(error));
+			drain();
+		}
+		
+		/**
+		 * Publishes the completed items covered by the demand and starts fetching the next ones.
+		 */
+		@SuppressWarnings("unchecked")
+		private void drain() {
+			if (wip.getAndIncrement() != 0) return;
+			
+			int missed = 1;
+			do {
+				if (cancelled) {
+					completed.clear();
+					return;
+				}
+				
+				long demand = requested.get();
+				Object item;
+				while ((item = completed.peek()) != null) {
+					if (item instanceof Failure) {
+						cancelled = true;
+						completed.clear();
+						subscriber.onError(((Failure) item).error);
+						return;
+					}
+					
+					if (item != END && emitted >= demand) break;
+					
+					completed.poll();
+					outstanding--;
+					if (item == END) {
+						exhausted = true;
+					} else {
+						subscriber.onNext((T) item);
+						emitted++;
+						if (cancelled) return;
+					}
+				}
+				
+				while (!exhausted && outstanding - completed.size() < maxInFlight && outstanding < demand - emitted) {
+					CompletableFuture<T> next;
+					try {
+						next = source.next();
+					} catch (RuntimeException e) {
+						cancelled = true;
+						subscriber.onError(e);
+						return;
+					}
+					
+					if (next == null) {
+						exhausted = true;
+					} else {
+						outstanding++;
+						next.whenComplete((value, error) -> {
+							completed.add(error != null ? new Failure(unwrap(error)) : value != null ? value : END);
+							drain();
+						});
+					}
+				}
+				
+				if (exhausted && outstanding == 0) {
+					cancelled = true;
+					subscriber.onComplete();
+					return;
+				}
+				
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+		
+		/**
+		 * Unwraps the cause of an asynchronous error.
+		 * 
+		 * @param error The error
+		 * @return The cause
+		 */
+		private static Throwable unwrap(Throwable error) {
+			return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+		}
+	}
+	
+	/**
+	 * Holder of an error signal.
+	 */
+	private static final class Failure {
+		
+		private final Throwable error;
+		
+		Failure(Throwable error) {
+			this.error = error;
+		}
+	}
+	
+	//endregion
+	
+}
@@ -23,7 +23,9 @@ package mk.tmdb.core;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -41,6 +43,12 @@ public class TMDbURLCreator {
 	 */
 	private static final String REQUEST_AUTH_BASE_URL = "http://www.themoviedb.org/authenticate/";
 	
+	/**
+	 * The resources whose IDs are not numeric (e.g. the hexadecimal list IDs): the path segment 
+	 * that follows them is always an ID. No other endpoint has a segment after "list" (e.g. "genre/list").
+	 */
+	private static final List<String> STRING_ID_RESOURCES = Arrays.asList(TMDbConstants.LIST, "credit", "review", "guest_session");
+	
 	//region API Key
 	
 	/**
@@ -127,6 +135,18 @@ public class TMDbURLCreator {
 		return "&" + par;
 	}
 	
+	/**
+	 * Forms the parameter that appends the given sub-requests to a response.
+	 * 
+	 * @param append The sub-requests (e.g. "casts", "images")
+	 * @return The string '&append_to_response=a,b' or an empty string if there are no sub-requests
+	 */
+	private static String getAppendParam(String... append) {
+		if (append == null || append.length == 0) return "";
+		
+		return param(pair(TMDbConstants.APPEND_TO_RESPONSE, String.join(",", append)));
+	}
+	
 	//endregion
 	
 	//region Configuration
@@ -471,6 +491,19 @@ public class TMDbURLCreator {
 				  pair(TMDbConstants.API_KEY, getApiKey()) +
 				  getLangParam());
 	}
+	
+	/**
+	 * Returns the URL that gets the basic information for a specific movie id together with the 
+	 * responses of the given sub-requests, in a single call.
+	 * 
+	 * @param movieID The movie ID
+	 * @param append The sub-requests to append (e.g. {@link TMDbConstants#CASTS}, {@link TMDbConstants#IMAGES})
+	 * @return The query URL
+	 * @throws MalformedURLException Throws if the URL has an invalid form
+	 */
+	public static URL getMovieInfoUrl(int movieID, String... append) throws MalformedURLException {
+		return new URL(getMovieInfoUrl(movieID) + getAppendParam(append));
+	}
 
 	/**
 	 * Returns the URL that gets the cast information for a specific movie id.
@@ -1810,4 +1843,92 @@ public class TMDbURLCreator {
 	
 	//endregion
 	
+	//region Normalization
+	
+	/**
+	 * Gets the endpoint template of the given query URL: the path after the API version, 
+	 * with the IDs replaced by "{id}" (e.g. "movie/{id}/images", "list/{id}"). The numeric segments and 
+	 * the segments that follow a resource with non-numeric IDs are IDs, so the number of templates is bounded.
+	 * 
+	 * @param url The query URL
+	 * @return The endpoint template
+	 */
+	public static String getEndpoint(URL url) {
+		String path = url.getPath();
+		String prefix = TMDbConstants.SLASH + TMDbConstants.VERSION;
+		if (path.startsWith(prefix)) path = path.substring(prefix.length());
+		
+		StringBuilder endpoint = new StringBuilder(path.length());
+		String previous = null;
+		for (String segment : path.split(TMDbConstants.SLASH)) {
+			if (segment.isEmpty()) continue;
+			if (endpoint.length() > 0) endpoint.append(TMDbConstants.SLASH);
+			endpoint.append(isNumeric(segment) || STRING_ID_RESOURCES.contains(previous) ? "{id}" : segment);
+			previous = segment;
+		}
+		
+		return endpoint.toString();
+	}
+	
+	/**
+	 * Gets the normalized key of the given query URL: host, path and sorted query parameters 
+	 * without the API Key. Two URLs that ask for the same resource have the same key.
+	 * 
+	 * @param url The query URL
+	 * @return The normalized key
+	 */
+	public static String getRequestKey(URL url) {
+		StringBuilder key = new StringBuilder(url.getHost()).append(url.getPath());
+		
+		String query = url.getQuery();
+		if (query != null) {
+			String[] params = query.split("&");
+			Arrays.sort(params);
+			
+			char separator = '?';
+			String apiKeyParam = TMDbConstants.API_KEY.substring(1) + "=";
+			for (String param : params) {
+				if (param.isEmpty() || param.startsWith(apiKeyParam)) continue;
+				key.append(separator).append(param);
+				separator = '&';
+			}
+		}
+		
+		return key.toString();
+	}
+	
+	/**
+	 * Gets the key of a resource, which prefixes the normalized keys of all its requests 
+	 * (e.g. the information, casts and images of a movie).
+	 * 
+	 * @param resource The resource type (e.g. {@link TMDbConstants#MOVIE}, {@link TMDbConstants#PERSON})
+	 * @param id The resource ID
+	 * @return The resource key
+	 * @throws MalformedURLException Throws if the URL has an invalid form
+	 */
+	public static String getResourceKey(String resource, int id) throws MalformedURLException {
+		URL url = new URL(TMDbConstants.API_BASE_URL +
+				  TMDbConstants.VERSION +
+				  resource + TMDbConstants.SLASH +
+				  id);
+		
+		return url.getHost() + url.getPath();
+	}
+	
+	/**
+	 * Checks whether the given path segment is a numeric ID.
+	 * 
+	 * @param segment The path segment
+	 * @return Whether the segment is numeric
+	 */
+	private static boolean isNumeric(String segment) {
+		for (int i = 0; i < segment.length(); i++) {
+			if (!Character.isDigit(segment.charAt(i))) return false;
+		}
+		
+		return true;
+	}
+	
+	//endregion
+	
 }
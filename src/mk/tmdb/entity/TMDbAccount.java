@@ -20,16 +20,17 @@
 
 package mk.tmdb.entity;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import mk.tmdb.core.TMDbConstants;
 import mk.tmdb.core.TMDbAPI;
 import mk.tmdb.entity.movie.TMDbMovieReduced;
 import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.response.TMDbResponseArray;
 import mk.tmdb.response.TMDbResponseObject;
+import mk.tmdb.utils.TMDbImmutableList;
 import net.sf.json.JSONObject;
 
 /**
@@ -82,22 +83,22 @@ public class TMDbAccount extends TMDbEntity {
 	/**
 	 * The favorite movies list for this account.
 	 */
-	private List<TMDbMovieReduced> favoriteMovies = Collections.synchronizedList(new LinkedList<TMDbMovieReduced>());
+	private List<TMDbMovieReduced> favoriteMovies = TMDbImmutableList.empty();
 
 	/**
 	 * The favorite lists list for this account.
 	 */
-	private List<TMDbMovieList> favoriteLists = Collections.synchronizedList(new LinkedList<TMDbMovieList>());
+	private List<TMDbMovieList> favoriteLists = TMDbImmutableList.empty();
 	
 	/**
 	 * The rated movies list for this account.
 	 */
-	private List<TMDbMovieReduced> ratedMovies = Collections.synchronizedList(new LinkedList<TMDbMovieReduced>());
+	private List<TMDbMovieReduced> ratedMovies = TMDbImmutableList.empty();
 	
 	/**
 	 * The watch list for this account.
 	 */
-	private List<TMDbMovieReduced> watchlist = Collections.synchronizedList(new LinkedList<TMDbMovieReduced>());
+	private List<TMDbMovieReduced> watchlist = TMDbImmutableList.empty();
 	
 	//endregion
 	
@@ -108,7 +109,9 @@ public class TMDbAccount extends TMDbEntity {
 	 */
 	public TMDbAccount(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbAccount.class, json);
 	}
 	
 	/**
@@ -117,7 +120,34 @@ public class TMDbAccount extends TMDbEntity {
 	 * @param account The account to copy
 	 */
 	public TMDbAccount(TMDbAccount account) {
-		this(account.getOriginJSON());
+		super(account);
+		this.id = account.id;
+		this.iso639_1 = account.iso639_1;
+		this.iso3166_1 = account.iso3166_1;
+		this.name = account.name;
+		this.adult = account.adult;
+		this.username = account.username;
+		this.sessionID = account.sessionID;
+		this.favoriteMovies = account.favoriteMovies;
+		this.favoriteLists = account.favoriteLists;
+		this.ratedMovies = account.ratedMovies;
+		this.watchlist = account.watchlist;
+	}
+	
+	/**
+	 * Two accounts are equal if they have the same TMDb ID.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return id == ((TMDbAccount) object).id;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + id;
 	}
 	
 	//region Getters/Setters
@@ -263,7 +293,7 @@ public class TMDbAccount extends TMDbEntity {
 	 * @param watchlist The new watch list
 	 */
 	public void setWatchlist(List<TMDbMovieReduced> watchlist) {
-		this.watchlist.addAll(watchlist);
+		this.watchlist = TMDbImmutableList.copyOf(watchlist);
 	}
 
 	/**
@@ -281,7 +311,7 @@ public class TMDbAccount extends TMDbEntity {
 	 * @param favoriteMovies The new favorite movies list
 	 */
 	public void setFavoriteMovies(List<TMDbMovieReduced> favoriteMovies) {
-		this.favoriteMovies.addAll(favoriteMovies);
+		this.favoriteMovies = TMDbImmutableList.copyOf(favoriteMovies);
 	}
 	
 	/**
@@ -299,8 +329,7 @@ public class TMDbAccount extends TMDbEntity {
 	 * @param favoriteLists The new favorite lists list
 	 */
 	public void setFavoriteLists(List<TMDbMovieList> favoriteLists) {
-		this.favoriteLists.clear();
-		this.favoriteLists.addAll(favoriteLists);
+		this.favoriteLists = TMDbImmutableList.copyOf(favoriteLists);
 	}
 
 	/**
@@ -318,8 +347,7 @@ public class TMDbAccount extends TMDbEntity {
 	 * @param ratedMovies The new top rated movies list
 	 */
 	public void setRatedMovies(List<TMDbMovieReduced> ratedMovies) {
-		this.ratedMovies.clear();
-		this.ratedMovies.addAll(ratedMovies);
+		this.ratedMovies = TMDbImmutableList.copyOf(ratedMovies);
 	}
 	
 	//endregion
@@ -329,7 +357,7 @@ public class TMDbAccount extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		setId(json.getInt(TMDbConstants.ID));
 		setName(json.getString(TMDbConstants.NAME));
@@ -396,7 +424,7 @@ public class TMDbAccount extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> data = response.getData();
 			
 			for (JSONObject json : data) {
@@ -421,7 +449,7 @@ public class TMDbAccount extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> data = response.getData();
 			
 			for (JSONObject json : data) {
@@ -489,7 +517,7 @@ public class TMDbAccount extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieList> lists = new LinkedList<TMDbMovieList>();
+			List<TMDbMovieList> lists = new ArrayList<TMDbMovieList>();
 			List<JSONObject> data = response.getData();
 			
 			for (JSONObject json : data) {
@@ -514,7 +542,7 @@ public class TMDbAccount extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieList> lists = new LinkedList<TMDbMovieList>();
+			List<TMDbMovieList> lists = new ArrayList<TMDbMovieList>();
 			List<JSONObject> data = response.getData();
 			
 			for (JSONObject json : data) {
@@ -558,7 +586,7 @@ public class TMDbAccount extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> data = response.getData();
 			
 			for (JSONObject json : data) {
@@ -583,7 +611,7 @@ public class TMDbAccount extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> data = response.getData();
 			
 			for (JSONObject json : data) {
@@ -627,7 +655,7 @@ public class TMDbAccount extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> data = response.getData();
 			
 			for (JSONObject json : data) {
@@ -652,7 +680,7 @@ public class TMDbAccount extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> data = response.getData();
 			
 			for (JSONObject json : data) {
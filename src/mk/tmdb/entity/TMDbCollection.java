@@ -20,8 +20,7 @@
 
 package mk.tmdb.entity;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import net.sf.json.JSONArray;
@@ -32,8 +31,10 @@ import mk.tmdb.entity.image.TMDbBackdrop;
 import mk.tmdb.entity.image.TMDbPoster;
 import mk.tmdb.entity.movie.TMDbMovieThumbnail;
 import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.response.TMDbResponseArray;
 import mk.tmdb.response.TMDbResponseObject;
+import mk.tmdb.utils.TMDbImmutableList;
 
 /**
  * Class that represents a movie collection. 
@@ -68,17 +69,17 @@ public class TMDbCollection extends TMDbEntity {
 	/**
 	 * The movies list belongs this collection.
 	 */
-	private List<TMDbMovieThumbnail> movies = Collections.synchronizedList(new LinkedList<TMDbMovieThumbnail>());
+	private List<TMDbMovieThumbnail> movies = TMDbImmutableList.empty();
 	
 	/**
 	 * The posters list of this collection.
 	 */
-	private List<TMDbPoster> posters = Collections.synchronizedList(new LinkedList<TMDbPoster>());
+	private List<TMDbPoster> posters = TMDbImmutableList.empty();
 	
 	/**
 	 * The backdrops list of this collection.
 	 */
-	private List<TMDbBackdrop> backdrops = Collections.synchronizedList(new LinkedList<TMDbBackdrop>());
+	private List<TMDbBackdrop> backdrops = TMDbImmutableList.empty();
 	
 	//endregion
 	
@@ -89,7 +90,9 @@ public class TMDbCollection extends TMDbEntity {
 	 */
 	public TMDbCollection(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbCollection.class, json);
 	}
 	
 	/**
@@ -98,7 +101,30 @@ public class TMDbCollection extends TMDbEntity {
 	 * @param collection The collection to copy
 	 */
 	public TMDbCollection(TMDbCollection collection) {
-		this(collection.getOriginJSON());
+		super(collection);
+		this.backdropPath = collection.backdropPath;
+		this.id = collection.id;
+		this.name = collection.name;
+		this.posterPath = collection.posterPath;
+		this.movies = collection.movies;
+		this.posters = collection.posters;
+		this.backdrops = collection.backdrops;
+	}
+	
+	/**
+	 * Two collections are equal if they have the same TMDb ID.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return id == ((TMDbCollection) object).id;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + id;
 	}
 
 	//region Getters/Setters
@@ -236,7 +262,7 @@ public class TMDbCollection extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		setPosterPath(json.getString(TMDbConstants.POSTER_PATH));
 		setBackdropPath(json.getString(TMDbConstants.BACKDROP_PATH));
@@ -244,10 +270,7 @@ public class TMDbCollection extends TMDbEntity {
 		setId(json.getInt(TMDbConstants.ID));
 		
 		if (json.has(TMDbConstants.PARTS)) {
-			JSONArray array = json.getJSONArray(TMDbConstants.PARTS);
-			for(Object obj : array) {
-				movies.add(new TMDbMovieThumbnail((JSONObject) obj));
-			}
+			movies = TMDbImmutableList.of(json.getJSONArray(TMDbConstants.PARTS), obj -> new TMDbMovieThumbnail((JSONObject) obj));
 		}
 		
 		return true;
@@ -286,7 +309,7 @@ public class TMDbCollection extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			JSONArray array = response.getData().getJSONArray(TMDbConstants.POSTERS);
-			List<TMDbPoster> images = new LinkedList<TMDbPoster>(); 
+			List<TMDbPoster> images = new ArrayList<TMDbPoster>(); 
 			for(Object obj : array) {
 				images.add(new TMDbPoster((JSONObject) obj));
 			}
@@ -308,7 +331,7 @@ public class TMDbCollection extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			JSONArray array = response.getData().getJSONArray(TMDbConstants.BACKDROPS);
-			List<TMDbBackdrop> images = new LinkedList<TMDbBackdrop>(); 
+			List<TMDbBackdrop> images = new ArrayList<TMDbBackdrop>(); 
 			for(Object obj : array) {
 				images.add(new TMDbBackdrop((JSONObject) obj));
 			}
@@ -347,7 +370,7 @@ public class TMDbCollection extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbCollection> collections = new LinkedList<TMDbCollection>();
+			List<TMDbCollection> collections = new ArrayList<TMDbCollection>();
 			for(JSONObject json : array) {
 				collections.add(new TMDbCollection(json));
 			}
@@ -371,7 +394,7 @@ public class TMDbCollection extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbCollection> collections = new LinkedList<TMDbCollection>();
+			List<TMDbCollection> collections = new ArrayList<TMDbCollection>();
 			for(JSONObject json : array) {
 				collections.add(new TMDbCollection(json));
 			}
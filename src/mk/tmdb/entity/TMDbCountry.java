@@ -20,7 +20,10 @@
 
 package mk.tmdb.entity;
 
+import java.util.Objects;
+
 import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.utils.Log;
 import net.sf.json.JSONObject;
 
@@ -49,7 +52,9 @@ public class TMDbCountry extends TMDbEntity {
 	 */
 	public TMDbCountry(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbCountry.class, json);
 	}
 	
 	/**
@@ -58,7 +63,25 @@ public class TMDbCountry extends TMDbEntity {
 	 * @param country The country to copy
 	 */
 	public TMDbCountry(TMDbCountry country) {
-		this(country.getOriginJSON());
+		super(country);
+		this.iso3166_1 = country.iso3166_1;
+		this.name = country.name;
+	}
+	
+	/**
+	 * Two countries are equal if they have the same ISO 3166-1 code.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return Objects.equals(iso3166_1, ((TMDbCountry) object).iso3166_1);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + Objects.hashCode(iso3166_1);
 	}
 	
 	//region Getters/Setters
@@ -115,7 +138,7 @@ public class TMDbCountry extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		try {
 			setIso3166_1(json.getString(TMDbConstants.ISO_31661));
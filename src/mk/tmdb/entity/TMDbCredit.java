@@ -20,10 +20,13 @@
 
 package mk.tmdb.entity;
 
+import java.util.Objects;
+
 import mk.tmdb.entity.movie.TMDbMovieThumbnail;
 import mk.tmdb.entity.role.TMDbCast;
 import mk.tmdb.entity.role.TMDbCrew;
 import mk.tmdb.entity.role.TMDbRole;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import net.sf.json.JSONObject;
 
 /**
@@ -69,7 +72,9 @@ public class TMDbCredit extends TMDbEntity {
 	public TMDbCredit(JSONObject json, Type type) {
 		super(json);
 		this.type = type;
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbCredit.class, json);
 	}
 	
 	/**
@@ -78,7 +83,33 @@ public class TMDbCredit extends TMDbEntity {
 	 * @param credit The credit to copy
 	 */
 	public TMDbCredit(TMDbCredit credit) {
-		this(credit.getOriginJSON(), credit.getType());
+		super(credit);
+		this.movie = credit.movie;
+		this.role = credit.role;
+		this.type = credit.type;
+	}
+	
+	/**
+	 * Two credits are equal if they have the same type, movie and role.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		TMDbCredit other = (TMDbCredit) object;
+		return Objects.equals(type, other.type)
+			&& Objects.equals(movie, other.movie)
+			&& Objects.equals(role, other.role);
+	}
+	
+	@Override
+	public int hashCode() {
+		int hash = getClass().hashCode();
+		hash = 31 * hash + Objects.hashCode(type);
+		hash = 31 * hash + Objects.hashCode(movie);
+		hash = 31 * hash + Objects.hashCode(role);
+		return hash;
 	}
 	
 	//region Getters/Setters
@@ -144,7 +175,7 @@ public class TMDbCredit extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		if (type.ordinal() == Type.CAST.ordinal()) setRole(new TMDbCast(json));
 		else setRole(new TMDbCrew(json));
@@ -20,10 +20,22 @@
 
 package mk.tmdb.entity;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import mk.tmdb.json.TMDbJsonReader;
 import net.sf.json.JSONObject;
 
 /**
  * Abstract base class that represent an entity derived from a JSONObject.
+ * <p>
+ * How much of the origin JSON object is kept by the entities depends on the {@link Retention} mode, 
+ * set globally with {@link #setRetention(Retention)} or for some calls with 
+ * {@link #withRetention(Retention, Supplier)}. The mode is applied when the entity is created.
+ * <p>
+ * The subclasses define the equality on their identity fields (e.g. the TMDb ID), so two entities 
+ * are equal if they have the same class and represent the same TMDb object.
  * 
  * @author Mirko Polato
  *
@@ -31,51 +43,152 @@ import net.sf.json.JSONObject;
 public abstract class TMDbEntity {
 
 	/**
-	 * The origin JSON object.
+	 * How the origin JSON object is retained by the entities.
+	 */
+	public enum Retention {
+		/**
+		 * The origin JSON object is dropped: only the parsed fields are kept, and 
+		 * {@link TMDbEntity#getOriginJSON()} returns null.
+		 */
+		NONE,
+		/**
+		 * A compact UTF-8 copy of the origin JSON object is kept, and parsed again on request.
+		 */
+		COMPACT,
+		/**
+		 * The origin JSON object is kept as it is (default).
+		 */
+		FULL
+	}
+	
+	//region Retention
+	
+	/**
+	 * The retention mode of the new entities.
+	 */
+	private static volatile Retention retention = Retention.FULL;
+	
+	/**
+	 * The retention mode that overrides the global one for the entities created by the current thread.
+	 */
+	private static final ThreadLocal<Retention> callRetention = new ThreadLocal<Retention>();
+	
+	/**
+	 * Gets the retention mode in use by the current thread: the one set by 
+	 * {@link #withRetention(Retention, Supplier) withRetention} or the global one.
+	 * 
+	 * @return The retention mode
+	 */
+	public static Retention getRetention() {
+		Retention mode = callRetention.get();
+		return mode != null ? mode : retention;
+	}
+	
+	/**
+	 * Sets the retention mode of all the new entities.
+	 * 
+	 * @param mode The new retention mode
+	 */
+	public static void setRetention(Retention mode) {
+		if (mode == null) throw new IllegalArgumentException("The retention mode cannot be null");
+		retention = mode;
+	}
+	
+	/**
+	 * Creates the entities of the given calls with the given retention mode instead of the global one.
+	 * 
+	 * @param mode The retention mode
+	 * @param call The calls to perform, e.g. <code>() -> new TMDbMovieFull(json)</code>
+	 * @return The result of the calls
+	 */
+	public static <T> T withRetention(Retention mode, Supplier<T> call) {
+		Retention previous = callRetention.get();
+		callRetention.set(mode);
+		try {
+			return call.get();
+		} finally {
+			if (previous != null) callRetention.set(previous);
+			else callRetention.remove();
+		}
+	}
+	
+	//endregion
+	
+	/**
+	 * The origin JSON object (retention FULL).
 	 */
 	protected JSONObject originJson = null;
 	
+	/**
+	 * The UTF-8 origin JSON string (retention COMPACT).
+	 */
+	private byte[] compactJson = null;
+	
 	/**
 	 * Default constructor.
 	 */
 	public TMDbEntity() {}
 	
 	/**
-	 * Sets the origin JSON object to the given one.
+	 * Sets the origin JSON object to the given one, according to the retention mode.
 	 * 
 	 * @param json The origin JSON object
 	 */
 	public TMDbEntity(JSONObject json) {
-		this.originJson = json;
+		if (json == null) return;
+		
+		switch (getRetention()) {
+		case FULL:
+			this.originJson = json;
+			break;
+		case COMPACT:
+			this.compactJson = json.toString().getBytes(StandardCharsets.UTF_8);
+			break;
+		default:
+			break;
+		}
+	}
+	
+	/**
+	 * Copy constructor: shares the origin JSON object retained by the given entity.
+	 * 
+	 * @param entity The entity to copy
+	 */
+	protected TMDbEntity(TMDbEntity entity) {
+		this.originJson = entity.originJson;
+		this.compactJson = entity.compactJson;
 	}
 
 	/**
-	 * Gets the origin JSON object.
+	 * Gets the origin JSON object. With the COMPACT retention a new object is parsed at each call.
 	 * 
-	 * @return The origin JSON object
+	 * @return The origin JSON object or null if it has not been retained
 	 */
 	public JSONObject getOriginJSON() {
+		if (compactJson != null) return TMDbJsonReader.parseObject(new String(compactJson, StandardCharsets.UTF_8));
+		
 		return originJson;
 	}
 	
-	@Override
-	public String toString() {
-		if (originJson != null)
-		{
-			return originJson.toString();
-		} else {
-			return "";
-		}
+	/**
+	 * Creates a new date with the same time of the given one.
+	 * 
+	 * @param date The date to copy
+	 * @return The copy or null if the date is null
+	 */
+	protected static Date copyOf(Date date) {
+		return date != null ? new Date(date.getTime()) : null;
 	}
 	
+	/**
+	 * Gets the origin JSON string or, if it has not been retained, the simple class name.
+	 */
 	@Override
-	public boolean equals(Object object) {
-		if (object != null) {
-			TMDbEntity entity = (TMDbEntity) object;
-			return originJson.equals((entity).getOriginJSON());
-		} else {
-			return false;
-		}
+	public String toString() {
+		if (originJson != null) return originJson.toString();
+		if (compactJson != null) return new String(compactJson, StandardCharsets.UTF_8);
+		
+		return getClass().getSimpleName();
 	}
 
 }
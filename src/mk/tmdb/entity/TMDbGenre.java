@@ -20,13 +20,14 @@
 
 package mk.tmdb.entity;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import mk.tmdb.core.TMDbConstants;
 import mk.tmdb.core.TMDbAPI;
 import mk.tmdb.entity.movie.TMDbMovieReduced;
 import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.response.TMDbResponseArray;
 import mk.tmdb.response.TMDbResponseObject;
 import mk.tmdb.utils.Log;
@@ -58,7 +59,9 @@ public class TMDbGenre extends TMDbEntity {
 	 */
 	public TMDbGenre(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbGenre.class, json);
 	}
 	
 	/**
@@ -67,7 +70,25 @@ public class TMDbGenre extends TMDbEntity {
 	 * @param genre The genre to copy.
 	 */
 	public TMDbGenre(TMDbGenre genre) {
-		this(genre.getOriginJSON());
+		super(genre);
+		this.id = genre.id;
+		this.name = genre.name;
+	}
+	
+	/**
+	 * Two genres are equal if they have the same TMDb ID.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return id == ((TMDbGenre) object).id;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + id;
 	}
 	
 	//region Getters/Setters
@@ -115,7 +136,7 @@ public class TMDbGenre extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 
-		if (json.isNullObject()) return false;		
+		if (json == null || json.isNullObject()) return false;		
 		
 		try {
 			setId(json.getInt(TMDbConstants.ID));
@@ -144,7 +165,7 @@ public class TMDbGenre extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-			List<TMDbGenre> genres = new LinkedList<TMDbGenre>();
+			List<TMDbGenre> genres = new ArrayList<TMDbGenre>();
 			JSONArray array = response.getData().getJSONArray(TMDbConstants.GENRES);
 			for(Object json : array) {
 				genres.add(new TMDbGenre((JSONObject) json));
@@ -180,7 +201,7 @@ public class TMDbGenre extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
@@ -204,7 +225,7 @@ public class TMDbGenre extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
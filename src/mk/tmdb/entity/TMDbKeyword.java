@@ -20,13 +20,14 @@
 
 package mk.tmdb.entity;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import mk.tmdb.core.TMDbConstants;
 import mk.tmdb.core.TMDbAPI;
 import mk.tmdb.entity.movie.TMDbMovieReduced;
 import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.response.TMDbResponseArray;
 import mk.tmdb.response.TMDbResponseObject;
 import mk.tmdb.utils.Log;
@@ -57,7 +58,9 @@ public class TMDbKeyword extends TMDbEntity {
 	 */
 	public TMDbKeyword(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbKeyword.class, json);
 	}
 	
 	/**
@@ -66,7 +69,25 @@ public class TMDbKeyword extends TMDbEntity {
 	 * @param keyword The keyword to copy
 	 */
 	public TMDbKeyword(TMDbKeyword keyword) {
-		this(keyword.getOriginJSON());
+		super(keyword);
+		this.id = keyword.id;
+		this.value = keyword.value;
+	}
+	
+	/**
+	 * Two keywords are equal if they have the same TMDb ID.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return id == ((TMDbKeyword) object).id;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + id;
 	}
 	
 	//region Getters/Setters
@@ -114,7 +135,7 @@ public class TMDbKeyword extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		try {
 			setId(json.getInt(TMDbConstants.ID));
@@ -178,7 +199,7 @@ public class TMDbKeyword extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -203,7 +224,7 @@ public class TMDbKeyword extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -240,7 +261,7 @@ public class TMDbKeyword extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbKeyword> keys = new LinkedList<TMDbKeyword>();
+			List<TMDbKeyword> keys = new ArrayList<TMDbKeyword>();
 			for(JSONObject json : array) {
 				keys.add(new TMDbKeyword(json));
 			}
@@ -263,7 +284,7 @@ public class TMDbKeyword extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbKeyword> keys = new LinkedList<TMDbKeyword>();
+			List<TMDbKeyword> keys = new ArrayList<TMDbKeyword>();
 			for(JSONObject json : array) {
 				keys.add(new TMDbKeyword(json));
 			}
@@ -20,7 +20,10 @@
 
 package mk.tmdb.entity;
 
+import java.util.Objects;
+
 import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.utils.Log;
 import net.sf.json.JSONObject;
 
@@ -54,7 +57,9 @@ public class TMDbLanguage extends TMDbEntity {
 	 */
 	public TMDbLanguage(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbLanguage.class, json);
 	}
 	
 	/**
@@ -63,7 +68,26 @@ public class TMDbLanguage extends TMDbEntity {
 	 * @param lang The language to copy
 	 */
 	public TMDbLanguage(TMDbLanguage lang) {
-		this(lang.getOriginJSON());
+		super(lang);
+		this.iso639_1 = lang.iso639_1;
+		this.name = lang.name;
+		this.englishName = lang.englishName;
+	}
+	
+	/**
+	 * Two languages are equal if they have the same ISO 639-1 code.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return Objects.equals(iso639_1, ((TMDbLanguage) object).iso639_1);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + Objects.hashCode(iso639_1);
 	}
 	
 	//region Getters/Setters
@@ -129,7 +153,7 @@ public class TMDbLanguage extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		try {
 			setIso639_1(json.getString(TMDbConstants.ISO_6391));
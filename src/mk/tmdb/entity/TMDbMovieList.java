@@ -20,17 +20,18 @@
 
 package mk.tmdb.entity;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import mk.tmdb.core.TMDbConstants;
 import mk.tmdb.core.TMDbAPI;
 import mk.tmdb.entity.movie.TMDbMovieReduced;
 import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.response.TMDbResponseArray;
 import mk.tmdb.response.TMDbResponseObject;
-import net.sf.json.JSONArray;
+import mk.tmdb.utils.TMDbImmutableList;
 import net.sf.json.JSONObject;
 
 /**
@@ -91,7 +92,7 @@ public class TMDbMovieList extends TMDbEntity {
 	/**
 	 * The list of movies.
 	 */
-	private List<TMDbMovieReduced> movies = Collections.synchronizedList(new LinkedList<TMDbMovieReduced>());
+	private List<TMDbMovieReduced> movies = TMDbImmutableList.empty();
 	
 	//endregion
 	
@@ -102,7 +103,9 @@ public class TMDbMovieList extends TMDbEntity {
 	 */
 	public TMDbMovieList(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbMovieList.class, json);
 	}
 	
 	/**
@@ -111,7 +114,33 @@ public class TMDbMovieList extends TMDbEntity {
 	 * @param list The movie list to copy
 	 */
 	public TMDbMovieList(TMDbMovieList list) {
-		this(list.getOriginJSON());
+		super(list);
+		this.id = list.id;
+		this.count = list.count;
+		this.favoritesCount = list.favoritesCount;
+		this.posterPath = list.posterPath;
+		this.name = list.name;
+		this.type = list.type;
+		this.description = list.description;
+		this.iso639_1 = list.iso639_1;
+		this.creator = list.creator;
+		this.movies = list.movies;
+	}
+	
+	/**
+	 * Two lists are equal if they have the same TMDb ID.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return Objects.equals(id, ((TMDbMovieList) object).id);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + Objects.hashCode(id);
 	}
 	
 	//region Getters/Setters
@@ -310,8 +339,7 @@ public class TMDbMovieList extends TMDbEntity {
 	 * @param movies The new movies list
 	 */
 	public void setMovies(List<TMDbMovieReduced> movies) {
-		this.movies.clear();
-		this.movies.addAll(movies);
+		this.movies = TMDbImmutableList.copyOf(movies);
 	}
 	
 	//endregion
@@ -321,7 +349,7 @@ public class TMDbMovieList extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		setId(json.getString(TMDbConstants.ID));
 		setDescription(json.getString(TMDbConstants.DESCRIPTION));
@@ -334,11 +362,7 @@ public class TMDbMovieList extends TMDbEntity {
 		if (json.has(TMDbConstants.CREATED_BY)) setCreator(json.getString(TMDbConstants.CREATED_BY));
 		
 		if (json.has(TMDbConstants.ITEMS)) {
-			JSONArray array = json.getJSONArray(TMDbConstants.ITEMS);
-			movies.clear();
-			for (Object obj : array) {
-				movies.add(new TMDbMovieReduced((JSONObject) obj));
-			}
+			movies = TMDbImmutableList.of(json.getJSONArray(TMDbConstants.ITEMS), obj -> new TMDbMovieReduced((JSONObject) obj));
 		}
 		
 		return true;
@@ -392,7 +416,7 @@ public class TMDbMovieList extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieList> lists = new LinkedList<TMDbMovieList>();
+			List<TMDbMovieList> lists = new ArrayList<TMDbMovieList>();
 			for(JSONObject json : array) {
 				lists.add(new TMDbMovieList(json));
 			}
@@ -415,7 +439,7 @@ public class TMDbMovieList extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieList> lists = new LinkedList<TMDbMovieList>();
+			List<TMDbMovieList> lists = new ArrayList<TMDbMovieList>();
 			for(JSONObject json : array) {
 				lists.add(new TMDbMovieList(json));
 			}
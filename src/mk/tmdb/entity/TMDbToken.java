@@ -24,8 +24,10 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Objects;
 
 import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.utils.Log;
 import net.sf.json.JSONObject;
 
@@ -54,7 +56,9 @@ public class TMDbToken extends TMDbEntity {
 	 */
 	public TMDbToken(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbToken.class, json);
 	}	
 	
 	/**
@@ -63,7 +67,25 @@ public class TMDbToken extends TMDbEntity {
 	 * @param token The Token to copy
 	 */
 	public TMDbToken(TMDbToken token) {
-		this(token.getOriginJSON());
+		super(token);
+		this.expirationDate = copyOf(token.expirationDate);
+		this.value = token.value;
+	}
+	
+	/**
+	 * Two tokens are equal if they have the same value.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return Objects.equals(value, ((TMDbToken) object).value);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + Objects.hashCode(value);
 	}
 	
 	//region Getters/Setters
@@ -116,7 +138,7 @@ public class TMDbToken extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		setExpirationDate(json.getString(TMDbConstants.EXPIRATION));
 		setValue(json.getString(TMDbConstants.TOKEN));
@@ -24,6 +24,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 
 import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.utils.Log;
 import net.sf.json.JSONObject;
 
@@ -66,7 +67,9 @@ public class TMDbCompany extends TMDbCompanyThumbnail {
 	 */
 	public TMDbCompany(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbCompany.class, json);
 	}
 	
 	/**
@@ -75,7 +78,16 @@ public class TMDbCompany extends TMDbCompanyThumbnail {
 	 * @param company The company to copy
 	 */
 	public TMDbCompany(TMDbCompanyThumbnail company) {
-		this(company.getOriginJSON());
+		super(company);
+		if (company instanceof TMDbCompany) {
+			TMDbCompany other = (TMDbCompany) company;
+			this.description = other.description;
+			this.headquarters = other.headquarters;
+			this.homepage = other.homepage;
+			this.parentCompany = other.parentCompany;
+		} else {
+			parseJSON(company.getOriginJSON());
+		}
 	}
 
 	//region Getters/Setters
@@ -195,7 +207,7 @@ public class TMDbCompany extends TMDbCompanyThumbnail {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		if (json.has(TMDbConstants.DESCRIPTION)) setDescription(json.getString(TMDbConstants.DESCRIPTION));
 		if (json.has(TMDbConstants.HOMEPAGE))
@@ -20,14 +20,16 @@
 
 package mk.tmdb.entity.company;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import mk.tmdb.core.TMDbConstants;
 import mk.tmdb.core.TMDbAPI;
 import mk.tmdb.entity.TMDbEntity;
 import mk.tmdb.entity.movie.TMDbMovieReduced;
 import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.response.TMDbResponseArray;
 import mk.tmdb.response.TMDbResponseObject;
 import mk.tmdb.utils.Log;
@@ -63,7 +65,9 @@ public class TMDbCompanyThumbnail extends TMDbEntity {
 	 */
 	public TMDbCompanyThumbnail(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbCompanyThumbnail.class, json);
 	}
 	
 	/**
@@ -72,7 +76,26 @@ public class TMDbCompanyThumbnail extends TMDbEntity {
 	 * @param company The company to copy.
 	 */
 	public TMDbCompanyThumbnail(TMDbCompanyThumbnail company) {
-		this(company.getOriginJSON());
+		super(company);
+		this.id = company.id;
+		this.name = company.name;
+		this.logoPath = company.logoPath;
+	}
+	
+	/**
+	 * Two companies are equal if they have the same class and the same TMDb ID.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return Objects.equals(id, ((TMDbCompanyThumbnail) object).id);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + Objects.hashCode(id);
 	}
 	
 	//region Getters/Setters
@@ -144,7 +167,7 @@ public class TMDbCompanyThumbnail extends TMDbEntity {
 	
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		try {
 			setId(json.getInt(TMDbConstants.ID));
@@ -207,7 +230,7 @@ public class TMDbCompanyThumbnail extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
@@ -231,7 +254,7 @@ public class TMDbCompanyThumbnail extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
@@ -269,7 +292,7 @@ public class TMDbCompanyThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbCompanyThumbnail> companies = new LinkedList<TMDbCompanyThumbnail>();
+			List<TMDbCompanyThumbnail> companies = new ArrayList<TMDbCompanyThumbnail>();
 			for(JSONObject json : array) {
 				companies.add(new TMDbCompanyThumbnail(json));
 			}
@@ -292,7 +315,7 @@ public class TMDbCompanyThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbCompanyThumbnail> companies = new LinkedList<TMDbCompanyThumbnail>();
+			List<TMDbCompanyThumbnail> companies = new ArrayList<TMDbCompanyThumbnail>();
 			for(JSONObject json : array) {
 				companies.add(new TMDbCompanyThumbnail(json));
 			}
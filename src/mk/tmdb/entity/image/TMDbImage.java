@@ -22,14 +22,15 @@ package mk.tmdb.entity.image;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Objects;
 
 import net.sf.json.JSONObject;
 
-import mk.tmdb.core.TMDbConfiguration;
 import mk.tmdb.core.TMDbConstants;
 import mk.tmdb.entity.TMDbEntity;
 import mk.tmdb.exception.TMDbConfigurationNotLoadedException;
 import mk.tmdb.exception.TMDbImageSizeNotSupportedException;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.utils.Log;
 import mk.tmdb.utils.TMDbSize;
 
@@ -87,7 +88,41 @@ public abstract class TMDbImage extends TMDbEntity {
 	 */
 	public TMDbImage(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbImage.class, json);
+	}
+	
+	/**
+	 * Copy constructor.
+	 * 
+	 * @param image The image to copy
+	 */
+	protected TMDbImage(TMDbImage image) {
+		super(image);
+		this.path = image.path;
+		this.width = image.width;
+		this.height = image.height;
+		this.iso639_1 = image.iso639_1;
+		this.aspectRatio = image.aspectRatio;
+		this.average = image.average;
+		this.count = image.count;
+	}
+	
+	/**
+	 * Two images are equal if they have the same class and the same file path.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return Objects.equals(path, ((TMDbImage) object).path);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + Objects.hashCode(path);
 	}
 	
 	//region Getters/Setters
@@ -218,6 +253,13 @@ public abstract class TMDbImage extends TMDbEntity {
 		this.count = count;
 	}
 
+	/**
+	 * Gets the image type.
+	 * 
+	 * @return The image type
+	 */
+	public abstract TMDbImageResolver.Type getType();
+	
 	/**
 	 * Gets the image URL.
 	 * 
@@ -231,9 +273,23 @@ public abstract class TMDbImage extends TMDbEntity {
 										TMDbConfigurationNotLoadedException, 
 										TMDbImageSizeNotSupportedException {
 		
-		return new URL(TMDbConfiguration.getUrl() + 
-				   	   size + 
-				       path);
+		TMDbImageResolver resolver = TMDbImageResolver.getInstance();
+		if (!resolver.isSupported(getType(), size)) throw new TMDbImageSizeNotSupportedException();
+		
+		return new URL(resolver.getUrl(this, size));
+	}
+	
+	/**
+	 * Gets the image URL in the supported size that best fits the given width.
+	 * 
+	 * @param width The target width in pixels
+	 * @param secure Whether the URL has to be secure
+	 * @return The image URL
+	 * @throws TMDbConfigurationNotLoadedException Throws if the configuration information are not loaded.
+	 * @see TMDbImageResolver#getBestSize(TMDbImageResolver.Type, int)
+	 */
+	public String getUrl(int width, boolean secure) throws TMDbConfigurationNotLoadedException {
+		return TMDbImageResolver.getInstance(secure).getUrl(this, width);
 	}
 	
 	//endregion
@@ -243,7 +299,7 @@ public abstract class TMDbImage extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		try {
 			setPath(json.getString(TMDbConstants.PATH));
@@ -0,0 +1,450 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.entity.image;
+
+import java.util.Arrays;
+import java.util.List;
+
+import mk.tmdb.core.TMDbConfiguration;
+import mk.tmdb.core.TMDbConfigurationSnapshot;
+import mk.tmdb.exception.TMDbConfigurationNotLoadedException;
+import mk.tmdb.utils.TMDbSize;
+
+/**
+ * Resolves the URLs of the images. All the prefixes (base URL followed by the size) are computed 
+ * once from a configuration snapshot, so resolving a URL costs a single string concatenation. 
+ * The resolver can also choose the smallest size, among the ones supported by the image type, 
+ * that is at least as wide as a target width.
+ * 
+ * <p>Instances are immutable and thread-safe. The shared instances returned by 
+ * {@link #getInstance(boolean)} are rebuilt only when a new configuration is published.</p>
+ * 
+ * @author Mirko Polato
+ *
+ */
+public final class TMDbImageResolver {
+
+	/**
+	 * Enumeration of the image types, each one with its own list of supported sizes.
+	 * 
+	 * @author Mirko Polato
+	 *
+	 */
+	public enum Type {
+		
+		/**
+		 * Poster image.
+		 */
+		POSTER,
+		
+		/**
+		 * Backdrop image.
+		 */
+		BACKDROP,
+		
+		/**
+		 * Profile image.
+		 */
+		PROFILE,
+		
+		/**
+		 * Logo image.
+		 */
+		LOGO;
+		
+		/**
+		 * Gets the sizes supported by this image type.
+		 * 
+		 * @param configuration The configuration snapshot
+		 * @return The supported sizes
+		 */
+		public List<String> getSizes(TMDbConfigurationSnapshot configuration) {
+			switch (this) {
+				case POSTER: return configuration.getPosterSizes();
+				case BACKDROP: return configuration.getBackdropSizes();
+				case PROFILE: return configuration.getProfileSizes();
+				default: return configuration.getLogoSizes();
+			}
+		}
+	}
+	
+	//region Fields
+	
+	/**
+	 * The original size.
+	 */
+	private static final String ORIGINAL = TMDbSize.ORIGINAL.toString();
+	
+	/**
+	 * The shared resolver of the plain URLs.
+	 */
+	private static volatile TMDbImageResolver plainInstance;
+	
+	/**
+	 * The shared resolver of the secure URLs.
+	 */
+	private static volatile TMDbImageResolver secureInstance;
+	
+	/**
+	 * The configuration snapshot the prefixes have been computed from.
+	 */
+	private final TMDbConfigurationSnapshot configuration;
+	
+	/**
+	 * Whether the URLs are secure.
+	 */
+	private final boolean secure;
+	
+	/**
+	 * The prefixes indexed by image type and size ordinal, null if the size is not supported.
+	 */
+	private final String[][] sizePrefixes;
+	
+	/**
+	 * The widths of the supported "w" sizes, indexed by image type and sorted in ascending order.
+	 */
+	private final int[][] widths;
+	
+	/**
+	 * The prefixes of the supported "w" sizes, aligned with {@link #widths}.
+	 */
+	private final String[][] widthPrefixes;
+	
+	/**
+	 * The names of the supported "w" sizes, aligned with {@link #widths}.
+	 */
+	private final String[][] widthSizes;
+	
+	/**
+	 * The prefixes used when no supported width is large enough, indexed by image type.
+	 */
+	private final String[] largestPrefixes;
+	
+	/**
+	 * The sizes used when no supported width is large enough, indexed by image type.
+	 */
+	private final String[] largestSizes;
+	
+	//endregion
+	
+	/**
+	 * Creates a new resolver and computes all its prefixes.
+	 * 
+	 * @param configuration The configuration snapshot
+	 * @param secure Whether the URLs have to be secure
+	 */
+	public TMDbImageResolver(TMDbConfigurationSnapshot configuration, boolean secure) {
+		
+		this.configuration = configuration;
+		this.secure = secure;
+		
+		String base = secure ? configuration.getSecureUrl() : configuration.getUrl();
+		Type[] types = Type.values();
+		TMDbSize[] sizes = TMDbSize.values();
+		
+		sizePrefixes = new String[types.length][sizes.length];
+		widths = new int[types.length][];
+		widthPrefixes = new String[types.length][];
+		widthSizes = new String[types.length][];
+		largestPrefixes = new String[types.length];
+		largestSizes = new String[types.length];
+		
+		for (Type type : types) {
+			int t = type.ordinal();
+			List<String> supported = type.getSizes(configuration);
+			
+			for (TMDbSize size : sizes) {
+				if (supported.contains(size.toString())) {
+					sizePrefixes[t][size.ordinal()] = base + size;
+				}
+			}
+			
+			String[] names = supported.stream()
+									  .filter(s -> getWidth(s) > 0)
+									  .sorted((a, b) -> Integer.compare(getWidth(a), getWidth(b)))
+									  .toArray(String[]::new);
+			
+			widths[t] = new int[names.length];
+			widthPrefixes[t] = new String[names.length];
+			widthSizes[t] = names;
+			for (int i = 0; i < names.length; i++) {
+				widths[t][i] = getWidth(names[i]);
+				widthPrefixes[t][i] = base + names[i];
+			}
+			
+			if (supported.contains(ORIGINAL) || names.length == 0) {
+				largestSizes[t] = ORIGINAL;
+			} else {
+				largestSizes[t] = names[names.length - 1];
+			}
+			largestPrefixes[t] = base + largestSizes[t];
+		}
+	}
+	
+	/**
+	 * Gets the shared resolver of the plain URLs for the current configuration.
+	 * 
+	 * @return The shared resolver
+	 * @throws TMDbConfigurationNotLoadedException Throws if the configuration information are not loaded.
+	 */
+	public static TMDbImageResolver getInstance() throws TMDbConfigurationNotLoadedException {
+		return getInstance(false);
+	}
+	
+	/**
+	 * Gets the shared resolver for the current configuration. The resolver is rebuilt only when 
+	 * the configuration snapshot has changed since the last call.
+	 * 
+	 * @param secure Whether the URLs have to be secure
+	 * @return The shared resolver
+	 * @throws TMDbConfigurationNotLoadedException Throws if the configuration information are not loaded.
+	 */
+	public static TMDbImageResolver getInstance(boolean secure) throws TMDbConfigurationNotLoadedException {
+		
+		TMDbConfigurationSnapshot current = TMDbConfiguration.getSnapshot();
+		TMDbImageResolver resolver = secure ? secureInstance : plainInstance;
+		
+		if (resolver == null || resolver.configuration != current) {
+			resolver = new TMDbImageResolver(current, secure);
+			if (secure) secureInstance = resolver;
+			else plainInstance = resolver;
+		}
+		
+		return resolver;
+	}
+	
+	//region Getters
+	
+	/**
+	 * Gets the configuration snapshot the resolver has been built from.
+	 * 
+	 * @return The configuration snapshot
+	 */
+	public TMDbConfigurationSnapshot getConfiguration() {
+		return configuration;
+	}
+	
+	/**
+	 * Checks whether the resolved URLs are secure.
+	 * 
+	 * @return Whether the resolved URLs are secure
+	 */
+	public boolean isSecure() {
+		return secure;
+	}
+	
+	/**
+	 * Checks whether the given size is supported by the given image type.
+	 * 
+	 * @param type The image type
+	 * @param size The image size
+	 * @return Whether the size is supported
+	 */
+	public boolean isSupported(Type type, TMDbSize size) {
+		return sizePrefixes[type.ordinal()][size.ordinal()] != null;
+	}
+	
+	/**
+	 * Gets the smallest size supported by the given image type whose width is at least the 
+	 * given one. If there is no such size, the original size (or the largest one, if the 
+	 * original is not supported) is returned.
+	 * 
+	 * @param type The image type
+	 * @param width The target width in pixels
+	 * @return The best fitting size
+	 */
+	public String getBestSize(Type type, int width) {
+		int t = type.ordinal();
+		int i = indexOf(t, width);
+		return i < 0 ? largestSizes[t] : widthSizes[t][i];
+	}
+	
+	//endregion
+	
+	//region URLs
+	
+	/**
+	 * Gets the URL of the image in the given size.
+	 * 
+	 * @param image The image
+	 * @param size The image size
+	 * @return The image URL, or null if the image has no path
+	 * @throws IllegalArgumentException Throws if the size is not supported by the image type.
+	 */
+	public String getUrl(TMDbImage image, TMDbSize size) {
+		return getUrl(image.getType(), image.getPath(), size);
+	}
+	
+	/**
+	 * Gets the URL of the image with the given type and path in the given size.
+	 * 
+	 * @param type The image type
+	 * @param path The image path (e.g. the poster path of a movie)
+	 * @param size The image size
+	 * @return The image URL, or null if the path is null
+	 * @throws IllegalArgumentException Throws if the size is not supported by the image type.
+	 */
+	public String getUrl(Type type, String path, TMDbSize size) {
+		return path == null ? null : getPrefix(type, size).concat(path);
+	}
+	
+	/**
+	 * Gets the URL of the image in the size that best fits the given width.
+	 * 
+	 * @param image The image
+	 * @param width The target width in pixels
+	 * @return The image URL, or null if the image has no path
+	 * @see #getBestSize(Type, int)
+	 */
+	public String getUrl(TMDbImage image, int width) {
+		return getUrl(image.getType(), image.getPath(), width);
+	}
+	
+	/**
+	 * Gets the URL of the image with the given type and path in the size that best fits the 
+	 * given width.
+	 * 
+	 * @param type The image type
+	 * @param path The image path (e.g. the poster path of a movie)
+	 * @param width The target width in pixels
+	 * @return The image URL, or null if the path is null
+	 * @see #getBestSize(Type, int)
+	 */
+	public String getUrl(Type type, String path, int width) {
+		return path == null ? null : getPrefix(type, width).concat(path);
+	}
+	
+	/**
+	 * Appends the URL of the image, in the size that best fits the given width, to the given 
+	 * builder. Nothing is appended if the image has no path.
+	 * 
+	 * @param builder The builder
+	 * @param image The image
+	 * @param width The target width in pixels
+	 * @return The given builder
+	 */
+	public StringBuilder appendUrl(StringBuilder builder, TMDbImage image, int width) {
+		String path = image.getPath();
+		if (path != null) builder.append(getPrefix(image.getType(), width)).append(path);
+		return builder;
+	}
+	
+	/**
+	 * Gets the URLs of all the given images in the given size. The prefix is looked up only when 
+	 * the image type changes, so each URL costs a single concatenation.
+	 * 
+	 * @param images The images
+	 * @param size The image size
+	 * @return The image URLs, aligned with the images (null for the images without a path)
+	 * @throws IllegalArgumentException Throws if the size is not supported by an image type.
+	 */
+	public String[] getUrls(List<? extends TMDbImage> images, TMDbSize size) {
+		
+		String[] urls = new String[images.size()];
+		Type type = null;
+		String prefix = null;
+		
+		int i = 0;
+		for (TMDbImage image : images) {
+			if (image.getType() != type) {
+				type = image.getType();
+				prefix = getPrefix(type, size);
+			}
+			String path = image.getPath();
+			urls[i++] = path == null ? null : prefix.concat(path);
+		}
+		
+		return urls;
+	}
+	
+	/**
+	 * Gets the URLs of all the given images in the size that best fits the given width. The 
+	 * prefix is looked up only when the image type changes, so each URL costs a single 
+	 * concatenation.
+	 * 
+	 * @param images The images
+	 * @param width The target width in pixels
+	 * @return The image URLs, aligned with the images (null for the images without a path)
+	 */
+	public String[] getUrls(List<? extends TMDbImage> images, int width) {
+		
+		String[] urls = new String[images.size()];
+		Type type = null;
+		String prefix = null;
+		
+		int i = 0;
+		for (TMDbImage image : images) {
+			if (image.getType() != type) {
+				type = image.getType();
+				prefix = getPrefix(type, width);
+			}
+			String path = image.getPath();
+			urls[i++] = path == null ? null : prefix.concat(path);
+		}
+		
+		return urls;
+	}
+	
+	//endregion
+	
+	/**
+	 * Gets the prefix of the given size.
+	 */
+	private String getPrefix(Type type, TMDbSize size) {
+		String prefix = sizePrefixes[type.ordinal()][size.ordinal()];
+		if (prefix == null) {
+			throw new IllegalArgumentException("Image size " + size + " not supported by " + type);
+		}
+		return prefix;
+	}
+	
+	/**
+	 * Gets the prefix of the size that best fits the given width.
+	 */
+	private String getPrefix(Type type, int width) {
+		int t = type.ordinal();
+		int i = indexOf(t, width);
+		return i < 0 ? largestPrefixes[t] : widthPrefixes[t][i];
+	}
+	
+	/**
+	 * Gets the index of the smallest width not lower than the given one, or -1 if there is none.
+	 */
+	private int indexOf(int type, int width) {
+		int[] w = widths[type];
+		int i = Arrays.binarySearch(w, width);
+		if (i < 0) i = -i - 1;
+		return i < w.length ? i : -1;
+	}
+	
+	/**
+	 * Gets the width of a "w" size (e.g. 185 for "w185"), or -1 for the other sizes.
+	 */
+	private static int getWidth(String size) {
+		if (size.length() < 2 || size.charAt(0) != 'w') return -1;
+		try {
+			return Integer.parseInt(size.substring(1));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+	
+}
@@ -20,16 +20,8 @@
 
 package mk.tmdb.entity.image;
 
-import java.net.MalformedURLException;
-import java.net.URL;
-
 import net.sf.json.JSONObject;
 
-import mk.tmdb.core.TMDbConfiguration;
-import mk.tmdb.exception.TMDbConfigurationNotLoadedException;
-import mk.tmdb.exception.TMDbImageSizeNotSupportedException;
-import mk.tmdb.utils.TMDbSize;
-
 /**
  * Class that represents a poster image.
  * 
@@ -53,29 +45,12 @@ public class TMDbPoster extends TMDbImage {
 	 * @param poster The image to copy
 	 */
 	public TMDbPoster(TMDbPoster poster) {
-		this(poster.getOriginJSON());
+		super(poster);
 	}
 	
 	@Override
-	public URL getUrl(TMDbSize size) throws MalformedURLException, 
-										TMDbConfigurationNotLoadedException, 
-										TMDbImageSizeNotSupportedException {
-		
-		if (TMDbConfiguration.isLoaded()) {
-			
-			if (TMDbConfiguration.getPosterSizes().contains(size)) {
-				
-				return new URL(TMDbConfiguration.getUrl() + 
-						   	   size + 
-						   	   path);
-				
-			} else {
-				throw new TMDbImageSizeNotSupportedException();
-			}
-			
-		} else {
-			throw new TMDbConfigurationNotLoadedException();
-		}
+	public TMDbImageResolver.Type getType() {
+		return TMDbImageResolver.Type.POSTER;
 	}
 	
 }
@@ -22,8 +22,6 @@ package mk.tmdb.entity.movie;
 
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import mk.tmdb.core.TMDbConstants;
@@ -32,8 +30,9 @@ import mk.tmdb.entity.TMDbCountry;
 import mk.tmdb.entity.TMDbGenre;
 import mk.tmdb.entity.TMDbLanguage;
 import mk.tmdb.entity.company.TMDbCompanyThumbnail;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.utils.Log;
-import net.sf.json.JSONArray;
+import mk.tmdb.utils.TMDbImmutableList;
 import net.sf.json.JSONObject;
 
 /**
@@ -96,22 +95,22 @@ public class TMDbMovie extends TMDbMovieReduced {
 	/**
 	 * The movie genres.
 	 */
-	protected List<TMDbGenre> genres = Collections.synchronizedList(new LinkedList<TMDbGenre>());
+	protected List<TMDbGenre> genres = TMDbImmutableList.empty();
 	
 	/**
 	 * The movie companies.
 	 */
-	protected List<TMDbCompanyThumbnail> companies = Collections.synchronizedList(new LinkedList<TMDbCompanyThumbnail>());
+	protected List<TMDbCompanyThumbnail> companies = TMDbImmutableList.empty();
 	
 	/**
 	 * The movie countries.
 	 */
-	protected List<TMDbCountry> countries = Collections.synchronizedList(new LinkedList<TMDbCountry>());
+	protected List<TMDbCountry> countries = TMDbImmutableList.empty();
 	
 	/**
 	 * The movie languages.
 	 */
-	protected List<TMDbLanguage> languages = Collections.synchronizedList(new LinkedList<TMDbLanguage>());
+	protected List<TMDbLanguage> languages = TMDbImmutableList.empty();
 	
 	//endregion
 	
@@ -122,7 +121,9 @@ public class TMDbMovie extends TMDbMovieReduced {
 	 */
 	public TMDbMovie(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbMovie.class, json);
 	}
 	
 	/**
@@ -131,7 +132,25 @@ public class TMDbMovie extends TMDbMovieReduced {
 	 * @param movie The movie to copy
 	 */
 	public TMDbMovie(TMDbMovieThumbnail movie) {
-		this(movie.getOriginJSON());
+		super(movie);
+		if (movie instanceof TMDbMovie) {
+			TMDbMovie full = (TMDbMovie) movie;
+			this.imdbID = full.imdbID;
+			this.budget = full.budget;
+			this.homepage = full.homepage;
+			this.overview = full.overview;
+			this.runtime = full.runtime;
+			this.status = full.status;
+			this.tagline = full.tagline;
+			this.revenue = full.revenue;
+			this.collection = full.collection;
+			this.genres = full.genres;
+			this.companies = full.companies;
+			this.countries = full.countries;
+			this.languages = full.languages;
+		} else {
+			parseJSON(movie.getOriginJSON());
+		}
 	}
 	
 	//region Getters/Setters
@@ -205,8 +224,7 @@ public class TMDbMovie extends TMDbMovieReduced {
 	 * @param genres The new list of movie genres
 	 */
 	public void setGenres(List<TMDbGenre> genres) {
-		this.genres.clear();
-		this.genres.addAll(genres);
+		this.genres = TMDbImmutableList.copyOf(genres);
 	}
 	
 	/**
@@ -278,8 +296,7 @@ public class TMDbMovie extends TMDbMovieReduced {
 	 * @param countries The new countries of the movie
 	 */
 	public void setCountries(List<TMDbCountry> countries) {
-		this.countries.clear();
-		this.countries.addAll(countries);
+		this.countries = TMDbImmutableList.copyOf(countries);
 	}
 	
 	/**
@@ -297,8 +314,7 @@ public class TMDbMovie extends TMDbMovieReduced {
 	 * @param companies The new companies of the movie
 	 */
 	public void setCompanies(List<TMDbCompanyThumbnail> companies) {
-		this.companies.clear();
-		this.companies.addAll(companies);
+		this.companies = TMDbImmutableList.copyOf(companies);
 	}
 	
 	/**
@@ -343,8 +359,7 @@ public class TMDbMovie extends TMDbMovieReduced {
 	 * @param languages The new languages of the movie
 	 */
 	public void setLanguages(List<TMDbLanguage> languages) {
-		this.languages.clear();
-		this.languages.addAll(languages);
+		this.languages = TMDbImmutableList.copyOf(languages);
 	}
 	
 	/**
@@ -462,7 +477,7 @@ public class TMDbMovie extends TMDbMovieReduced {
 	 */
 	private boolean parseJSON(JSONObject json) {
 			
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		if (json.has(TMDbConstants.BUDGET)) setBudget(json.getInt(TMDbConstants.BUDGET));
 		if (json.has(TMDbConstants.IMDB)) setImdbID(json.getString(TMDbConstants.IMDB));
@@ -483,32 +498,19 @@ public class TMDbMovie extends TMDbMovieReduced {
 		}
 		
 		if (json.has(TMDbConstants.GENRES)) {
-			JSONArray genresList = json.getJSONArray(TMDbConstants.GENRES);
-			genres = Collections.synchronizedList(new LinkedList<TMDbGenre>());
-			for (Object obj : genresList) {
-			    genres.add(new TMDbGenre((JSONObject) obj));
-			}
+			genres = TMDbImmutableList.of(json.getJSONArray(TMDbConstants.GENRES), obj -> new TMDbGenre((JSONObject) obj));
 		}
 		
 		if (json.has(TMDbConstants.COMPANIES)) {
-			JSONArray companiesList = json.getJSONArray(TMDbConstants.COMPANIES);
-			for (Object obj : companiesList) {
-			    companies.add(new TMDbCompanyThumbnail((JSONObject) obj));
-			}
+			companies = TMDbImmutableList.of(json.getJSONArray(TMDbConstants.COMPANIES), obj -> new TMDbCompanyThumbnail((JSONObject) obj));
 		}
 		
 		if (json.has(TMDbConstants.PRODUCTION_COUNTRIES)) {
-			JSONArray countriesList = json.getJSONArray(TMDbConstants.PRODUCTION_COUNTRIES);
-			for (Object obj : countriesList) {
-			    countries.add(new TMDbCountry((JSONObject) obj));
-			}
+			countries = TMDbImmutableList.of(json.getJSONArray(TMDbConstants.PRODUCTION_COUNTRIES), obj -> new TMDbCountry((JSONObject) obj));
 		}
 		
 		if (json.has(TMDbConstants.LANGUAGES)) {
-			JSONArray langsList = json.getJSONArray(TMDbConstants.LANGUAGES);
-			for (Object obj : langsList) {
-			    languages.add(new TMDbLanguage((JSONObject) obj));
-			}
+			languages = TMDbImmutableList.of(json.getJSONArray(TMDbConstants.LANGUAGES), obj -> new TMDbLanguage((JSONObject) obj));
 		}
 		
 		return true;
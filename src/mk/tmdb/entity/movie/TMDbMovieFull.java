@@ -20,10 +20,10 @@
 
 package mk.tmdb.entity.movie;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
+import mk.tmdb.core.TMDbAPI;
+import mk.tmdb.core.TMDbConstants;
 import mk.tmdb.entity.TMDbKeyword;
 import mk.tmdb.entity.TMDbLanguage;
 import mk.tmdb.entity.image.TMDbBackdrop;
@@ -32,7 +32,9 @@ import mk.tmdb.entity.person.TMDbMovieCast;
 import mk.tmdb.entity.person.TMDbMovieCrew;
 import mk.tmdb.entity.trailer.TMDbTrailer;
 import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.response.TMDbResponseObject;
 import mk.tmdb.utils.Log;
+import mk.tmdb.utils.TMDbImmutableList;
 import net.sf.json.JSONObject;
 
 /**
@@ -54,40 +56,49 @@ public class TMDbMovieFull extends TMDbMovie {
 	/**
 	 * The movie backdrops.
 	 */
-	private List<TMDbBackdrop> backdrops = Collections.synchronizedList(new LinkedList<TMDbBackdrop>());
+	private List<TMDbBackdrop> backdrops = TMDbImmutableList.empty();
 	
 	/**
 	 * The movie posters.
 	 */
-	private List<TMDbPoster> posters = Collections.synchronizedList(new LinkedList<TMDbPoster>());
+	private List<TMDbPoster> posters = TMDbImmutableList.empty();
 	
 	/**
 	 * The movie keywords.
 	 */
-	private List<TMDbKeyword> keywords = Collections.synchronizedList(new LinkedList<TMDbKeyword>());
+	private List<TMDbKeyword> keywords = TMDbImmutableList.empty();
 	
 	/**
 	 * The movie translations.
 	 */
-	private List<TMDbLanguage> translations = Collections.synchronizedList(new LinkedList<TMDbLanguage>());
+	private List<TMDbLanguage> translations = TMDbImmutableList.empty();
 	
 	/**
 	 * The movie trailers.
 	 */
-	private List<TMDbTrailer> trailers = Collections.synchronizedList(new LinkedList<TMDbTrailer>());
+	private List<TMDbTrailer> trailers = TMDbImmutableList.empty();
 	
 	/**
 	 * The movie cast.
 	 */
-	private List<TMDbMovieCast> cast = Collections.synchronizedList(new LinkedList<TMDbMovieCast>());
+	private List<TMDbMovieCast> cast = TMDbImmutableList.empty();
 	
 	/**
 	 * The movie crew.
 	 */
-	private List<TMDbMovieCrew> crew = Collections.synchronizedList(new LinkedList<TMDbMovieCrew>());
+	private List<TMDbMovieCrew> crew = TMDbImmutableList.empty();
 	
 	//endregion
 	
+	/**
+	 * The sub-requests appended to the movie information call to get all the information at once.
+	 */
+	private static final String[] FULL_INFORMATION = { TMDbConstants.CASTS, 
+													   TMDbConstants.KEYWORDS, 
+													   TMDbConstants.TRAILERS, 
+													   TMDbConstants.TRANSLATIONS, 
+													   TMDbConstants.IMAGES };
+	
 	/**
 	 * Creates a new instance of MovieFull based on the origin JSON object.
 	 * 
@@ -120,7 +131,17 @@ public class TMDbMovieFull extends TMDbMovie {
 	 * @param movie The movie to copy
 	 */
 	public TMDbMovieFull(TMDbMovieThumbnail movie) {
-		this(movie.getOriginJSON());
+		super(movie);
+		if (movie instanceof TMDbMovieFull) {
+			TMDbMovieFull full = (TMDbMovieFull) movie;
+			this.backdrops = full.backdrops;
+			this.posters = full.posters;
+			this.keywords = full.keywords;
+			this.translations = full.translations;
+			this.trailers = full.trailers;
+			this.cast = full.cast;
+			this.crew = full.crew;
+		}
 	}
 
 	/**
@@ -130,7 +151,7 @@ public class TMDbMovieFull extends TMDbMovie {
 	 * @param loadAll Whether the remaining information have to be loaded or not
 	 */
 	public TMDbMovieFull(TMDbMovieThumbnail movie, boolean loadAll) {
-		this(movie.getOriginJSON());
+		this(movie);
 		if (loadAll)
 			try {
 				getFullInformation();
@@ -156,8 +177,7 @@ public class TMDbMovieFull extends TMDbMovie {
 	 * @param backdrops The movie backdrops
 	 */
 	public void setBackdrops(List<TMDbBackdrop> backdrops) {
-		this.backdrops.clear();
-		this.backdrops.addAll(backdrops);
+		this.backdrops = TMDbImmutableList.copyOf(backdrops);
 	}
 
 	/**
@@ -175,8 +195,7 @@ public class TMDbMovieFull extends TMDbMovie {
 	 * @param posters The movie posers
 	 */
 	public void setPosters(List<TMDbPoster> posters) {
-		this.posters.clear();
-		this.posters.addAll(posters);
+		this.posters = TMDbImmutableList.copyOf(posters);
 	}
 
 	/**
@@ -194,8 +213,7 @@ public class TMDbMovieFull extends TMDbMovie {
 	 * @param keywords The movie keywords
 	 */
 	public void setKeywords(List<TMDbKeyword> keywords) {
-		this.keywords.clear();
-		this.keywords.addAll(keywords);
+		this.keywords = TMDbImmutableList.copyOf(keywords);
 	}
 
 	/**
@@ -213,8 +231,7 @@ public class TMDbMovieFull extends TMDbMovie {
 	 * @param translations The movie translations
 	 */
 	public void setTranslations(List<TMDbLanguage> translations) {
-		this.translations.clear();
-		this.translations.addAll(translations);
+		this.translations = TMDbImmutableList.copyOf(translations);
 	}
 
 	/**
@@ -232,8 +249,7 @@ public class TMDbMovieFull extends TMDbMovie {
 	 * @param trailers The movie trailers
 	 */
 	public void setTrailers(List<TMDbTrailer> trailers) {
-		this.trailers.clear();
-		this.trailers.addAll(trailers);
+		this.trailers = TMDbImmutableList.copyOf(trailers);
 	}
 
 	/**
@@ -251,8 +267,7 @@ public class TMDbMovieFull extends TMDbMovie {
 	 * @param cast The new movie cast
 	 */
 	public void setCast(List<TMDbMovieCast> cast) {
-		this.cast.clear();
-		this.cast.addAll(cast);
+		this.cast = TMDbImmutableList.copyOf(cast);
 	}
 
 	/**
@@ -270,26 +285,68 @@ public class TMDbMovieFull extends TMDbMovie {
 	 * @param crew The new movie crew
 	 */
 	public void setCrew(List<TMDbMovieCrew> crew) {
-		this.crew.clear();
-		this.crew.addAll(crew);
+		this.crew = TMDbImmutableList.copyOf(crew);
 	}
 	
 	//endregion
 	
 	/**
-	 * Gets all the information.
+	 * Gets all the full movie information in a single call.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The full movie
+	 * @throws TMDbResponseException Throws whether the server response is not a success.
+	 */
+	public static TMDbMovieFull getFullInformation(int movieID) throws TMDbResponseException {
+		
+		TMDbResponseObject response = TMDbAPI.getMovieInformation(movieID, FULL_INFORMATION);
+		
+		if (response.hasError()) {
+			throw new TMDbResponseException(response.getStatus());
+		} else {
+			TMDbMovieFull movie = new TMDbMovieFull(response.getData());
+			movie.setFullInformation(response.getData());
+			
+			return movie;
+		}
+	}
+	
+	/**
+	 * Gets all the information, appending all the sub-requests to a single movie information call.
 	 * 
 	 * @throws TMDbResponseException Throws whether the server response is not a success.
 	 */
 	private void getFullInformation() throws TMDbResponseException {
 		
-		setCast(getCastInformation(id));
-		setCrew(getCrewInformation(id));
-		setKeywords(getKeywords(id));
-		setTrailers(getTrailers(id));
-		setTranslations(getTranslations(id));
-		setPosters(getPosters(id));
-		setBackdrops(getBackdrops(id));
+		TMDbResponseObject response = TMDbAPI.getMovieInformation(id, FULL_INFORMATION);
+		
+		if (response.hasError()) {
+			throw new TMDbResponseException(response.getStatus());
+		} else {
+			setFullInformation(response.getData());
+		}
+	}
+	
+	/**
+	 * Splits a movie information response with the appended sub-requests into the movie lists.
+	 * 
+	 * @param json The movie information response
+	 */
+	private void setFullInformation(JSONObject json) {
+		
+		if (json.has(TMDbConstants.CASTS)) {
+			JSONObject casts = json.getJSONObject(TMDbConstants.CASTS);
+			setCast(parseCast(casts, id));
+			setCrew(parseCrew(casts, id));
+		}
+		if (json.has(TMDbConstants.KEYWORDS)) setKeywords(parseKeywords(json.getJSONObject(TMDbConstants.KEYWORDS)));
+		if (json.has(TMDbConstants.TRAILERS)) setTrailers(parseTrailers(json.getJSONObject(TMDbConstants.TRAILERS)));
+		if (json.has(TMDbConstants.TRANSLATIONS)) setTranslations(parseTranslations(json.getJSONObject(TMDbConstants.TRANSLATIONS)));
+		if (json.has(TMDbConstants.IMAGES)) {
+			JSONObject images = json.getJSONObject(TMDbConstants.IMAGES);
+			setPosters(parsePosters(images));
+			setBackdrops(parseBackdrops(images));
+		}
 	}
 	
 }
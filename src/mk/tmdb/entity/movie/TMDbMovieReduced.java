@@ -21,6 +21,7 @@
 package mk.tmdb.entity.movie;
 
 import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import net.sf.json.JSONObject;
 
 /**
@@ -68,7 +69,9 @@ public class TMDbMovieReduced extends TMDbMovieThumbnail {
 	 */
 	public TMDbMovieReduced(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbMovieReduced.class, json);
 	}
 	
 	/**
@@ -77,7 +80,16 @@ public class TMDbMovieReduced extends TMDbMovieThumbnail {
 	 * @param movie The movie to copy
 	 */
 	public TMDbMovieReduced(TMDbMovieThumbnail movie) {
-		this(movie.getOriginJSON());
+		super(movie);
+		if (movie instanceof TMDbMovieReduced) {
+			TMDbMovieReduced reduced = (TMDbMovieReduced) movie;
+			this.voteAverage = reduced.voteAverage;
+			this.voteCount = reduced.voteCount;
+			this.backdropPath = reduced.backdropPath;
+			this.popularity = reduced.popularity;
+		} else {
+			parseJSON(movie.getOriginJSON());
+		}
 	}
 	
 	//region Getters/Setters
@@ -197,7 +209,7 @@ public class TMDbMovieReduced extends TMDbMovieThumbnail {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		if (json.has(TMDbConstants.AVERAGE)) setVoteAverage(json.getDouble(TMDbConstants.AVERAGE));
 		if (json.has(TMDbConstants.COUNT)) setVoteCount(json.getInt(TMDbConstants.COUNT));
@@ -23,12 +23,16 @@ package mk.tmdb.entity.movie;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import mk.tmdb.core.TMDbConstants;
 import mk.tmdb.core.TMDbAPI;
+import mk.tmdb.core.TMDbPagination;
+import mk.tmdb.core.TMDbURLCreator;
 import mk.tmdb.entity.TMDbAccount;
 import mk.tmdb.entity.TMDbCountry;
 import mk.tmdb.entity.TMDbEntity;
@@ -42,6 +46,7 @@ import mk.tmdb.entity.trailer.TMDbQuicktimeTrailer;
 import mk.tmdb.entity.trailer.TMDbTrailer;
 import mk.tmdb.entity.trailer.TMDbYoutubeTrailer;
 import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.response.TMDbResponseArray;
 import mk.tmdb.response.TMDbResponseObject;
 import mk.tmdb.utils.Log;
@@ -109,7 +114,9 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 	 */
 	public TMDbMovieThumbnail(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbMovieThumbnail.class, json);
 	}
 	
 	/**
@@ -118,7 +125,30 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 	 * @param movie The movie to copy
 	 */
 	public TMDbMovieThumbnail(TMDbMovieThumbnail movie) {
-		this(movie.getOriginJSON());
+		super(movie);
+		this.adult = movie.adult;
+		this.id = movie.id;
+		this.originalTitle = movie.originalTitle;
+		this.title = movie.title;
+		this.posterPath = movie.posterPath;
+		this.releaseDate = copyOf(movie.releaseDate);
+		this.mpaa = movie.mpaa;
+	}
+	
+	/**
+	 * Two movies are equal if they have the same class and the same TMDb ID.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return Objects.equals(id, ((TMDbMovieThumbnail) object).id);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + Objects.hashCode(id);
 	}
 	
 	//region Getters/Setters
@@ -313,7 +343,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		if (json.has(TMDbConstants.ADULT)) setAdult(json.getBoolean(TMDbConstants.ADULT));
 		setId(json.getInt(TMDbConstants.ID));
@@ -403,7 +433,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> inTheatre = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> inTheatre = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for (JSONObject json : array) {
 				inTheatre.add(new TMDbMovieReduced(json));
@@ -427,7 +457,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> inTheatre = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> inTheatre = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for (JSONObject json : array) {
 				inTheatre.add(new TMDbMovieReduced(json));
@@ -437,6 +467,17 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		}
 	}
 	
+	/**
+	 * Lazily streams the entire list of movies in theatres: the pages are fetched while the stream is consumed.
+	 * Close the stream to stop the prefetching of the next page if it is not fully consumed.
+	 * 
+	 * @return The stream of movies in theatres
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 */
+	public static Stream<TMDbMovieReduced> streamInTheatreMovies() throws TMDbResponseException {
+		return TMDbPagination.stream(page -> TMDbURLCreator.getInTheatresMoviesUrl(page), TMDbMovieReduced::new);
+	}
+	
 	/**
 	 * Gets the list of coming soon movies.
 	 * Returns the results of the first page.
@@ -464,7 +505,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> upcoming = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> upcoming = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for (JSONObject json : array) {
 				upcoming.add(new TMDbMovieReduced(json));
@@ -488,7 +529,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> upcoming = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> upcoming = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for (JSONObject json : array) {
 				upcoming.add(new TMDbMovieReduced(json));
@@ -497,6 +538,17 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			return upcoming;
 		}
 	}
+	
+	/**
+	 * Lazily streams the entire list of upcoming movies: the pages are fetched while the stream is consumed.
+	 * Close the stream to stop the prefetching of the next page if it is not fully consumed.
+	 * 
+	 * @return The stream of upcoming movies
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 */
+	public static Stream<TMDbMovieReduced> streamUpcomingMovies() throws TMDbResponseException {
+		return TMDbPagination.stream(page -> TMDbURLCreator.getUpcomingMoviesListUrl(page), TMDbMovieReduced::new);
+	}
 
 	/**
 	 * Gets the list of popular movies.
@@ -525,7 +577,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> popular = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> popular = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for (JSONObject json : array) {
 				popular.add(new TMDbMovieReduced(json));
@@ -549,7 +601,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> popular = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> popular = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for (JSONObject json : array) {
 				popular.add(new TMDbMovieReduced(json));
@@ -558,6 +610,17 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			return popular;
 		}
 	}
+	
+	/**
+	 * Lazily streams the entire list of popular movies: the pages are fetched while the stream is consumed.
+	 * Close the stream to stop the prefetching of the next page if it is not fully consumed.
+	 * 
+	 * @return The stream of popular movies
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 */
+	public static Stream<TMDbMovieReduced> streamPopularMovies() throws TMDbResponseException {
+		return TMDbPagination.stream(page -> TMDbURLCreator.getPopularMoviesUrl(page), TMDbMovieReduced::new);
+	}
 
 	/**
 	 * Gets the list of top rated movies.
@@ -586,7 +649,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> tops = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> tops = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for (JSONObject json : array) {
 				tops.add(new TMDbMovieReduced(json));
@@ -610,7 +673,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> tops = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> tops = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for (JSONObject json : array) {
 				tops.add(new TMDbMovieReduced(json));
@@ -620,6 +683,17 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		}
 	}
 	
+	/**
+	 * Lazily streams the entire list of top rated movies: the pages are fetched while the stream is consumed.
+	 * Close the stream to stop the prefetching of the next page if it is not fully consumed.
+	 * 
+	 * @return The stream of top rated movies
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 */
+	public static Stream<TMDbMovieReduced> streamTopRatedMovies() throws TMDbResponseException {
+		return TMDbPagination.stream(page -> TMDbURLCreator.getTopRatedMoviesUrl(page), TMDbMovieReduced::new);
+	}
+	
 	/**
 	 * Gets the movie information by id.
 	 * 
@@ -651,15 +725,24 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-			
-			JSONArray allkeys = response.getData().getJSONArray(TMDbConstants.KEYWORDS);
-			List<TMDbKeyword> keywords = new LinkedList<TMDbKeyword>();
-			for (Object obj : allkeys) {
-			    keywords.add(new TMDbKeyword((JSONObject) obj));
-			}
-			
-			return keywords;
+			return parseKeywords(response.getData());
+		}
+	}
+	
+	/**
+	 * Parses the movie keywords response.
+	 * 
+	 * @param json The keywords response
+	 * @return The list of keywords
+	 */
+	protected static List<TMDbKeyword> parseKeywords(JSONObject json) {
+		JSONArray allkeys = json.getJSONArray(TMDbConstants.KEYWORDS);
+		List<TMDbKeyword> keywords = new ArrayList<TMDbKeyword>();
+		for (Object obj : allkeys) {
+		    keywords.add(new TMDbKeyword((JSONObject) obj));
 		}
+		
+		return keywords;
 	}
 	
 	/**
@@ -675,15 +758,24 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-			
-			JSONArray allTrans = response.getData().getJSONArray(TMDbConstants.TRANSLATIONS);
-			List<TMDbLanguage> translations = new LinkedList<TMDbLanguage>();
-			for (Object obj : allTrans) {
-			    translations.add(new TMDbLanguage((JSONObject) obj));
-			}
-			
-			return translations;
+			return parseTranslations(response.getData());
+		}
+	}
+	
+	/**
+	 * Parses the movie translations response.
+	 * 
+	 * @param json The translations response
+	 * @return The list of translation languages of the movie
+	 */
+	protected static List<TMDbLanguage> parseTranslations(JSONObject json) {
+		JSONArray allTrans = json.getJSONArray(TMDbConstants.TRANSLATIONS);
+		List<TMDbLanguage> translations = new ArrayList<TMDbLanguage>();
+		for (Object obj : allTrans) {
+		    translations.add(new TMDbLanguage((JSONObject) obj));
 		}
+		
+		return translations;
 	}
 	
 	/**
@@ -699,26 +791,35 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
+			return parseTrailers(response.getData());
+		}
+	}
+	
+	/**
+	 * Parses the movie trailers response.
+	 * 
+	 * @param json The trailers response
+	 * @return The list of movie trailers
+	 */
+	protected static List<TMDbTrailer> parseTrailers(JSONObject json) {
+		JSONArray utube = json.getJSONArray(TMDbConstants.YOUTUBE);
+		List<TMDbTrailer> trailers = new ArrayList<TMDbTrailer>();
+		for (Object obj : utube) {
+		    trailers.add(new TMDbYoutubeTrailer((JSONObject) obj));
+		}
 		
-			JSONArray utube = response.getData().getJSONArray(TMDbConstants.YOUTUBE);
-			List<TMDbTrailer> trailers = new LinkedList<TMDbTrailer>();
-			for (Object obj : utube) {
-			    trailers.add(new TMDbYoutubeTrailer((JSONObject) obj));
-			}
-			
-			JSONArray quick = response.getData().getJSONArray(TMDbConstants.QUICKTIME);
-			
-			for (Object obj : quick) {
-				String name = ((JSONObject) obj).getString(TMDbConstants.NAME);
-				JSONArray quicks = ((JSONObject) obj).getJSONArray(TMDbConstants.SOURCES);
-				
-				for (Object jobj : quicks) {
-					trailers.add(new TMDbQuicktimeTrailer((JSONObject) jobj, name));
-				}
-			}	
+		JSONArray quick = json.getJSONArray(TMDbConstants.QUICKTIME);
+		
+		for (Object obj : quick) {
+			String name = ((JSONObject) obj).getString(TMDbConstants.NAME);
+			JSONArray quicks = ((JSONObject) obj).getJSONArray(TMDbConstants.SOURCES);
 			
-			return trailers;
-		}
+			for (Object jobj : quicks) {
+				trailers.add(new TMDbQuicktimeTrailer((JSONObject) jobj, name));
+			}
+		}	
+		
+		return trailers;
 	}
 	
 	/**
@@ -734,15 +835,25 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-		
-			JSONArray castArray = response.getData().getJSONArray(TMDbConstants.CAST);
-			List<TMDbMovieCast> cast = new LinkedList<TMDbMovieCast>();
-			for (Object obj : castArray) {
-				cast.add(new TMDbMovieCast((JSONObject) obj, movieID));
-			}
-			
-			return cast;
+			return parseCast(response.getData(), movieID);
+		}
+	}
+	
+	/**
+	 * Parses the cast of a movie casts response.
+	 * 
+	 * @param json The casts response
+	 * @param movieID The movie ID
+	 * @return The movie cast information
+	 */
+	protected static List<TMDbMovieCast> parseCast(JSONObject json, int movieID) {
+		JSONArray castArray = json.getJSONArray(TMDbConstants.CAST);
+		List<TMDbMovieCast> cast = new ArrayList<TMDbMovieCast>();
+		for (Object obj : castArray) {
+			cast.add(new TMDbMovieCast((JSONObject) obj, movieID));
 		}
+		
+		return cast;
 	}
 
 	/**
@@ -758,15 +869,25 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-		
-			JSONArray crewArray = response.getData().getJSONArray(TMDbConstants.CREW);
-			List<TMDbMovieCrew> crew = new LinkedList<TMDbMovieCrew>();
-			for (Object obj : crewArray) {
-				crew.add(new TMDbMovieCrew((JSONObject) obj, movieID));
-			}
-			
-			return crew;
+			return parseCrew(response.getData(), movieID);
+		}
+	}
+	
+	/**
+	 * Parses the crew of a movie casts response.
+	 * 
+	 * @param json The casts response
+	 * @param movieID The movie ID
+	 * @return The movie crew information
+	 */
+	protected static List<TMDbMovieCrew> parseCrew(JSONObject json, int movieID) {
+		JSONArray crewArray = json.getJSONArray(TMDbConstants.CREW);
+		List<TMDbMovieCrew> crew = new ArrayList<TMDbMovieCrew>();
+		for (Object obj : crewArray) {
+			crew.add(new TMDbMovieCrew((JSONObject) obj, movieID));
 		}
+		
+		return crew;
 	}
 	
 	/**
@@ -783,16 +904,25 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-			
-			JSONArray allPosters = response.getData().getJSONArray(TMDbConstants.POSTERS);
-			
-			List<TMDbPoster> images = new LinkedList<TMDbPoster>();
-			for (Object obj : allPosters) {
-			    images.add(new TMDbPoster((JSONObject) obj));
-			}
-			
-			return images;
+			return parsePosters(response.getData());
+		}
+	}
+	
+	/**
+	 * Parses the posters of a movie images response.
+	 * 
+	 * @param json The images response
+	 * @return The list of movie posters
+	 */
+	protected static List<TMDbPoster> parsePosters(JSONObject json) {
+		JSONArray allPosters = json.getJSONArray(TMDbConstants.POSTERS);
+		
+		List<TMDbPoster> images = new ArrayList<TMDbPoster>();
+		for (Object obj : allPosters) {
+		    images.add(new TMDbPoster((JSONObject) obj));
 		}
+		
+		return images;
 	}
 	
 	/**
@@ -809,16 +939,25 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		if (response.hasError()) {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
-			
-			List<TMDbBackdrop> images = new LinkedList<TMDbBackdrop>();
-			
-			JSONArray allBackdrops = response.getData().getJSONArray(TMDbConstants.BACKDROPS);
-			for (Object obj : allBackdrops) {
-			    images.add(new TMDbBackdrop((JSONObject) obj));
-			}
-			
-			return images;
+			return parseBackdrops(response.getData());
+		}
+	}
+	
+	/**
+	 * Parses the backdrops of a movie images response.
+	 * 
+	 * @param json The images response
+	 * @return The list of movie backdrops
+	 */
+	protected static List<TMDbBackdrop> parseBackdrops(JSONObject json) {
+		List<TMDbBackdrop> images = new ArrayList<TMDbBackdrop>();
+		
+		JSONArray allBackdrops = json.getJSONArray(TMDbConstants.BACKDROPS);
+		for (Object obj : allBackdrops) {
+		    images.add(new TMDbBackdrop((JSONObject) obj));
 		}
+		
+		return images;
 	}
 	
 	/**
@@ -842,7 +981,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -874,7 +1013,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -906,7 +1045,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -937,7 +1076,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -970,7 +1109,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -1003,7 +1142,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -1033,7 +1172,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -1045,7 +1184,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 	/**
 	 * Gets the entire list of movie ids that have been edited. 
 	 * By default we show the last 24 hours and only 100 items per page. 
-	 * The maximum number of days that can be returned in a single request is 14. 
+	 * Ranges longer than 14 days (the maximum of a single request) are split into windows fetched concurrently. 
 	 * You can then use the {@link #getChanged(int) getChanged(int)} static method to get the actual data that has been changed.
 	 * Please note that the change log system to support this was changed on 
 	 * October 5, 2012 and will only show movies that have been edited since.
@@ -1065,7 +1204,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -1077,7 +1216,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 	/**
 	 * Gets the entire list of movie ids that have been edited. 
 	 * By default we show the last 24 hours and only 100 items per page. 
-	 * The maximum number of days that can be returned in a single request is 14. 
+	 * Ranges longer than 14 days (the maximum of a single request) are split into windows fetched concurrently. 
 	 * You can then use the {@link #getChanged(int) getChanged(int)} static method to get the actual data that has been changed.
 	 * Please note that the change log system to support this was changed on 
 	 * October 5, 2012 and will only show movies that have been edited since.
@@ -1097,7 +1236,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -1122,7 +1261,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			JSONArray array = response.getData().getJSONArray(TMDbConstants.TITLES);
-			List<Pair<TMDbCountry, String>> titles = new LinkedList<Pair<TMDbCountry, String>>();
+			List<Pair<TMDbCountry, String>> titles = new ArrayList<Pair<TMDbCountry, String>>();
 			for (Object obj : array) {
 				JSONObject json = (JSONObject) obj;
 			    titles.add(new Pair<TMDbCountry, String>(new TMDbCountry(json), json.getString(TMDbConstants.TITLE)));
@@ -1150,7 +1289,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		} else {
 			
 			JSONArray array = response.getData().getJSONArray(TMDbConstants.COUNTRIES);
-			List<Pair<TMDbCountry, Date>> dates = new LinkedList<Pair<TMDbCountry, Date>>();
+			List<Pair<TMDbCountry, Date>> dates = new ArrayList<Pair<TMDbCountry, Date>>();
 			for (Object obj : array) {
 				JSONObject json = (JSONObject) obj;
 				DateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
@@ -1192,7 +1331,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> sims = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> sims = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for (JSONObject json : array) {
 				sims.add(new TMDbMovieReduced(json));
@@ -1217,7 +1356,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			
-			List<TMDbMovieReduced> sims = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> sims = new ArrayList<TMDbMovieReduced>();
 			List<JSONObject> array = response.getData();
 			for (JSONObject json : array) {
 				sims.add(new TMDbMovieReduced(json));
@@ -1227,6 +1366,18 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		}
 	}
 	
+	/**
+	 * Lazily streams the entire list of similar movies to the specified one: the pages are fetched while the stream is consumed.
+	 * Close the stream to stop the prefetching of the next page if it is not fully consumed.
+	 * 
+	 * @param movieID The movie ID
+	 * @return The stream of similar movies to the specified one
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 */
+	public static Stream<TMDbMovieReduced> streamSimilarMovies(int movieID) throws TMDbResponseException {
+		return TMDbPagination.stream(page -> TMDbURLCreator.getSimilarMoviesUrl(movieID, page), TMDbMovieReduced::new);
+	}
+	
 	/**
 	 * Gets the latest movie added to the TMDb.
 	 * 
@@ -1294,7 +1445,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1320,7 +1471,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1346,7 +1497,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1373,7 +1524,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1397,7 +1548,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1406,6 +1557,18 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 		}
 	}
 	
+	/**
+	 * Lazily streams the entire list of movies that match the given title: the pages are fetched while the stream is consumed.
+	 * Close the stream to stop the prefetching of the next page if it is not fully consumed.
+	 * 
+	 * @param movieTitle The movie title
+	 * @return The stream of movies that match the given title
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 */
+	public static Stream<TMDbMovieReduced> streamByTitle(String movieTitle) throws TMDbResponseException {
+		return TMDbPagination.stream(page -> TMDbURLCreator.searchMovieByTitleUrl(movieTitle, page), TMDbMovieReduced::new);
+	}
+	
 	/**
 	 * Searches for movie by title. Gets all the results.
 	 * 
@@ -1422,7 +1585,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1448,7 +1611,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1475,7 +1638,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1502,7 +1665,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1530,7 +1693,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1555,7 +1718,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
@@ -1581,7 +1744,7 @@ public class TMDbMovieThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbMovieReduced> movies = new LinkedList<TMDbMovieReduced>();
+			List<TMDbMovieReduced> movies = new ArrayList<TMDbMovieReduced>();
 			for(JSONObject json : array) {
 				movies.add(new TMDbMovieReduced(json));
 			}
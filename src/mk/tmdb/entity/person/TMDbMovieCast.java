@@ -20,11 +20,12 @@
 
 package mk.tmdb.entity.person;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import mk.tmdb.entity.role.TMDbCast;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
+import mk.tmdb.utils.TMDbImmutableList;
 import net.sf.json.JSONObject;
 
 /**
@@ -43,7 +44,12 @@ public class TMDbMovieCast extends TMDbPersonThumbnail {
 	/**
 	 * The list of role in the cast.
 	 */
-	private List<TMDbCast> cast = Collections.synchronizedList(new LinkedList<TMDbCast>());
+	private List<TMDbCast> cast = TMDbImmutableList.empty();
+	
+	/**
+	 * The growable list the roles are added to, or null once it has been frozen.
+	 */
+	private List<TMDbCast> added = null;
 	
 	/**
 	 * Creates a new instance of MovieCast based on the origin JSON object.
@@ -54,7 +60,9 @@ public class TMDbMovieCast extends TMDbPersonThumbnail {
 	public TMDbMovieCast(JSONObject json, int movieID) {
 		super(json);
 		this.movieID = movieID;
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbMovieCast.class, json);
 	}
 	
 	/**
@@ -64,7 +72,24 @@ public class TMDbMovieCast extends TMDbPersonThumbnail {
 	 * @param movieID The movie ID
 	 */
 	public TMDbMovieCast(TMDbMovieCast mcast, int movieID) {
-		this(mcast.getOriginJSON(), movieID);
+		super(mcast);
+		this.movieID = movieID;
+		this.cast = mcast.getCast();
+	}
+	
+	/**
+	 * Two cast members are equal if they are the same person in the same movie.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (!super.equals(object)) return false;
+		
+		return movieID == ((TMDbMovieCast) object).movieID;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + movieID;
 	}
 
 	/**
@@ -73,6 +98,11 @@ public class TMDbMovieCast extends TMDbPersonThumbnail {
 	 * @return The roles list in the cast of the movie
 	 */
 	public List<TMDbCast> getCast() {
+		if (added != null) {
+			cast = TMDbImmutableList.copyOf(added);
+			added = null;
+		}
+		
 		return cast;
 	}
 
@@ -82,17 +112,19 @@ public class TMDbMovieCast extends TMDbPersonThumbnail {
 	 * @param cast The new list of roles
 	 */
 	public void setCast(List<TMDbCast> cast) {
-		this.cast.clear();
-		this.cast.addAll(cast);
+		this.cast = TMDbImmutableList.copyOf(cast);
+		this.added = null;
 	}
 	
 	/**
-	 * Adds a new role in the cast.
+	 * Adds a new role in the cast. The roles are collected in a growable list, frozen into 
+	 * the immutable list by the next {@link #getCast()} call.
 	 * 
 	 * @param role The new role
 	 */
 	public void addCastRole(TMDbCast role) {
-		cast.add(role);
+		if (added == null) added = new ArrayList<TMDbCast>(cast);
+		added.add(role);
 	}
 
 	/**
@@ -118,7 +150,7 @@ public class TMDbMovieCast extends TMDbPersonThumbnail {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		addCastRole(new TMDbCast(json));
 		
@@ -20,11 +20,12 @@
 
 package mk.tmdb.entity.person;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import mk.tmdb.entity.role.TMDbCrew;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
+import mk.tmdb.utils.TMDbImmutableList;
 import net.sf.json.JSONObject;
 
 /**
@@ -43,7 +44,12 @@ public class TMDbMovieCrew extends TMDbPersonThumbnail {
 	/**
 	 * The list of role in the crew.
 	 */
-	private List<TMDbCrew> crew = Collections.synchronizedList(new LinkedList<TMDbCrew>());
+	private List<TMDbCrew> crew = TMDbImmutableList.empty();
+	
+	/**
+	 * The growable list the roles are added to, or null once it has been frozen.
+	 */
+	private List<TMDbCrew> added = null;
 	
 	/**
 	 * Creates a new instance of MovieCrew based on the origin JSON object.
@@ -54,7 +60,9 @@ public class TMDbMovieCrew extends TMDbPersonThumbnail {
 	public TMDbMovieCrew(JSONObject json, int movieID) {
 		super(json);
 		this.movieID = movieID;
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbMovieCrew.class, json);
 	}
 	
 	/**
@@ -64,7 +72,24 @@ public class TMDbMovieCrew extends TMDbPersonThumbnail {
 	 * @param movieID The movie ID
 	 */
 	public TMDbMovieCrew(TMDbMovieCrew mcrew, int movieID) {
-		this(mcrew.getOriginJSON(), movieID);
+		super(mcrew);
+		this.movieID = movieID;
+		this.crew = mcrew.getCrew();
+	}
+	
+	/**
+	 * Two crew members are equal if they are the same person in the same movie.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (!super.equals(object)) return false;
+		
+		return movieID == ((TMDbMovieCrew) object).movieID;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + movieID;
 	}
 
 	/**
@@ -73,6 +98,11 @@ public class TMDbMovieCrew extends TMDbPersonThumbnail {
 	 * @return The roles list in the crew of the movie
 	 */
 	public List<TMDbCrew> getCrew() {
+		if (added != null) {
+			crew = TMDbImmutableList.copyOf(added);
+			added = null;
+		}
+		
 		return crew;
 	}
 
@@ -82,17 +112,19 @@ public class TMDbMovieCrew extends TMDbPersonThumbnail {
 	 * @param crew The new list of roles
 	 */
 	public void setCast(List<TMDbCrew> crew) {
-		this.crew.clear();
-		this.crew.addAll(crew);
+		this.crew = TMDbImmutableList.copyOf(crew);
+		this.added = null;
 	}
 	
 	/**
-	 * Adds a new role in the crew.
+	 * Adds a new role in the crew. The roles are collected in a growable list, frozen into 
+	 * the immutable list by the next {@link #getCrew()} call.
 	 * 
 	 * @param role The new role
 	 */
 	public void addCrewRole(TMDbCrew role) {
-		crew.add(role);
+		if (added == null) added = new ArrayList<TMDbCrew>(crew);
+		added.add(role);
 	}
 
 	/**
@@ -118,7 +150,7 @@ public class TMDbMovieCrew extends TMDbPersonThumbnail {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		addCrewRole(new TMDbCrew(json));
 		
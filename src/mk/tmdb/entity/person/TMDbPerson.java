@@ -25,14 +25,13 @@ import java.net.URL;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.Collections;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
 
 import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.utils.Log;
-import net.sf.json.JSONArray;
+import mk.tmdb.utils.TMDbImmutableList;
 import net.sf.json.JSONObject;
 
 /**
@@ -50,7 +49,7 @@ public class TMDbPerson extends TMDbPersonThumbnail {
 	/**
 	 * The aliases (Also-Known-As) of the person
 	 */
-	private List<String> aka = Collections.synchronizedList(new LinkedList<String>());
+	private List<String> aka = TMDbImmutableList.empty();
 	
 	/**
 	 * The person biography.
@@ -86,7 +85,9 @@ public class TMDbPerson extends TMDbPersonThumbnail {
 	 */
 	public TMDbPerson(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbPerson.class, json);
 	}
 	
 	/**
@@ -95,7 +96,18 @@ public class TMDbPerson extends TMDbPersonThumbnail {
 	 * @param person The person to copy
 	 */
 	public TMDbPerson(TMDbPersonThumbnail person) {
-		this(person.getOriginJSON());
+		super(person);
+		if (person instanceof TMDbPerson) {
+			TMDbPerson other = (TMDbPerson) person;
+			this.aka = other.aka;
+			this.bio = other.bio;
+			this.birthday = copyOf(other.birthday);
+			this.deathday = copyOf(other.deathday);
+			this.homepage = other.homepage;
+			this.placeOfBirth = other.placeOfBirth;
+		} else {
+			parseJSON(person.getOriginJSON());
+		}
 	}
 	
 	//region Getters/Setters
@@ -261,7 +273,7 @@ public class TMDbPerson extends TMDbPersonThumbnail {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		if (json.has(TMDbConstants.BIO)) setBiography(json.getString(TMDbConstants.BIO));
 		if (json.has(TMDbConstants.BIRTHDAY)) setBirthday(json.getString(TMDbConstants.BIRTHDAY));
@@ -270,10 +282,7 @@ public class TMDbPerson extends TMDbPersonThumbnail {
 		
 		
 		if (json.has(TMDbConstants.AKA)) {
-			JSONArray akas = json.getJSONArray(TMDbConstants.AKA); 
-			for (Object obj : akas) {
-			    aka.add((String) obj);
-			}
+			aka = TMDbImmutableList.of(json.getJSONArray(TMDbConstants.AKA), obj -> (String) obj);
 		}
 		
 		if (json.has(TMDbConstants.HOMEPAGE)) { 
@@ -20,14 +20,13 @@
 
 package mk.tmdb.entity.person;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import mk.tmdb.entity.TMDbCredit;
 import mk.tmdb.entity.image.TMDbProfile;
 import mk.tmdb.exception.TMDbResponseException;
 import mk.tmdb.utils.Log;
+import mk.tmdb.utils.TMDbImmutableList;
 import net.sf.json.JSONObject;
 
 /**
@@ -46,12 +45,12 @@ public class TMDbPersonFull extends TMDbPerson {
 	/**
 	 * The profile images of the person.
 	 */
-	private List<TMDbProfile> images = Collections.synchronizedList(new LinkedList<TMDbProfile>());
+	private List<TMDbProfile> images = TMDbImmutableList.empty();
 	
 	/**
 	 * The person credits list.
 	 */
-	private List<TMDbCredit> credits = Collections.synchronizedList(new LinkedList<TMDbCredit>());
+	private List<TMDbCredit> credits = TMDbImmutableList.empty();
 	
 	/**
 	 * Creates a new instance of PersonFull based on the origin JSON object.
@@ -85,7 +84,12 @@ public class TMDbPersonFull extends TMDbPerson {
 	 * @param person The person to copy
 	 */
 	public TMDbPersonFull(TMDbPersonThumbnail person) {
-		this(person.getOriginJSON());
+		super(person);
+		if (person instanceof TMDbPersonFull) {
+			TMDbPersonFull full = (TMDbPersonFull) person;
+			this.images = full.images;
+			this.credits = full.credits;
+		}
 	}
 	
 	/**
@@ -95,7 +99,7 @@ public class TMDbPersonFull extends TMDbPerson {
 	 * @param loadAll Whether the remaining information have to be loaded or not
 	 */
 	public TMDbPersonFull(TMDbPersonThumbnail person, boolean loadAll) {
-		this(person.getOriginJSON());
+		this(person);
 		if(loadAll)
 			try {
 				getFullInformation();
@@ -119,7 +123,7 @@ public class TMDbPersonFull extends TMDbPerson {
 	 * @param images The new person images list
 	 */
 	public void setImages(List<TMDbProfile> images) {
-		this.images = images;
+		this.images = TMDbImmutableList.copyOf(images);
 	}
 
 	/**
@@ -137,7 +141,7 @@ public class TMDbPersonFull extends TMDbPerson {
 	 * @param credits The new credits list
 	 */
 	public void setCredits(List<TMDbCredit> credits) {
-		this.credits = credits;
+		this.credits = TMDbImmutableList.copyOf(credits);
 	}
 
 	/**
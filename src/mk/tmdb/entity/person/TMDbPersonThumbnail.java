@@ -20,17 +20,22 @@
 
 package mk.tmdb.entity.person;
 
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import mk.tmdb.core.TMDbConstants;
 import mk.tmdb.core.TMDbAPI;
+import mk.tmdb.core.TMDbPagination;
+import mk.tmdb.core.TMDbURLCreator;
 import mk.tmdb.entity.TMDbCredit;
 import mk.tmdb.entity.TMDbEntity;
 import mk.tmdb.entity.TMDbCredit.Type;
 import mk.tmdb.entity.image.TMDbProfile;
 import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.response.TMDbResponseArray;
 import mk.tmdb.response.TMDbResponseObject;
 import net.sf.json.JSONArray;
@@ -80,7 +85,9 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 	 */
 	public TMDbPersonThumbnail(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbPersonThumbnail.class, json);
 	}
 	
 	/**
@@ -89,7 +96,27 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 	 * @param person The person to copy
 	 */
 	public TMDbPersonThumbnail(TMDbPersonThumbnail person) {
-		this(person.getOriginJSON());
+		super(person);
+		this.id = person.id;
+		this.name = person.name;
+		this.profilePath = person.profilePath;
+		this.adult = person.adult;
+	}
+	
+	/**
+	 * Two people are equal if they have the same class and the same TMDb ID.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return Objects.equals(id, ((TMDbPersonThumbnail) object).id);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + Objects.hashCode(id);
 	}
 	
 	//region Getters/Setters
@@ -182,7 +209,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		setName(json.getString(TMDbConstants.NAME));
 		setId(json.getInt(TMDbConstants.ID));
@@ -244,7 +271,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 		
-			List<TMDbCredit> credits = new LinkedList<TMDbCredit>();
+			List<TMDbCredit> credits = new ArrayList<TMDbCredit>();
 			
 			JSONArray castArray = response.getData().getJSONArray(TMDbConstants.CAST);
 			
@@ -277,7 +304,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		} else {
 			
 			JSONArray imgs = response.getData().getJSONArray(TMDbConstants.PROFILES);
-			List<TMDbProfile> images = new LinkedList<TMDbProfile>();
+			List<TMDbProfile> images = new ArrayList<TMDbProfile>();
 			for (Object obj : imgs) {
 			    images.add(new TMDbProfile((JSONObject) obj));
 			}
@@ -306,7 +333,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -337,7 +364,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -368,7 +395,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -398,7 +425,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -430,7 +457,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -462,7 +489,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -490,7 +517,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -502,7 +529,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 	/**
 	 * Gets the entire list of people ids that have been edited. 
 	 * By default we show the last 24 hours and only 100 items per page. 
-	 * The maximum number of days that can be returned in a single request is 14. 
+	 * Ranges longer than 14 days (the maximum of a single request) are split into windows fetched concurrently. 
 	 * Please note that the change log system to support this was changed on 
 	 * October 5, 2012 and will only show people that have been edited since.
 	 * 
@@ -520,7 +547,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -532,7 +559,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 	/**
 	 * Gets the entire list of people ids that have been edited. 
 	 * By default we show the last 24 hours and only 100 items per page. 
-	 * The maximum number of days that can be returned in a single request is 14. 
+	 * Ranges longer than 14 days (the maximum of a single request) are split into windows fetched concurrently. 
 	 * Please note that the change log system to support this was changed on 
 	 * October 5, 2012 and will only show people that have been edited since.
 	 * 
@@ -550,7 +577,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		} else {
 			
 			List<JSONObject> array = response.getData();
-			List<Integer> ids = new LinkedList<Integer>();
+			List<Integer> ids = new ArrayList<Integer>();
 			for (JSONObject json : array) {
 			    ids.add(json.getInt(TMDbConstants.ID));
 			}
@@ -591,7 +618,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbPersonThumbnail> people = new LinkedList<TMDbPersonThumbnail>();
+			List<TMDbPersonThumbnail> people = new ArrayList<TMDbPersonThumbnail>();
 			for(JSONObject json : array) {
 				people.add(new TMDbPersonThumbnail(json));
 			}
@@ -630,7 +657,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbPersonThumbnail> people = new LinkedList<TMDbPersonThumbnail>();
+			List<TMDbPersonThumbnail> people = new ArrayList<TMDbPersonThumbnail>();
 			for(JSONObject json : array) {
 				people.add(new TMDbPersonThumbnail(json));
 			}
@@ -654,7 +681,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbPersonThumbnail> people = new LinkedList<TMDbPersonThumbnail>();
+			List<TMDbPersonThumbnail> people = new ArrayList<TMDbPersonThumbnail>();
 			for(JSONObject json : array) {
 				people.add(new TMDbPersonThumbnail(json));
 			}
@@ -663,6 +690,18 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 		}
 	}
 	
+	/**
+	 * Lazily streams the people that match the given name: the pages are fetched while the stream is consumed.
+	 * Close the stream to stop the prefetching of the next page if it is not fully consumed.
+	 * 
+	 * @param name The person name
+	 * @return The stream of people that match the given name
+	 * @throws TMDbResponseException Throws whether the first page response is not a success.
+	 */
+	public static Stream<TMDbPersonThumbnail> streamByName(String name) throws TMDbResponseException {
+		return TMDbPagination.stream(page -> TMDbURLCreator.searchPeopleByNameUrl(name, page), TMDbPersonThumbnail::new);
+	}
+	
 	/**
 	 * Searches for people by name. 
 	 * Gets all the results.
@@ -679,7 +718,7 @@ public class TMDbPersonThumbnail extends TMDbEntity {
 			throw new TMDbResponseException(response.getStatus());
 		} else {
 			List<JSONObject> array = response.getData();
-			List<TMDbPersonThumbnail> people = new LinkedList<TMDbPersonThumbnail>();
+			List<TMDbPersonThumbnail> people = new ArrayList<TMDbPersonThumbnail>();
 			for(JSONObject json : array) {
 				people.add(new TMDbPersonThumbnail(json));
 			}
@@ -20,7 +20,10 @@
 
 package mk.tmdb.entity.role;
 
+import java.util.Objects;
+
 import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import net.sf.json.JSONObject;
 
 /**
@@ -43,7 +46,9 @@ public class TMDbCast extends TMDbRole {
 	 */
 	public TMDbCast(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbCast.class, json);
 	}
 	
 	/**
@@ -52,7 +57,28 @@ public class TMDbCast extends TMDbRole {
 	 * @param role The role to copy
 	 */
 	public TMDbCast(TMDbRole role) {
-		this(role.getOriginJSON());
+		super(role);
+		if (role instanceof TMDbCast) {
+			TMDbCast cast = (TMDbCast) role;
+			this.character = cast.character;
+		} else {
+			parseJSON(role.getOriginJSON());
+		}
+	}
+	
+	/**
+	 * Two cast roles are equal if they have the same job and the same character.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (!super.equals(object)) return false;
+		
+		return Objects.equals(character, ((TMDbCast) object).character);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hashCode(character);
 	}
 	
 	/**
@@ -78,7 +104,7 @@ public class TMDbCast extends TMDbRole {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		setCharacter(json.getString(TMDbConstants.CHARACTER));
 		
@@ -20,7 +20,10 @@
 
 package mk.tmdb.entity.role;
 
+import java.util.Objects;
+
 import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import net.sf.json.JSONObject;
 
 /**
@@ -43,7 +46,9 @@ public class TMDbCrew extends TMDbRole {
 	 */
 	public TMDbCrew(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbCrew.class, json);
 	}
 	
 	/**
@@ -52,7 +57,28 @@ public class TMDbCrew extends TMDbRole {
 	 * @param role The role to copy
 	 */
 	public TMDbCrew(TMDbRole role) {
-		this(role.getOriginJSON());
+		super(role);
+		if (role instanceof TMDbCrew) {
+			TMDbCrew crew = (TMDbCrew) role;
+			this.department = crew.department;
+		} else {
+			parseJSON(role.getOriginJSON());
+		}
+	}
+	
+	/**
+	 * Two crew roles are equal if they have the same job and the same department.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (!super.equals(object)) return false;
+		
+		return Objects.equals(department, ((TMDbCrew) object).department);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Objects.hashCode(department);
 	}
 
 	/**
@@ -78,7 +104,7 @@ public class TMDbCrew extends TMDbRole {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		setDepartment(json.getString(TMDbConstants.DEPARTMENT));
 		
@@ -20,8 +20,11 @@
 
 package mk.tmdb.entity.role;
 
+import java.util.Objects;
+
 import mk.tmdb.core.TMDbConstants;
 import mk.tmdb.entity.TMDbEntity;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import net.sf.json.JSONObject;
 
 /**
@@ -44,7 +47,9 @@ public abstract class TMDbRole extends TMDbEntity {
 	 */
 	public TMDbRole(JSONObject json) {
 		super(json);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbRole.class, json);
 	}
 	
 	/**
@@ -53,7 +58,24 @@ public abstract class TMDbRole extends TMDbEntity {
 	 * @param role The role to copy
 	 */
 	public TMDbRole(TMDbRole role) {
-		this(role.getOriginJSON());
+		super(role);
+		this.job = role.job;
+	}
+	
+	/**
+	 * Two roles are equal if they have the same class and the same job.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		return Objects.equals(job, ((TMDbRole) object).job);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + Objects.hashCode(job);
 	}
 	
 	/**
@@ -79,7 +101,7 @@ public abstract class TMDbRole extends TMDbEntity {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		if (json.has(TMDbConstants.JOB)) setJob(json.getString(TMDbConstants.JOB));
 		else setJob(TMDbConstants.ACTOR);
@@ -24,6 +24,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 
 import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.utils.Log;
 import net.sf.json.JSONObject;
 
@@ -45,7 +46,9 @@ public class TMDbQuicktimeTrailer extends TMDbTrailer {
 	public TMDbQuicktimeTrailer(JSONObject json, String name) {
 		super(json, TMDbConstants.QUICKTIME);
 		setName(name);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbQuicktimeTrailer.class, json);
 	}
 	
 	/**
@@ -55,7 +58,8 @@ public class TMDbQuicktimeTrailer extends TMDbTrailer {
 	 * @param name The name of the trailer
 	 */
 	public TMDbQuicktimeTrailer(TMDbQuicktimeTrailer trailer, String name) {
-		this(trailer.getOriginJSON(), name);
+		super(trailer);
+		setName(name);
 	}
 
 	/**
@@ -63,7 +67,7 @@ public class TMDbQuicktimeTrailer extends TMDbTrailer {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		setSize(json.getString(TMDbConstants.SIZE));
 		
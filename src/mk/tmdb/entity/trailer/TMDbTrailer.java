@@ -68,6 +68,39 @@ public abstract class TMDbTrailer extends TMDbEntity {
 		this.source = source;
 	}
 	
+	/**
+	 * Copy constructor.
+	 * 
+	 * @param trailer The trailer to copy
+	 */
+	protected TMDbTrailer(TMDbTrailer trailer) {
+		super(trailer);
+		this.name = trailer.name;
+		this.size = trailer.size;
+		this.link = trailer.link;
+		this.source = trailer.source;
+	}
+	
+	/**
+	 * Two trailers are equal if they have the same class and the same link. The links are compared
+	 * by their string form, as {@link URL#equals(Object)} resolves the host names.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) return true;
+		if (object == null || object.getClass() != getClass()) return false;
+		
+		URL other = ((TMDbTrailer) object).link;
+		if (link == null || other == null) return link == other;
+		
+		return link.toString().equals(other.toString());
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + (link != null ? link.toString().hashCode() : 0);
+	}
+	
 	//region Getters/Setters
 	
 	/**
@@ -24,6 +24,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 
 import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.metrics.TMDbEntityParseEvent;
 import mk.tmdb.utils.Log;
 import net.sf.json.JSONObject;
 
@@ -47,7 +48,9 @@ public class TMDbYoutubeTrailer extends TMDbTrailer {
 	 */
 	public TMDbYoutubeTrailer(JSONObject json) {
 		super(json, TMDbConstants.YOUTUBE);
+		TMDbEntityParseEvent event = TMDbEntityParseEvent.start();
 		parseJSON(json);
+		event.finish(TMDbYoutubeTrailer.class, json);
 	}
 	
 	/**
@@ -56,7 +59,7 @@ public class TMDbYoutubeTrailer extends TMDbTrailer {
 	 * @param trailer The trailer to copy
 	 */
 	public TMDbYoutubeTrailer(TMDbYoutubeTrailer trailer) {
-		this(trailer.getOriginJSON());
+		super(trailer);
 	}
 	
 	/**
@@ -64,7 +67,7 @@ public class TMDbYoutubeTrailer extends TMDbTrailer {
 	 */
 	private boolean parseJSON(JSONObject json) {
 		
-		if (json.isNullObject()) return false;
+		if (json == null || json.isNullObject()) return false;
 		
 		setName(json.getString(TMDbConstants.NAME));
 		setSize(json.getString(TMDbConstants.SIZE));
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.exception;
+
+import java.io.IOException;
+
+/**
+ * Signals that no pooled connection towards a host became free in time. The request never 
+ * reached the server: it is a local queueing failure, not a timeout of the server.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbPoolExhaustedException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Creates a new instance of TMDbPoolExhaustedException for the given host.
+	 * 
+	 * @param host The host name
+	 */
+	public TMDbPoolExhaustedException(String host) {
+		super("No connection available for " + host);
+	}
+	
+}
@@ -0,0 +1,714 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import net.sf.json.JSONArray;
+import net.sf.json.JSONException;
+import net.sf.json.JSONNull;
+import net.sf.json.JSONObject;
+import net.sf.json.JsonConfig;
+
+import mk.tmdb.metrics.TMDbJsonParseEvent;
+
+/**
+ * Streaming (pull) reader of a JSON document.
+ * <p>
+ * The document is read token by token from a character stream: e.g. <code>beginObject()</code>, 
+ * then <code>nextName()</code>/<code>nextInt()</code> while <code>hasNext()</code>, then 
+ * <code>endObject()</code>. 
+ * <p>
+ * The library uses it only as the tokenizer of the responses, in place of <code>JSONSerializer</code>: 
+ * the response body is still read into a string (which the caches store), and {@link #parseObject(String)} 
+ * builds from it the complete json-lib tree the entities are bound from, through the public json-lib API. 
+ * It is a parser swap, not a streaming binding of the entities.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbJsonReader implements Closeable {
+
+	/**
+	 * The JSON tokens.
+	 */
+	public enum Token {
+		BEGIN_OBJECT,
+		END_OBJECT,
+		BEGIN_ARRAY,
+		END_ARRAY,
+		NAME,
+		STRING,
+		NUMBER,
+		BOOLEAN,
+		NULL,
+		END_DOCUMENT
+	}
+	
+	//region Scopes
+	
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_OBJECT = 2;
+	private static final int NONEMPTY_OBJECT = 3;
+	private static final int DANGLING_NAME = 4;
+	private static final int EMPTY_ARRAY = 5;
+	private static final int NONEMPTY_ARRAY = 6;
+	
+	//endregion
+	
+	/**
+	 * Configuration shared by all the json-lib objects built by the readers.
+	 */
+	private static final JsonConfig CONFIG = new JsonConfig();
+	
+	/**
+	 * The character stream.
+	 */
+	private final Reader in;
+	
+	/**
+	 * The read buffer.
+	 */
+	private final char[] buffer = new char[8192];
+	
+	private int pos = 0;
+	private int limit = 0;
+	
+	/**
+	 * The stack of the open scopes.
+	 */
+	private int[] stack = new int[32];
+	private int depth = 1;
+	
+	/**
+	 * The next token, if already peeked.
+	 */
+	private Token peeked = null;
+	
+	/**
+	 * Buffer used to decode the strings that span more reads or contain escapes.
+	 */
+	private final StringBuilder builder = new StringBuilder();
+	
+	/**
+	 * Creates a new reader of the given character stream.
+	 * 
+	 * @param in The character stream
+	 */
+	public TMDbJsonReader(Reader in) {
+		this.in = in;
+		stack[0] = EMPTY_DOCUMENT;
+	}
+	
+	/**
+	 * Creates a new reader of the given UTF-8 byte stream.
+	 * 
+	 * @param in The byte stream
+	 */
+	public TMDbJsonReader(InputStream in) {
+		this(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Creates a new reader of the given JSON string.
+	 * 
+	 * @param json The JSON string
+	 */
+	public TMDbJsonReader(String json) {
+		this(new StringReader(json));
+	}
+	
+	//region Tokens
+	
+	/**
+	 * Gets the type of the next token without consuming it.
+	 * 
+	 * @return The next token
+	 * @throws IOException If the stream cannot be read
+	 */
+	public Token peek() throws IOException {
+		if (peeked != null) return peeked;
+		
+		int c;
+		switch (stack[depth - 1]) {
+		case EMPTY_DOCUMENT:
+			stack[depth - 1] = NONEMPTY_DOCUMENT;
+			return peeked = peekValue();
+			
+		case NONEMPTY_DOCUMENT:
+			return peeked = nextNonWhitespace(false) == -1 ? Token.END_DOCUMENT : syntaxError("Expected end of document");
+			
+		case EMPTY_ARRAY:
+			stack[depth - 1] = NONEMPTY_ARRAY;
+			if (nextNonWhitespace(false) == ']') {
+				pos++;
+				return peeked = Token.END_ARRAY;
+			}
+			return peeked = peekValue();
+			
+		case NONEMPTY_ARRAY:
+			c = nextNonWhitespace(true);
+			if (c == ']') return peeked = Token.END_ARRAY;
+			if (c != ',') return syntaxError("Expected ',' or ']'");
+			return peeked = peekValue();
+			
+		case EMPTY_OBJECT:
+		case NONEMPTY_OBJECT:
+			if (stack[depth - 1] == NONEMPTY_OBJECT) {
+				c = nextNonWhitespace(true);
+				if (c == '}') return peeked = Token.END_OBJECT;
+				if (c != ',') return syntaxError("Expected ',' or '}'");
+			}
+			c = nextNonWhitespace(true);
+			if (c == '}' && stack[depth - 1] == EMPTY_OBJECT) return peeked = Token.END_OBJECT;
+			if (c != '"') return syntaxError("Expected a name");
+			stack[depth - 1] = DANGLING_NAME;
+			return peeked = Token.NAME;
+			
+		case DANGLING_NAME:
+			if (nextNonWhitespace(true) != ':') return syntaxError("Expected ':'");
+			stack[depth - 1] = NONEMPTY_OBJECT;
+			return peeked = peekValue();
+			
+		default:
+			throw new IllegalStateException();
+		}
+	}
+	
+	/**
+	 * Gets the type of the next value, consuming only its first character if it is a structural one.
+	 * 
+	 * @return The value token
+	 * @throws IOException If the stream cannot be read
+	 */
+	private Token peekValue() throws IOException {
+		int c = nextNonWhitespace(false);
+		switch (c) {
+		case '{': pos++; return Token.BEGIN_OBJECT;
+		case '[': pos++; return Token.BEGIN_ARRAY;
+		case '"': pos++; return Token.STRING;
+		case 't':
+		case 'f': return Token.BOOLEAN;
+		case 'n': return Token.NULL;
+		case -1: return syntaxError("Unexpected end of document");
+		default:
+			if (c == '-' || (c >= '0' && c <= '9')) return Token.NUMBER;
+			return syntaxError("Unexpected character '" + (char) c + "'");
+		}
+	}
+	
+	/**
+	 * Consumes the beginning of an object.
+	 * 
+	 * @throws IOException If the stream cannot be read
+	 */
+	public void beginObject() throws IOException {
+		expect(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+	
+	/**
+	 * Consumes the end of an object.
+	 * 
+	 * @throws IOException If the stream cannot be read
+	 */
+	public void endObject() throws IOException {
+		expect(Token.END_OBJECT);
+		depth--;
+	}
+	
+	/**
+	 * Consumes the beginning of an array.
+	 * 
+	 * @throws IOException If the stream cannot be read
+	 */
+	public void beginArray() throws IOException {
+		expect(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+	
+	/**
+	 * Consumes the end of an array.
+	 * 
+	 * @throws IOException If the stream cannot be read
+	 */
+	public void endArray() throws IOException {
+		expect(Token.END_ARRAY);
+		depth--;
+	}
+	
+	/**
+	 * Checks whether the current object or array has more elements.
+	 * 
+	 * @return Whether there are more elements
+	 * @throws IOException If the stream cannot be read
+	 */
+	public boolean hasNext() throws IOException {
+		Token token = peek();
+		return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+	}
+	
+	/**
+	 * Consumes the next property name.
+	 * 
+	 * @return The property name
+	 * @throws IOException If the stream cannot be read
+	 */
+	public String nextName() throws IOException {
+		expect(Token.NAME);
+		return readString();
+	}
+	
+	/**
+	 * Consumes the next string value. A number is returned as its literal.
+	 * 
+	 * @return The string value
+	 * @throws IOException If the stream cannot be read
+	 */
+	public String nextString() throws IOException {
+		Token token = peek();
+		if (token == Token.NUMBER) {
+			peeked = null;
+			return readLiteral();
+		}
+		
+		expect(Token.STRING);
+		return readString();
+	}
+	
+	/**
+	 * Consumes the next string value, or a null.
+	 * 
+	 * @return The string value or null
+	 * @throws IOException If the stream cannot be read
+	 */
+	public String nextStringOrNull() throws IOException {
+		if (peek() == Token.NULL) {
+			nextNull();
+			return null;
+		}
+		
+		return nextString();
+	}
+	
+	/**
+	 * Consumes the next boolean value.
+	 * 
+	 * @return The boolean value
+	 * @throws IOException If the stream cannot be read
+	 */
+	public boolean nextBoolean() throws IOException {
+		expect(Token.BOOLEAN);
+		String literal = readLiteral();
+		if (literal.equals("true")) return true;
+		if (literal.equals("false")) return false;
+		
+		return syntaxError("Invalid literal " + literal);
+	}
+	
+	/**
+	 * Consumes the next null value.
+	 * 
+	 * @throws IOException If the stream cannot be read
+	 */
+	public void nextNull() throws IOException {
+		expect(Token.NULL);
+		String literal = readLiteral();
+		if (!literal.equals("null")) syntaxError("Invalid literal " + literal);
+	}
+	
+	/**
+	 * Consumes the next numeric value as a double. A string containing a number is accepted too.
+	 * 
+	 * @return The double value
+	 * @throws IOException If the stream cannot be read
+	 */
+	public double nextDouble() throws IOException {
+		return Double.parseDouble(nextNumber());
+	}
+	
+	/**
+	 * Consumes the next numeric value as a long. A string containing a number is accepted too.
+	 * 
+	 * @return The long value
+	 * @throws IOException If the stream cannot be read
+	 */
+	public long nextLong() throws IOException {
+		String number = nextNumber();
+		try {
+			return Long.parseLong(number);
+		} catch (NumberFormatException e) {
+			return (long) Double.parseDouble(number);
+		}
+	}
+	
+	/**
+	 * Consumes the next numeric value as an int. A string containing a number is accepted too.
+	 * 
+	 * @return The int value
+	 * @throws IOException If the stream cannot be read
+	 */
+	public int nextInt() throws IOException {
+		return (int) nextLong();
+	}
+	
+	/**
+	 * Skips the next value, with all its nested values.
+	 * 
+	 * @throws IOException If the stream cannot be read
+	 */
+	public void skipValue() throws IOException {
+		int level = 0;
+		do {
+			switch (peek()) {
+			case BEGIN_OBJECT: beginObject(); level++; break;
+			case BEGIN_ARRAY: beginArray(); level++; break;
+			case END_OBJECT: endObject(); level--; break;
+			case END_ARRAY: endArray(); level--; break;
+			case NAME: nextName(); break;
+			case STRING: nextString(); break;
+			case END_DOCUMENT: return;
+			default: peeked = null; readLiteral(); break;
+			}
+		} while (level > 0);
+	}
+	
+	//endregion
+	
+	//region Values
+	
+	/**
+	 * Reads the next value as a json-lib object: JSONObject, JSONArray, String, Integer, 
+	 * Long, Double, Boolean or JSONNull.
+	 * 
+	 * @return The value
+	 * @throws IOException If the stream cannot be read
+	 */
+	public Object readValue() throws IOException {
+		switch (peek()) {
+		case BEGIN_OBJECT: return readObject();
+		case BEGIN_ARRAY: return readArray();
+		case STRING: return nextString();
+		case BOOLEAN: return nextBoolean();
+		case NULL: nextNull(); return JSONNull.getInstance();
+		case NUMBER:
+			peeked = null;
+			return toNumber(readLiteral());
+		default:
+			return syntaxError("Expected a value");
+		}
+	}
+	
+	/**
+	 * Reads the next object as a JSONObject.
+	 * 
+	 * @return The JSON object
+	 * @throws IOException If the stream cannot be read
+	 */
+	public JSONObject readObject() throws IOException {
+		JSONObject json = new JSONObject();
+		
+		beginObject();
+		while (hasNext()) {
+			String name = nextName();
+			json.element(name, readValue(), CONFIG);
+		}
+		endObject();
+		
+		return json;
+	}
+	
+	/**
+	 * Reads the next array as a JSONArray.
+	 * 
+	 * @return The JSON array
+	 * @throws IOException If the stream cannot be read
+	 */
+	public JSONArray readArray() throws IOException {
+		JSONArray json = new JSONArray();
+		
+		beginArray();
+		while (hasNext()) {
+			json.element(readValue(), CONFIG);
+		}
+		endArray();
+		
+		return json;
+	}
+	
+	/**
+	 * Parses a JSON string into a JSONObject.
+	 * 
+	 * @param json The JSON string
+	 * @return The JSON object
+	 * @throws JSONException If the string is not a valid JSON object
+	 */
+	public static JSONObject parseObject(String json) {
+		TMDbJsonParseEvent event = TMDbJsonParseEvent.start();
+		TMDbJsonReader reader = new TMDbJsonReader(json);
+		JSONObject object = null;
+		try {
+			object = reader.readObject();
+			return object;
+		} catch (IOException e) {
+			throw new JSONException(e);
+		} finally {
+			event.finish(json, object != null ? object.size() : -1);
+		}
+	}
+	
+	/**
+	 * Converts a number literal to the narrowest of Integer, Long or Double.
+	 * 
+	 * @param literal The number literal
+	 * @return The number
+	 */
+	private static Number toNumber(String literal) {
+		for (int i = 0; i < literal.length(); i++) {
+			char c = literal.charAt(i);
+			if (c == '.' || c == 'e' || c == 'E') return Double.valueOf(literal);
+		}
+		
+		try {
+			long value = Long.parseLong(literal);
+			if (value == (int) value) return Integer.valueOf((int) value);
+			return Long.valueOf(value);
+		} catch (NumberFormatException e) {
+			return Double.valueOf(literal);
+		}
+	}
+	
+	//endregion
+	
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+	
+	//region Lexer
+	
+	/**
+	 * Consumes the peeked token if it is the expected one.
+	 * 
+	 * @param expected The expected token
+	 * @throws IOException If the stream cannot be read
+	 */
+	private void expect(Token expected) throws IOException {
+		Token token = peek();
+		if (token != expected) syntaxError("Expected " + expected + " but was " + token);
+		peeked = null;
+	}
+	
+	/**
+	 * Consumes the next number, either a literal or a string.
+	 * 
+	 * @return The number literal
+	 * @throws IOException If the stream cannot be read
+	 */
+	private String nextNumber() throws IOException {
+		Token token = peek();
+		if (token == Token.STRING) {
+			peeked = null;
+			return readString().trim();
+		}
+		
+		expect(Token.NUMBER);
+		return readLiteral();
+	}
+	
+	/**
+	 * Opens a new scope.
+	 * 
+	 * @param scope The scope
+	 */
+	private void push(int scope) {
+		if (depth == stack.length) {
+			int[] grown = new int[depth * 2];
+			System.arraycopy(stack, 0, grown, 0, depth);
+			stack = grown;
+		}
+		stack[depth++] = scope;
+	}
+	
+	/**
+	 * Ensures that the buffer holds at least one unread character.
+	 * 
+	 * @return Whether there is a character to read
+	 * @throws IOException If the stream cannot be read
+	 */
+	private boolean fill() throws IOException {
+		if (pos < limit) return true;
+		
+		int read;
+		do {
+			read = in.read(buffer, 0, buffer.length);
+		} while (read == 0);
+		
+		pos = 0;
+		limit = Math.max(read, 0);
+		return read > 0;
+	}
+	
+	/**
+	 * Gets the next non whitespace character.
+	 * 
+	 * @param consume Whether to consume the character
+	 * @return The character or -1 at the end of the stream
+	 * @throws IOException If the stream cannot be read
+	 */
+	private int nextNonWhitespace(boolean consume) throws IOException {
+		while (fill()) {
+			char c = buffer[pos];
+			if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+				pos++;
+				continue;
+			}
+			if (consume) pos++;
+			return c;
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Reads an unquoted literal (number, true, false or null).
+	 * 
+	 * @return The literal
+	 * @throws IOException If the stream cannot be read
+	 */
+	private String readLiteral() throws IOException {
+		builder.setLength(0);
+		while (fill()) {
+			int start = pos;
+			while (pos < limit && isLiteral(buffer[pos])) pos++;
+			builder.append(buffer, start, pos - start);
+			if (pos < limit) break;
+		}
+		
+		if (builder.length() == 0) syntaxError("Expected a literal");
+		return builder.toString();
+	}
+	
+	/**
+	 * Checks whether the given character can be part of a literal.
+	 * 
+	 * @param c The character
+	 * @return Whether the character is part of a literal
+	 */
+	private static boolean isLiteral(char c) {
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-' || c == '+' || c == '.';
+	}
+	
+	/**
+	 * Reads a string whose opening quote has already been consumed.
+	 * 
+	 * @return The decoded string
+	 * @throws IOException If the stream cannot be read
+	 */
+	private String readString() throws IOException {
+		
+		// Fast path: the whole string is in the buffer and has no escapes.
+		for (int i = pos; i < limit; i++) {
+			char c = buffer[i];
+			if (c == '"') {
+				String value = new String(buffer, pos, i - pos);
+				pos = i + 1;
+				return value;
+			}
+			if (c == '\\') break;
+		}
+		
+		builder.setLength(0);
+		while (true) {
+			if (!fill()) syntaxError("Unterminated string");
+			
+			int start = pos;
+			while (pos < limit) {
+				char c = buffer[pos];
+				if (c == '"') {
+					builder.append(buffer, start, pos - start);
+					pos++;
+					return builder.toString();
+				}
+				if (c == '\\') {
+					builder.append(buffer, start, pos - start);
+					pos++;
+					builder.append(readEscape());
+					start = pos;
+					continue;
+				}
+				pos++;
+			}
+			builder.append(buffer, start, pos - start);
+		}
+	}
+	
+	/**
+	 * Reads an escape sequence whose backslash has already been consumed.
+	 * 
+	 * @return The escaped character
+	 * @throws IOException If the stream cannot be read
+	 */
+	private char readEscape() throws IOException {
+		if (!fill()) syntaxError("Unterminated escape sequence");
+		
+		char c = buffer[pos++];
+		switch (c) {
+		case 'b': return '\b';
+		case 'f': return '\f';
+		case 'n': return '\n';
+		case 'r': return '\r';
+		case 't': return '\t';
+		case 'u':
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				if (!fill()) syntaxError("Unterminated escape sequence");
+				int digit = Character.digit(buffer[pos++], 16);
+				if (digit < 0) syntaxError("Invalid unicode escape");
+				value = (value << 4) | digit;
+			}
+			return (char) value;
+		default:
+			return c;
+		}
+	}
+	
+	/**
+	 * Throws a syntax error.
+	 * 
+	 * @param message The error message
+	 * @return Never returns
+	 * @throws JSONException Always
+	 */
+	private static <T> T syntaxError(String message) {
+		throw new JSONException(message);
+	}
+	
+	//endregion
+	
+}
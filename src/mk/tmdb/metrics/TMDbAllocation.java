@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the number of bytes allocated by the current thread, used by the flight recorder 
+ * events to estimate the allocations of the operation they time.
+ * 
+ * @author Mirko Polato
+ *
+ */
+final class TMDbAllocation {
+
+	private TMDbAllocation() {}
+	
+	/**
+	 * The thread bean of the JVM, null if it cannot measure the allocations.
+	 */
+	private static final com.sun.management.ThreadMXBean THREADS = getThreadBean();
+	
+	/**
+	 * Gets the number of bytes allocated so far by the current thread.
+	 * 
+	 * @return The allocated bytes, or 0 if the JVM cannot measure them
+	 */
+	static long getAllocatedBytes() {
+		return THREADS == null ? 0 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	/**
+	 * Gets the thread bean, if it supports the measure of the allocations.
+	 */
+	private static com.sun.management.ThreadMXBean getThreadBean() {
+		try {
+			
+			ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+			
+			com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+			if (!threads.isThreadAllocatedMemorySupported()) return null;
+			if (!threads.isThreadAllocatedMemoryEnabled()) threads.setThreadAllocatedMemoryEnabled(true);
+			
+			return threads;
+			
+		} catch (RuntimeException | LinkageError e) {
+			return null;
+		}
+	}
+	
+}
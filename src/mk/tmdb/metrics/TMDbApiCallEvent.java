@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+import java.net.URL;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import mk.tmdb.core.TMDbURLCreator;
+import mk.tmdb.response.TMDbStatus;
+
+/**
+ * Flight recorder event of a call of {@link mk.tmdb.core.TMDbAPI#makeApiCallGet(URL) makeApiCallGet} 
+ * or {@link mk.tmdb.core.TMDbAPI#makeApiCallPost(URL, net.sf.json.JSONObject) makeApiCallPost}, 
+ * from the cache lookup to the result string (retries and rate limiter waits included). The time 
+ * spent on the network is reported by the nested {@link TMDbHttpRequestEvent} events.
+ * <p>
+ * Usage: <code>event = TMDbApiCallEvent.start(); ... event.finish(...);</code>. When the event is 
+ * not recorded the two calls cost nothing but a check.
+ * 
+ * @author Mirko Polato
+ *
+ */
+@Name("mk.tmdb.ApiCall")
+@Label("TMDb API Call")
+@Category("TMDb")
+@Description("A call of the TMDb API, from the cache lookup to the result string")
+public final class TMDbApiCallEvent extends Event {
+
+	/**
+	 * Where the response of a call comes from.
+	 */
+	public enum Source {
+		/**
+		 * The response has been requested to the server.
+		 */
+		NETWORK,
+		/**
+		 * The response has been served by the in-memory cache.
+		 */
+		MEMORY_CACHE,
+		/**
+		 * The response has been served by the disk cache.
+		 */
+		DISK_CACHE,
+		/**
+		 * The response has been shared by an identical call in flight.
+		 */
+		COALESCED
+	}
+	
+	@Label("Endpoint")
+	@Description("The endpoint template, e.g. movie/{id}/casts")
+	private String endpoint;
+	
+	@Label("Method")
+	private String method;
+	
+	@Label("Source")
+	@Description("Where the response comes from: NETWORK, MEMORY_CACHE, DISK_CACHE or COALESCED")
+	private String source;
+	
+	@Label("Status")
+	@Description("The final status of the call, NONE if it succeeded (empty for the coalesced calls)")
+	private String status;
+	
+	@Label("Response Size")
+	@DataAmount
+	private long bytes;
+	
+	@Label("Allocated")
+	@Description("Bytes allocated by the calling thread during the call")
+	@DataAmount
+	private long allocated;
+	
+	/**
+	 * The bytes allocated by the thread when the call started.
+	 */
+	private transient long allocationStart;
+	
+	/**
+	 * Starts the event of a call.
+	 * 
+	 * @return The started event
+	 */
+	public static TMDbApiCallEvent start() {
+		TMDbApiCallEvent event = new TMDbApiCallEvent();
+		if (event.isEnabled()) {
+			event.allocationStart = TMDbAllocation.getAllocatedBytes();
+			event.begin();
+		}
+		return event;
+	}
+	
+	/**
+	 * Ends the event of a call and commits it, if it is recorded.
+	 * 
+	 * @param url The query URL
+	 * @param post Whether the call is a POST one
+	 * @param from Where the response comes from
+	 * @param result The final status (NONE if the call succeeded, null if unknown)
+	 * @param response The response string
+	 */
+	public void finish(URL url, boolean post, Source from, TMDbStatus result, String response) {
+		if (!isEnabled()) return;
+		
+		end();
+		if (shouldCommit()) {
+			allocated = TMDbAllocation.getAllocatedBytes() - allocationStart;
+			endpoint = TMDbURLCreator.getEndpoint(url);
+			method = post ? "POST" : "GET";
+			source = from.name();
+			status = result != null ? result.name() : "";
+			bytes = utf8Length(response);
+			commit();
+		}
+	}
+	
+	/**
+	 * Gets the UTF-8 length of a string without encoding it.
+	 */
+	private static long utf8Length(String string) {
+		if (string == null) return 0;
+		
+		long length = 0;
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (c < 0x80) length++;
+			else if (c < 0x800) length += 2;
+			else if (Character.isHighSurrogate(c)) { length += 4; i++; }
+			else length += 3;
+		}
+		return length;
+	}
+	
+}
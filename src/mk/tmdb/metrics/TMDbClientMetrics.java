@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+import mk.tmdb.cache.TMDbDiskCache;
+import mk.tmdb.cache.TMDbResponseCache;
+import mk.tmdb.core.TMDbAPI;
+import mk.tmdb.net.TMDbPooledTransport;
+import mk.tmdb.net.TMDbTransport;
+
+/**
+ * Client wide metrics, read on demand from the caches, the in-flight deduplicator and the 
+ * transport currently set in {@link TMDbAPI}.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbClientMetrics implements TMDbClientMetricsMXBean {
+
+	@Override
+	public long getMemoryCacheHitCount() {
+		TMDbResponseCache cache = TMDbAPI.getCache();
+		return cache == null ? 0 : cache.getHitCount();
+	}
+	
+	@Override
+	public long getMemoryCacheMissCount() {
+		TMDbResponseCache cache = TMDbAPI.getCache();
+		return cache == null ? 0 : cache.getMissCount();
+	}
+	
+	@Override
+	public long getMemoryCacheEvictionCount() {
+		TMDbResponseCache cache = TMDbAPI.getCache();
+		return cache == null ? 0 : cache.getEvictionCount();
+	}
+	
+	@Override
+	public int getMemoryCacheSize() {
+		TMDbResponseCache cache = TMDbAPI.getCache();
+		return cache == null ? 0 : cache.size();
+	}
+	
+	@Override
+	public long getMemoryCacheWeight() {
+		TMDbResponseCache cache = TMDbAPI.getCache();
+		return cache == null ? 0 : cache.getWeight();
+	}
+	
+	@Override
+	public long getDiskCacheHitCount() {
+		TMDbDiskCache cache = TMDbAPI.getDiskCache();
+		return cache == null ? 0 : cache.getHitCount();
+	}
+	
+	@Override
+	public long getDiskCacheMissCount() {
+		TMDbDiskCache cache = TMDbAPI.getDiskCache();
+		return cache == null ? 0 : cache.getMissCount();
+	}
+	
+	@Override
+	public int getDiskCacheSize() {
+		TMDbDiskCache cache = TMDbAPI.getDiskCache();
+		return cache == null ? 0 : cache.size();
+	}
+	
+	@Override
+	public long getSingleFlightExecutedCount() {
+		return TMDbAPI.getSingleFlight().getExecutedCount();
+	}
+	
+	@Override
+	public long getSingleFlightCoalescedCount() {
+		return TMDbAPI.getSingleFlight().getCoalescedCount();
+	}
+	
+	@Override
+	public int getInFlightCount() {
+		return TMDbAPI.getSingleFlight().getInFlightCount();
+	}
+	
+	@Override
+	public int getActiveConnections() {
+		TMDbTransport transport = TMDbAPI.getTransport();
+		return transport instanceof TMDbPooledTransport ? ((TMDbPooledTransport) transport).getActiveConnections() : -1;
+	}
+	
+	@Override
+	public int getMaxConnectionsPerHost() {
+		TMDbTransport transport = TMDbAPI.getTransport();
+		return transport instanceof TMDbPooledTransport ? ((TMDbPooledTransport) transport).getMaxConnectionsPerHost() : -1;
+	}
+	
+}
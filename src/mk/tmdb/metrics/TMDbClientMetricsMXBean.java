@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+/**
+ * Management interface of the client wide metrics (caches, in-flight requests and connection 
+ * pool), exposed through JMX by {@link TMDbMetrics}.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public interface TMDbClientMetricsMXBean {
+
+	/**
+	 * Gets the number of requests served by the in-memory cache.
+	 * 
+	 * @return The number of hits, 0 if the cache is disabled
+	 */
+	public long getMemoryCacheHitCount();
+	
+	/**
+	 * Gets the number of requests not served by the in-memory cache.
+	 * 
+	 * @return The number of misses, 0 if the cache is disabled
+	 */
+	public long getMemoryCacheMissCount();
+	
+	/**
+	 * Gets the number of responses evicted from the in-memory cache.
+	 * 
+	 * @return The number of evictions, 0 if the cache is disabled
+	 */
+	public long getMemoryCacheEvictionCount();
+	
+	/**
+	 * Gets the number of responses in the in-memory cache.
+	 * 
+	 * @return The number of entries, 0 if the cache is disabled
+	 */
+	public int getMemoryCacheSize();
+	
+	/**
+	 * Gets the weight of the responses in the in-memory cache.
+	 * 
+	 * @return The weight, 0 if the cache is disabled
+	 */
+	public long getMemoryCacheWeight();
+	
+	/**
+	 * Gets the number of requests served by the disk cache.
+	 * 
+	 * @return The number of hits, 0 if the cache is disabled
+	 */
+	public long getDiskCacheHitCount();
+	
+	/**
+	 * Gets the number of requests not served by the disk cache.
+	 * 
+	 * @return The number of misses, 0 if the cache is disabled
+	 */
+	public long getDiskCacheMissCount();
+	
+	/**
+	 * Gets the number of responses in the disk cache.
+	 * 
+	 * @return The number of entries, 0 if the cache is disabled
+	 */
+	public int getDiskCacheSize();
+	
+	/**
+	 * Gets the number of GET requests actually performed by the in-flight deduplicator.
+	 * 
+	 * @return The number of executed requests
+	 */
+	public long getSingleFlightExecutedCount();
+	
+	/**
+	 * Gets the number of GET requests served by an identical request in flight.
+	 * 
+	 * @return The number of coalesced requests
+	 */
+	public long getSingleFlightCoalescedCount();
+	
+	/**
+	 * Gets the number of GET requests currently in flight.
+	 * 
+	 * @return The number of requests in flight
+	 */
+	public int getInFlightCount();
+	
+	/**
+	 * Gets the number of connections currently in use by the transport.
+	 * 
+	 * @return The number of connections in use, -1 if the transport is not pooled
+	 */
+	public int getActiveConnections();
+	
+	/**
+	 * Gets the maximum number of concurrent connections per host of the transport.
+	 * 
+	 * @return The maximum number of connections per host, -1 if the transport is not pooled
+	 */
+	public int getMaxConnectionsPerHost();
+	
+}
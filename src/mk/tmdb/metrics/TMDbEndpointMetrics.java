@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import mk.tmdb.net.TMDbHttpResponse;
+import mk.tmdb.response.TMDbStatus;
+
+/**
+ * Metrics of the requests of an endpoint (e.g. "movie/{id}/casts"), recorded by 
+ * {@link mk.tmdb.core.TMDbAPI TMDbAPI}. All the counters are lock-free, so recording never 
+ * slows down the concurrent requests.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbEndpointMetrics implements TMDbEndpointMetricsMXBean {
+
+	/**
+	 * The endpoint template.
+	 */
+	private final String endpoint;
+	
+	/**
+	 * The latency of the requests, in microseconds.
+	 */
+	private final TMDbHistogram latency = new TMDbHistogram();
+	
+	/**
+	 * The number of requests by final status ordinal.
+	 */
+	private final AtomicLongArray statuses = new AtomicLongArray(TMDbStatus.values().length);
+	
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder httpRequests = new LongAdder();
+	private final LongAdder retries = new LongAdder();
+	private final LongAdder throttled = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LongAdder memoryHits = new LongAdder();
+	private final LongAdder diskHits = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final LongAdder bytes = new LongAdder();
+	
+	/**
+	 * Creates the metrics of the given endpoint.
+	 * 
+	 * @param endpoint The endpoint template
+	 */
+	public TMDbEndpointMetrics(String endpoint) {
+		this.endpoint = endpoint;
+	}
+	
+	//region Recording
+	
+	/**
+	 * Records a request completed by the network, retries included.
+	 * 
+	 * @param status The final status (NONE if the request succeeded)
+	 * @param attempts The number of attempts made
+	 * @param nanos The latency of the request in nanoseconds
+	 */
+	public void recordRequest(TMDbStatus status, int attempts, long nanos) {
+		requests.increment();
+		if (attempts > 1) retries.add(attempts - 1);
+		if (status != TMDbStatus.NONE) errors.increment();
+		statuses.incrementAndGet(status.ordinal());
+		latency.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+	}
+	
+	/**
+	 * Records an HTTP response.
+	 * 
+	 * @param code The HTTP status code
+	 * @param length The length of the response body
+	 */
+	public void recordHttpResponse(int code, int length) {
+		httpRequests.increment();
+		bytes.add(length);
+		if (code == TMDbHttpResponse.TOO_MANY_REQUESTS) throttled.increment();
+	}
+	
+	/**
+	 * Records an HTTP request that did not get a response.
+	 */
+	public void recordHttpFailure() {
+		httpRequests.increment();
+	}
+	
+	/**
+	 * Records a request served by the in-memory cache.
+	 */
+	public void recordMemoryCacheHit() {
+		memoryHits.increment();
+	}
+	
+	/**
+	 * Records a request served by the disk cache.
+	 */
+	public void recordDiskCacheHit() {
+		diskHits.increment();
+	}
+	
+	/**
+	 * Records a request served by an identical request in flight.
+	 */
+	public void recordCoalesced() {
+		coalesced.increment();
+	}
+	
+	//endregion
+	
+	//region Getters
+	
+	@Override
+	public String getEndpoint() {
+		return endpoint;
+	}
+	
+	/**
+	 * Gets the histogram of the latency of the requests, in microseconds.
+	 * 
+	 * @return The latency histogram
+	 */
+	public TMDbHistogram getLatency() {
+		return latency;
+	}
+	
+	/**
+	 * Gets the number of requests with the given final status.
+	 * 
+	 * @param status The status (NONE for the successful requests)
+	 * @return The number of requests
+	 */
+	public long getStatusCount(TMDbStatus status) {
+		return statuses.get(status.ordinal());
+	}
+	
+	@Override
+	public long getRequestCount() {
+		return requests.sum();
+	}
+	
+	@Override
+	public long getHttpRequestCount() {
+		return httpRequests.sum();
+	}
+	
+	@Override
+	public long getRetryCount() {
+		return retries.sum();
+	}
+	
+	@Override
+	public long getThrottledCount() {
+		return throttled.sum();
+	}
+	
+	@Override
+	public long getErrorCount() {
+		return errors.sum();
+	}
+	
+	@Override
+	public long getMemoryCacheHitCount() {
+		return memoryHits.sum();
+	}
+	
+	@Override
+	public long getDiskCacheHitCount() {
+		return diskHits.sum();
+	}
+	
+	@Override
+	public long getCoalescedCount() {
+		return coalesced.sum();
+	}
+	
+	@Override
+	public long getResponseBytes() {
+		return bytes.sum();
+	}
+	
+	@Override
+	public Map<String, Long> getStatusCounts() {
+		Map<String, Long> counts = new TreeMap<String, Long>();
+		for (TMDbStatus status : TMDbStatus.values()) {
+			long count = statuses.get(status.ordinal());
+			if (count > 0) counts.put(status.name(), count);
+		}
+		
+		return counts;
+	}
+	
+	@Override
+	public double getLatencyMean() {
+		return latency.getMean() / 1000.0;
+	}
+	
+	@Override
+	public double getLatencyP50() {
+		return latency.getValueAtPercentile(50) / 1000.0;
+	}
+	
+	@Override
+	public double getLatencyP90() {
+		return latency.getValueAtPercentile(90) / 1000.0;
+	}
+	
+	@Override
+	public double getLatencyP99() {
+		return latency.getValueAtPercentile(99) / 1000.0;
+	}
+	
+	@Override
+	public double getLatencyP999() {
+		return latency.getValueAtPercentile(99.9) / 1000.0;
+	}
+	
+	@Override
+	public double getLatencyMax() {
+		return latency.getMax() / 1000.0;
+	}
+	
+	//endregion
+	
+	@Override
+	public void reset() {
+		latency.reset();
+		for (int i = 0; i < statuses.length(); i++) statuses.set(i, 0);
+		requests.reset();
+		httpRequests.reset();
+		retries.reset();
+		throttled.reset();
+		errors.reset();
+		memoryHits.reset();
+		diskHits.reset();
+		coalesced.reset();
+		bytes.reset();
+	}
+	
+	@Override
+	public String toString() {
+		return endpoint + " requests=" + getRequestCount() + " http=" + getHttpRequestCount() + 
+			   " errors=" + getErrorCount() + " p50=" + getLatencyP50() + "ms p99=" + getLatencyP99() + "ms";
+	}
+	
+}
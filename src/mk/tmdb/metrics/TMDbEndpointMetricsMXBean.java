@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of the metrics of an endpoint, exposed through JMX by {@link TMDbMetrics}.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public interface TMDbEndpointMetricsMXBean {
+
+	/**
+	 * Gets the endpoint template (e.g. "movie/{id}/casts").
+	 * 
+	 * @return The endpoint template
+	 */
+	public String getEndpoint();
+	
+	/**
+	 * Gets the number of requests not served by a cache or by an identical request in flight.
+	 * 
+	 * @return The number of requests
+	 */
+	public long getRequestCount();
+	
+	/**
+	 * Gets the number of HTTP requests sent, including the retries: this is the quota used.
+	 * 
+	 * @return The number of HTTP requests
+	 */
+	public long getHttpRequestCount();
+	
+	/**
+	 * Gets the number of retries made by the retry policy.
+	 * 
+	 * @return The number of retries
+	 */
+	public long getRetryCount();
+	
+	/**
+	 * Gets the number of HTTP requests rejected with "429 Too Many Requests".
+	 * 
+	 * @return The number of throttled HTTP requests
+	 */
+	public long getThrottledCount();
+	
+	/**
+	 * Gets the number of requests that failed.
+	 * 
+	 * @return The number of failed requests
+	 */
+	public long getErrorCount();
+	
+	/**
+	 * Gets the number of requests served by the in-memory cache.
+	 * 
+	 * @return The number of in-memory cache hits
+	 */
+	public long getMemoryCacheHitCount();
+	
+	/**
+	 * Gets the number of requests served by the disk cache.
+	 * 
+	 * @return The number of disk cache hits
+	 */
+	public long getDiskCacheHitCount();
+	
+	/**
+	 * Gets the number of requests served by an identical request in flight.
+	 * 
+	 * @return The number of coalesced requests
+	 */
+	public long getCoalescedCount();
+	
+	/**
+	 * Gets the total size of the response bodies received.
+	 * 
+	 * @return The number of bytes received
+	 */
+	public long getResponseBytes();
+	
+	/**
+	 * Gets the number of requests by final status (only the statuses that occurred).
+	 * 
+	 * @return The number of requests by status name
+	 */
+	public Map<String, Long> getStatusCounts();
+	
+	/**
+	 * Gets the mean latency of the requests, retries included.
+	 * 
+	 * @return The mean latency in milliseconds
+	 */
+	public double getLatencyMean();
+	
+	/**
+	 * Gets the median latency of the requests, retries included.
+	 * 
+	 * @return The median latency in milliseconds
+	 */
+	public double getLatencyP50();
+	
+	/**
+	 * Gets the 90th percentile of the latency of the requests, retries included.
+	 * 
+	 * @return The 90th percentile latency in milliseconds
+	 */
+	public double getLatencyP90();
+	
+	/**
+	 * Gets the 99th percentile of the latency of the requests, retries included.
+	 * 
+	 * @return The 99th percentile latency in milliseconds
+	 */
+	public double getLatencyP99();
+	
+	/**
+	 * Gets the 99.9th percentile of the latency of the requests, retries included.
+	 * 
+	 * @return The 99.9th percentile latency in milliseconds
+	 */
+	public double getLatencyP999();
+	
+	/**
+	 * Gets the highest latency of the requests, retries included.
+	 * 
+	 * @return The highest latency in milliseconds
+	 */
+	public double getLatencyMax();
+	
+	/**
+	 * Clears the metrics of the endpoint.
+	 */
+	public void reset();
+	
+}
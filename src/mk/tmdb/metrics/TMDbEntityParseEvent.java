@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.sf.json.JSONObject;
+
+/**
+ * Flight recorder event of the binding of a JSON object to the fields declared by an entity 
+ * class. The entities that extend other entities emit one event per class: e.g. a full movie 
+ * emits three consecutive events, for the thumbnail, the reduced and the full movie fields.
+ * 
+ * @author Mirko Polato
+ *
+ */
+@Name("mk.tmdb.EntityParse")
+@Label("TMDb Entity Parse")
+@Category({"TMDb", "Parsing"})
+@Description("The binding of a JSON object to the fields declared by an entity class")
+@StackTrace(false)
+public final class TMDbEntityParseEvent extends Event {
+
+	@Label("Entity Class")
+	private Class<?> entity;
+	
+	@Label("Properties")
+	@Description("The number of properties of the JSON object")
+	private int properties;
+	
+	@Label("Allocated")
+	@Description("Bytes allocated by the parsing thread")
+	@DataAmount
+	private long allocated;
+	
+	/**
+	 * The bytes allocated by the thread when the parsing started.
+	 */
+	private transient long allocationStart;
+	
+	/**
+	 * Starts the event of a parsing.
+	 * 
+	 * @return The started event
+	 */
+	public static TMDbEntityParseEvent start() {
+		TMDbEntityParseEvent event = new TMDbEntityParseEvent();
+		if (event.isEnabled()) {
+			event.allocationStart = TMDbAllocation.getAllocatedBytes();
+			event.begin();
+		}
+		return event;
+	}
+	
+	/**
+	 * Ends the event of a parsing and commits it, if it is recorded.
+	 * 
+	 * @param type The entity class whose fields have been parsed
+	 * @param json The JSON object
+	 */
+	public void finish(Class<?> type, JSONObject json) {
+		if (!isEnabled()) return;
+		
+		end();
+		if (shouldCommit()) {
+			allocated = TMDbAllocation.getAllocatedBytes() - allocationStart;
+			entity = type;
+			properties = json == null || json.isNullObject() ? 0 : json.size();
+			commit();
+		}
+	}
+	
+}
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non negative values (e.g. latencies in microseconds) with a bounded 
+ * relative error, in the style of the HDR histograms.
+ * <p>
+ * Every power of two range is split into {@value #SUB_BUCKETS} linear buckets, so a recorded 
+ * value is reported with a relative error below 1/{@value #SUB_BUCKETS} while the whole range of 
+ * the values up to {@link #MAX_VALUE} fits in about two thousand counters. Recording a value 
+ * costs a few atomic increments and no allocation.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbHistogram {
+
+	/**
+	 * Number of bits of the linear buckets in each power of two range.
+	 */
+	private static final int SUB_BUCKET_BITS = 6;
+	
+	/**
+	 * Number of linear buckets in each power of two range.
+	 */
+	public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	
+	/**
+	 * Highest trackable value: the larger values are recorded as this one.
+	 */
+	public static final long MAX_VALUE = (1L << 36) - 1;
+	
+	/**
+	 * The bucket counters.
+	 */
+	private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_VALUE) + 1);
+	
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+	
+	/**
+	 * Records a value.
+	 * 
+	 * @param value The value (negative values are recorded as 0)
+	 */
+	public void record(long value) {
+		if (value < 0) value = 0;
+		if (value > MAX_VALUE) value = MAX_VALUE;
+		
+		counts.incrementAndGet(indexOf(value));
+		count.increment();
+		sum.add(value);
+		
+		long current;
+		while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+			// Retry until the maximum is at least this value.
+		}
+	}
+	
+	/**
+	 * Gets the number of recorded values.
+	 * 
+	 * @return The number of values
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+	
+	/**
+	 * Gets the highest recorded value.
+	 * 
+	 * @return The highest value, or 0 if no value has been recorded
+	 */
+	public long getMax() {
+		return max.get();
+	}
+	
+	/**
+	 * Gets the mean of the recorded values.
+	 * 
+	 * @return The mean, or 0 if no value has been recorded
+	 */
+	public double getMean() {
+		long n = count.sum();
+		return n == 0 ? 0.0 : (double) sum.sum() / n;
+	}
+	
+	/**
+	 * Gets the value below which the given percentage of the recorded values falls. The result 
+	 * is the upper bound of the bucket of that value, so it never underestimates it by more than 
+	 * the relative error of the histogram.
+	 * 
+	 * @param percentile The percentile, between 0 and 100
+	 * @return The value at the percentile, or 0 if no value has been recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long total = 0;
+		int length = counts.length();
+		for (int i = 0; i < length; i++) total += counts.get(i);
+		if (total == 0) return 0;
+		
+		long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * total));
+		long seen = 0;
+		for (int i = 0; i < length; i++) {
+			seen += counts.get(i);
+			if (seen >= rank) return Math.min(highestValueOf(i), max.get());
+		}
+		
+		return max.get();
+	}
+	
+	/**
+	 * Clears all the recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < counts.length(); i++) counts.set(i, 0);
+		count.reset();
+		sum.reset();
+		max.set(0);
+	}
+	
+	/**
+	 * Gets the bucket of a value: the values below {@link #SUB_BUCKETS} have their own bucket, 
+	 * the others are shifted so that they keep {@value #SUB_BUCKET_BITS} + 1 significant bits.
+	 */
+	private static int indexOf(long value) {
+		int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+		return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+	}
+	
+	/**
+	 * Gets the highest value of a bucket.
+	 */
+	private static long highestValueOf(int index) {
+		if (index < 2 * SUB_BUCKETS) return index;
+		
+		int shift = (index >>> SUB_BUCKET_BITS) - 1;
+		long mantissa = index - ((long) shift << SUB_BUCKET_BITS);
+		return ((mantissa + 1) << shift) - 1;
+	}
+	
+}
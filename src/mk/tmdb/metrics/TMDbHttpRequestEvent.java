@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+import java.net.URL;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import mk.tmdb.core.TMDbURLCreator;
+
+/**
+ * Flight recorder event of a single HTTP request sent by the transport: its duration is the 
+ * time spent waiting for the network.
+ * 
+ * @author Mirko Polato
+ *
+ */
+@Name("mk.tmdb.HttpRequest")
+@Label("TMDb HTTP Request")
+@Category({"TMDb", "Network"})
+@Description("A single HTTP request sent to TMDb, retries excluded")
+public final class TMDbHttpRequestEvent extends Event {
+
+	@Label("Endpoint")
+	@Description("The endpoint template, e.g. movie/{id}/casts")
+	private String endpoint;
+	
+	@Label("Method")
+	private String method;
+	
+	@Label("HTTP Status")
+	@Description("The HTTP status code, -1 if the request failed without a response")
+	private int code;
+	
+	@Label("Response Size")
+	@DataAmount
+	private long bytes;
+	
+	/**
+	 * Starts the event of a request.
+	 * 
+	 * @return The started event
+	 */
+	public static TMDbHttpRequestEvent start() {
+		TMDbHttpRequestEvent event = new TMDbHttpRequestEvent();
+		event.begin();
+		return event;
+	}
+	
+	/**
+	 * Ends the event of a request and commits it, if it is recorded.
+	 * 
+	 * @param url The query URL
+	 * @param post Whether the request is a POST one
+	 * @param status The HTTP status code (-1 if the request failed without a response)
+	 * @param length The length of the response body
+	 */
+	public void finish(URL url, boolean post, int status, int length) {
+		if (!isEnabled()) return;
+		
+		end();
+		if (shouldCommit()) {
+			endpoint = TMDbURLCreator.getEndpoint(url);
+			method = post ? "POST" : "GET";
+			code = status;
+			bytes = length;
+			commit();
+		}
+	}
+	
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the parsing of a response string into a JSON object.
+ * 
+ * @author Mirko Polato
+ *
+ */
+@Name("mk.tmdb.JsonParse")
+@Label("TMDb JSON Parse")
+@Category({"TMDb", "Parsing"})
+@Description("The parsing of a response string into a JSON object")
+@StackTrace(false)
+public final class TMDbJsonParseEvent extends Event {
+
+	@Label("Length")
+	@Description("The number of characters of the JSON string")
+	private long length;
+	
+	@Label("Properties")
+	@Description("The number of properties of the parsed object")
+	private int properties;
+	
+	@Label("Allocated")
+	@Description("Bytes allocated by the parsing thread")
+	@DataAmount
+	private long allocated;
+	
+	/**
+	 * The bytes allocated by the thread when the parsing started.
+	 */
+	private transient long allocationStart;
+	
+	/**
+	 * Starts the event of a parsing.
+	 * 
+	 * @return The started event
+	 */
+	public static TMDbJsonParseEvent start() {
+		TMDbJsonParseEvent event = new TMDbJsonParseEvent();
+		if (event.isEnabled()) {
+			event.allocationStart = TMDbAllocation.getAllocatedBytes();
+			event.begin();
+		}
+		return event;
+	}
+	
+	/**
+	 * Ends the event of a parsing and commits it, if it is recorded.
+	 * 
+	 * @param json The JSON string
+	 * @param size The number of properties of the parsed object (-1 if the parsing failed)
+	 */
+	public void finish(String json, int size) {
+		if (!isEnabled()) return;
+		
+		end();
+		if (shouldCommit()) {
+			allocated = TMDbAllocation.getAllocatedBytes() - allocationStart;
+			length = json != null ? json.length() : 0;
+			properties = size;
+			commit();
+		}
+	}
+	
+}
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import mk.tmdb.core.TMDbURLCreator;
+import mk.tmdb.utils.Log;
+
+/**
+ * Static registry of the request metrics. {@link mk.tmdb.core.TMDbAPI TMDbAPI} records every 
+ * request into the {@link TMDbEndpointMetrics metrics} of its endpoint, obtained from the URL by 
+ * {@link TMDbURLCreator#getEndpoint(URL)}; the {@link TMDbClientMetrics client metrics} report 
+ * the state of the caches and of the connection pool.
+ * <p>
+ * The metrics can be read programmatically or, after {@link #registerMBeans()}, through JMX 
+ * under the domain {@value #DOMAIN}: one MXBean per endpoint ("type=Endpoint,name=...") and one 
+ * for the client ("type=Client").
+ * 
+ * @author Mirko Polato
+ *
+ */
+public final class TMDbMetrics {
+
+	private TMDbMetrics() {}
+	
+	/**
+	 * The JMX domain of the MXBeans.
+	 */
+	public static final String DOMAIN = "mk.tmdb";
+	
+	/**
+	 * The metrics of the endpoints, by endpoint template.
+	 */
+	private static final ConcurrentMap<String, TMDbEndpointMetrics> endpoints = new ConcurrentHashMap<String, TMDbEndpointMetrics>();
+	
+	/**
+	 * The client wide metrics.
+	 */
+	private static final TMDbClientMetrics client = new TMDbClientMetrics();
+	
+	/**
+	 * Whether the requests are recorded.
+	 */
+	private static volatile boolean enabled = true;
+	
+	/**
+	 * The server where the MXBeans are registered, null if they are not.
+	 */
+	private static volatile MBeanServer server = null;
+	
+	//region Settings
+	
+	/**
+	 * Checks whether the requests are recorded.
+	 * 
+	 * @return Whether the metrics are enabled
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * Sets whether the requests are recorded. The metrics already recorded are kept.
+	 * 
+	 * @param enable Whether the metrics are enabled
+	 */
+	public static void setEnabled(boolean enable) {
+		enabled = enable;
+	}
+	
+	//endregion
+	
+	//region Metrics
+	
+	/**
+	 * Gets the metrics of the endpoint of the given URL, creating them if needed.
+	 * 
+	 * @param url The query URL
+	 * @return The endpoint metrics, or null if the metrics are disabled
+	 */
+	public static TMDbEndpointMetrics forUrl(URL url) {
+		return enabled ? forEndpoint(TMDbURLCreator.getEndpoint(url)) : null;
+	}
+	
+	/**
+	 * Gets the metrics of the given endpoint, creating them (and registering their MXBean, if 
+	 * the MXBeans are registered) if needed.
+	 * 
+	 * @param endpoint The endpoint template (e.g. "movie/{id}/casts")
+	 * @return The endpoint metrics
+	 */
+	public static TMDbEndpointMetrics forEndpoint(String endpoint) {
+		TMDbEndpointMetrics metrics = endpoints.get(endpoint);
+		if (metrics != null) return metrics;
+		
+		metrics = new TMDbEndpointMetrics(endpoint);
+		TMDbEndpointMetrics previous = endpoints.putIfAbsent(endpoint, metrics);
+		if (previous != null) return previous;
+		
+		MBeanServer current = server;
+		if (current != null) register(current, metrics);
+		
+		return metrics;
+	}
+	
+	/**
+	 * Gets the metrics of all the endpoints requested so far.
+	 * 
+	 * @return The endpoint metrics, by endpoint template
+	 */
+	public static Map<String, TMDbEndpointMetrics> getEndpoints() {
+		return Collections.unmodifiableMap(new TreeMap<String, TMDbEndpointMetrics>(endpoints));
+	}
+	
+	/**
+	 * Gets the client wide metrics.
+	 * 
+	 * @return The client metrics
+	 */
+	public static TMDbClientMetrics getClient() {
+		return client;
+	}
+	
+	/**
+	 * Clears the metrics of all the endpoints.
+	 */
+	public static void reset() {
+		for (TMDbEndpointMetrics metrics : endpoints.values()) metrics.reset();
+	}
+	
+	//endregion
+	
+	//region JMX
+	
+	/**
+	 * Registers the MXBeans in the platform MBean server.
+	 */
+	public static void registerMBeans() {
+		registerMBeans(ManagementFactory.getPlatformMBeanServer());
+	}
+	
+	/**
+	 * Registers the MXBeans in the given MBean server. The endpoints requested later are 
+	 * registered as soon as they are created.
+	 * 
+	 * @param mbeanServer The MBean server
+	 */
+	public static synchronized void registerMBeans(MBeanServer mbeanServer) {
+		if (server != null) unregisterMBeans();
+		
+		server = mbeanServer;
+		try {
+			ObjectName name = getClientName();
+			if (!mbeanServer.isRegistered(name)) mbeanServer.registerMBean(client, name);
+		} catch (JMException e) {
+			Log.print(e);
+		}
+		
+		for (TMDbEndpointMetrics metrics : endpoints.values()) register(mbeanServer, metrics);
+	}
+	
+	/**
+	 * Unregisters the MXBeans from the server where they have been registered.
+	 */
+	public static synchronized void unregisterMBeans() {
+		MBeanServer current = server;
+		if (current == null) return;
+		
+		server = null;
+		try {
+			ObjectName name = getClientName();
+			if (current.isRegistered(name)) current.unregisterMBean(name);
+			
+			for (String endpoint : endpoints.keySet()) {
+				name = getEndpointName(endpoint);
+				if (current.isRegistered(name)) current.unregisterMBean(name);
+			}
+		} catch (JMException e) {
+			Log.print(e);
+		}
+	}
+	
+	/**
+	 * Registers the MXBean of an endpoint, if it is not registered yet.
+	 */
+	private static void register(MBeanServer mbeanServer, TMDbEndpointMetrics metrics) {
+		try {
+			ObjectName name = getEndpointName(metrics.getEndpoint());
+			if (!mbeanServer.isRegistered(name)) mbeanServer.registerMBean(metrics, name);
+		} catch (InstanceAlreadyExistsException e) {
+			// Registered meanwhile by another thread.
+		} catch (JMException e) {
+			Log.print(e);
+		}
+	}
+	
+	/**
+	 * Gets the JMX name of the client MXBean.
+	 */
+	private static ObjectName getClientName() throws JMException {
+		return new ObjectName(DOMAIN + ":type=Client");
+	}
+	
+	/**
+	 * Gets the JMX name of the MXBean of an endpoint.
+	 */
+	private static ObjectName getEndpointName(String endpoint) throws JMException {
+		return new ObjectName(DOMAIN + ":type=Endpoint,name=" + ObjectName.quote(endpoint.isEmpty() ? "/" : endpoint));
+	}
+	
+	//endregion
+	
+}
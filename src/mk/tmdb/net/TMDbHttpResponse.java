@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.net;
+
+import java.nio.charset.Charset;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Class that represents a raw HTTP response returned by a {@link TMDbTransport}.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbHttpResponse {
+
+	/**
+	 * The charset used by TMDb for the response bodies.
+	 */
+	public static final Charset UTF8 = Charset.forName("UTF-8");
+	
+	/**
+	 * HTTP status code "429 Too Many Requests".
+	 */
+	public static final int TOO_MANY_REQUESTS = 429;
+	
+	/**
+	 * The HTTP status code.
+	 */
+	private final int code;
+	
+	/**
+	 * The response body.
+	 */
+	private final byte[] body;
+	
+	/**
+	 * The response headers.
+	 */
+	private final Map<String, List<String>> headers;
+	
+	/**
+	 * Creates a new HTTP response.
+	 * 
+	 * @param code The HTTP status code
+	 * @param body The response body
+	 * @param headers The response headers
+	 */
+	public TMDbHttpResponse(int code, byte[] body, Map<String, List<String>> headers) {
+		this.code = code;
+		this.body = body != null ? body : new byte[0];
+		this.headers = headers != null ? headers : Collections.<String, List<String>>emptyMap();
+	}
+	
+	/**
+	 * Gets the HTTP status code.
+	 * 
+	 * @return The HTTP status code
+	 */
+	public int getCode() {
+		return code;
+	}
+	
+	/**
+	 * Gets whether the HTTP status code is a success (2xx) one.
+	 * 
+	 * @return Whether the HTTP status code is a success
+	 */
+	public boolean isSuccessful() {
+		return code >= 200 && code < 300;
+	}
+	
+	/**
+	 * Gets the raw response body.
+	 * 
+	 * @return The response body
+	 */
+	public byte[] getBody() {
+		return body;
+	}
+	
+	/**
+	 * Gets the response body decoded as an UTF-8 string.
+	 * 
+	 * @return The response body string
+	 */
+	public String getBodyAsString() {
+		return new String(body, UTF8);
+	}
+	
+	/**
+	 * Gets the first value of the given header (case insensitive).
+	 * 
+	 * @param name The header name
+	 * @return The header value or null if the header is not present
+	 */
+	public String getHeader(String name) {
+		for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+			if (entry.getKey() != null && entry.getKey().equalsIgnoreCase(name)) {
+				List<String> values = entry.getValue();
+				return values == null || values.isEmpty() ? null : values.get(0);
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Gets the time to wait before making a new request, as given by the Retry-After header
+	 * (either a number of seconds or an HTTP date).
+	 * 
+	 * @param defaultMillis The value to return if the header is missing or invalid
+	 * @return The time to wait in milliseconds
+	 */
+	public long getRetryAfter(long defaultMillis) {
+		String value = getHeader("Retry-After");
+		if (value == null) return defaultMillis;
+		
+		value = value.trim();
+		try {
+			return Math.max(0, Long.parseLong(value) * 1000);
+		} catch (NumberFormatException e) {
+			try {
+				SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+				return Math.max(0, format.parse(value).getTime() - System.currentTimeMillis());
+			} catch (ParseException pe) {
+				return defaultMillis;
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.net;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import mk.tmdb.exception.TMDbPoolExhaustedException;
+
+/**
+ * Default {@link TMDbTransport} implementation based on {@link HttpURLConnection}.
+ * <p>
+ * The connections are reused through the JVM keep-alive cache: every response (error responses included) 
+ * is fully drained and closed, so the underlying socket goes back to the cache instead of being discarded.
+ * The idle sockets are evicted by the keep-alive cache itself once the server keep-alive timeout expires.
+ * The number of connections opened towards the same host is bounded: when all the permits of a host are 
+ * in use the caller waits for a free one. By default it waits indefinitely, so a burst of requests is 
+ * queued instead of failing; with a {@link #setPoolTimeout(int) pool timeout} the caller fails with a 
+ * {@link TMDbPoolExhaustedException} (which is not a timeout of the server and is not retried) once it 
+ * expires. The connect timeout only bounds the TCP connect.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbPooledTransport implements TMDbTransport {
+
+	/**
+	 * Default connect timeout in milliseconds.
+	 */
+	public static final int DEFAULT_CONNECT_TIMEOUT = 10000; // 10 seconds
+	
+	/**
+	 * Default maximum time in milliseconds a request waits for a free connection (0 means forever).
+	 */
+	public static final int DEFAULT_POOL_TIMEOUT = 0;
+	
+	/**
+	 * Default maximum number of concurrent connections per host. 
+	 * It matches the default parallelism of {@link mk.tmdb.core.TMDbBulkLoader}, so the default loaders 
+	 * never queue for a connection. The JVM keep-alive cache keeps at most http.maxConnections (5 by default) 
+	 * idle connections per host: set the property to this value to keep all of them alive.
+	 */
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 8;
+	
+	/**
+	 * The read buffer size.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+	
+	/**
+	 * The request user agent.
+	 */
+	private static final String USER_AGENT = "Mozilla/5.0 ( compatible ) ";
+	
+	/**
+	 * Connect timeout in milliseconds.
+	 */
+	private volatile int connectTimeout;
+	
+	/**
+	 * Maximum time in milliseconds a request waits for a free connection (0 means forever).
+	 */
+	private volatile int poolTimeout;
+	
+	/**
+	 * Maximum number of concurrent connections per host.
+	 */
+	private final int maxConnectionsPerHost;
+	
+	/**
+	 * The connection permits of each host.
+	 */
+	private final ConcurrentMap<String, Semaphore> permits = new ConcurrentHashMap<String, Semaphore>();
+	
+	/**
+	 * Creates a new transport with the default settings.
+	 */
+	public TMDbPooledTransport() {
+		this(DEFAULT_MAX_CONNECTIONS_PER_HOST, DEFAULT_CONNECT_TIMEOUT);
+	}
+	
+	/**
+	 * Creates a new transport whose requests wait indefinitely for a free connection.
+	 * 
+	 * @param maxConnectionsPerHost The maximum number of concurrent connections per host
+	 * @param connectTimeout The connect timeout in milliseconds
+	 */
+	public TMDbPooledTransport(int maxConnectionsPerHost, int connectTimeout) {
+		this(maxConnectionsPerHost, connectTimeout, DEFAULT_POOL_TIMEOUT);
+	}
+	
+	/**
+	 * Creates a new transport.
+	 * 
+	 * @param maxConnectionsPerHost The maximum number of concurrent connections per host
+	 * @param connectTimeout The connect timeout in milliseconds
+	 * @param poolTimeout The maximum time in milliseconds a request waits for a free connection (0 means forever)
+	 */
+	public TMDbPooledTransport(int maxConnectionsPerHost, int connectTimeout, int poolTimeout) {
+		this.maxConnectionsPerHost = Math.max(1, maxConnectionsPerHost);
+		setConnectTimeout(connectTimeout);
+		setPoolTimeout(poolTimeout);
+	}
+	
+	//region Getters/Setters
+	
+	/**
+	 * Gets the connect timeout.
+	 * 
+	 * @return The connect timeout in milliseconds
+	 */
+	public int getConnectTimeout() {
+		return connectTimeout;
+	}
+	
+	/**
+	 * Sets the connect timeout of the TCP connections.
+	 * 
+	 * @param connectTimeout The connect timeout in milliseconds
+	 */
+	public void setConnectTimeout(int connectTimeout) {
+		if (connectTimeout < 0) connectTimeout = 0;
+		this.connectTimeout = connectTimeout;
+	}
+	
+	/**
+	 * Gets the maximum time a request waits for a free connection.
+	 * 
+	 * @return The pool timeout in milliseconds (0 means forever)
+	 */
+	public int getPoolTimeout() {
+		return poolTimeout;
+	}
+	
+	/**
+	 * Sets the maximum time a request waits for a free connection, then it fails with a 
+	 * {@link TMDbPoolExhaustedException}.
+	 * 
+	 * @param poolTimeout The pool timeout in milliseconds (0 means forever)
+	 */
+	public void setPoolTimeout(int poolTimeout) {
+		if (poolTimeout < 0) poolTimeout = 0;
+		this.poolTimeout = poolTimeout;
+	}
+	
+	/**
+	 * Gets the maximum number of concurrent connections per host.
+	 * 
+	 * @return The maximum number of concurrent connections per host
+	 */
+	public int getMaxConnectionsPerHost() {
+		return maxConnectionsPerHost;
+	}
+	
+	/**
+	 * Gets the number of connections currently in use towards the given host.
+	 * 
+	 * @param host The host name
+	 * @return The number of connections in use
+	 */
+	public int getActiveConnections(String host) {
+		int active = 0;
+		for (String key : permits.keySet()) {
+			if (key.startsWith(host + ":")) active += maxConnectionsPerHost - permits.get(key).availablePermits();
+		}
+		
+		return active;
+	}
+	
+	/**
+	 * Gets the number of connections currently in use towards all the hosts.
+	 * 
+	 * @return The number of connections in use
+	 */
+	public int getActiveConnections() {
+		int active = 0;
+		for (Semaphore hostPermits : permits.values()) {
+			active += maxConnectionsPerHost - hostPermits.availablePermits();
+		}
+		
+		return active;
+	}
+	
+	//endregion
+	
+	@Override
+	public TMDbHttpResponse get(URL url, int readTimeout) throws IOException {
+		return execute(url, "GET", null, readTimeout);
+	}
+	
+	@Override
+	public TMDbHttpResponse post(URL url, String json, int readTimeout) throws IOException {
+		return execute(url, "POST", json.getBytes(TMDbHttpResponse.UTF8), readTimeout);
+	}
+	
+	/**
+	 * Performs the request holding one of the host permits.
+	 * 
+	 * @param url The query URL
+	 * @param method The HTTP method
+	 * @param body The body to send (null for none)
+	 * @param readTimeout The read timeout in milliseconds
+	 * @return The server response
+	 * @throws IOException Throws if the request cannot be performed
+	 */
+	private TMDbHttpResponse execute(URL url, String method, byte[] body, int readTimeout) throws IOException {
+		
+		Semaphore hostPermits = getPermits(url);
+		acquire(hostPermits, url);
+		
+		HttpURLConnection conn = null;
+		try {
+			conn = (HttpURLConnection) url.openConnection();
+			conn.setRequestMethod(method);
+			conn.setConnectTimeout(connectTimeout);
+			conn.setReadTimeout(readTimeout);
+			conn.setUseCaches(false);
+			conn.setRequestProperty("User-Agent", USER_AGENT);
+			conn.setRequestProperty("Accept", "application/json");
+			conn.setRequestProperty("Connection", "keep-alive");
+			
+			if (body != null) {
+				conn.setDoOutput(true);
+				conn.setRequestProperty("Content-Type", "application/json");
+				conn.setFixedLengthStreamingMode(body.length);
+				
+				OutputStream out = conn.getOutputStream();
+				try {
+					out.write(body);
+				} finally {
+					out.close();
+				}
+			}
+			
+			int code = conn.getResponseCode();
+			InputStream in = code >= HttpURLConnection.HTTP_BAD_REQUEST ? conn.getErrorStream() : conn.getInputStream();
+			byte[] data = readFully(in, conn.getContentLength());
+			
+			return new TMDbHttpResponse(code, data, conn.getHeaderFields());
+			
+		} catch (IOException e) {
+			// The connection is in an unknown state, it must not go back to the keep-alive cache.
+			if (conn != null) conn.disconnect();
+			throw e;
+			
+		} finally {
+			hostPermits.release();
+		}
+	}
+	
+	/**
+	 * Gets the permits of the host of the given URL.
+	 * 
+	 * @param url The query URL
+	 * @return The host permits
+	 */
+	private Semaphore getPermits(URL url) {
+		String key = url.getHost() + ":" + (url.getPort() != -1 ? url.getPort() : url.getDefaultPort());
+		
+		Semaphore hostPermits = permits.get(key);
+		if (hostPermits == null) {
+			Semaphore created = new Semaphore(maxConnectionsPerHost, true);
+			hostPermits = permits.putIfAbsent(key, created);
+			if (hostPermits == null) hostPermits = created;
+		}
+		
+		return hostPermits;
+	}
+	
+	/**
+	 * Waits for a free permit, up to the pool timeout.
+	 * 
+	 * @param hostPermits The host permits
+	 * @param url The query URL
+	 * @throws IOException Throws if the thread is interrupted, or a {@link TMDbPoolExhaustedException} if no permit is available in time
+	 */
+	private void acquire(Semaphore hostPermits, URL url) throws IOException {
+		int timeout = poolTimeout;
+		try {
+			if (timeout == 0) {
+				hostPermits.acquire();
+			} else if (!hostPermits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+				throw new TMDbPoolExhaustedException(url.getHost());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for a connection", e);
+		}
+	}
+	
+	/**
+	 * Reads the whole stream and closes it.
+	 * 
+	 * @param in The stream to read (can be null)
+	 * @param length The expected length (-1 if unknown)
+	 * @return The read bytes
+	 * @throws IOException Throws if the stream cannot be read
+	 */
+	private static byte[] readFully(InputStream in, int length) throws IOException {
+		if (in == null) return new byte[0];
+		
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(length > 0 ? length : BUFFER_SIZE);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			for (int n; (n = in.read(buffer)) != -1;) {
+				out.write(buffer, 0, n);
+			}
+			
+			return out.toByteArray();
+			
+		} finally {
+			in.close();
+		}
+	}
+	
+}
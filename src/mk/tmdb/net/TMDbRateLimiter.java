@@ -0,0 +1,275 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.net;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter shared by all the requests made with the same API key.
+ * <p>
+ * Each request takes a token; tokens are refilled at a constant rate up to the bucket capacity, so
+ * short bursts are allowed while the long term rate never exceeds the configured one. When the server 
+ * answers "429 Too Many Requests" the limiter is paused for the time given by the Retry-After header: 
+ * every caller (synchronous or asynchronous) waits in {@link #acquire()} until the pause expires.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbRateLimiter {
+
+	//region Registry
+	
+	/**
+	 * Default number of requests per second.
+	 */
+	public static final double DEFAULT_RATE = 40.0;
+	
+	/**
+	 * Default bucket capacity (maximum burst).
+	 */
+	public static final int DEFAULT_CAPACITY = 40;
+	
+	/**
+	 * Default pause applied on a 429 response without a Retry-After header, in milliseconds.
+	 */
+	public static final long DEFAULT_RETRY_AFTER = 1000;
+	
+	/**
+	 * The limiters of each API key.
+	 */
+	private static final ConcurrentMap<String, TMDbRateLimiter> limiters = new ConcurrentHashMap<String, TMDbRateLimiter>();
+	
+	/**
+	 * Requests per second of the limiters created on demand.
+	 */
+	private static volatile double defaultRate = DEFAULT_RATE;
+	
+	/**
+	 * Capacity of the limiters created on demand.
+	 */
+	private static volatile int defaultCapacity = DEFAULT_CAPACITY;
+	
+	/**
+	 * Gets the limiter of the given API key, creating it with the default settings if needed.
+	 * 
+	 * @param apiKey The API key
+	 * @return The API key limiter
+	 */
+	public static TMDbRateLimiter forApiKey(String apiKey) {
+		if (apiKey == null) apiKey = "";
+		
+		TMDbRateLimiter limiter = limiters.get(apiKey);
+		if (limiter == null) {
+			TMDbRateLimiter created = new TMDbRateLimiter(defaultRate, defaultCapacity);
+			limiter = limiters.putIfAbsent(apiKey, created);
+			if (limiter == null) limiter = created;
+		}
+		
+		return limiter;
+	}
+	
+	/**
+	 * Sets the limiter of the given API key. Passing null restores the default limiter.
+	 * 
+	 * @param apiKey The API key
+	 * @param limiter The new limiter
+	 */
+	public static void setLimiter(String apiKey, TMDbRateLimiter limiter) {
+		if (apiKey == null) apiKey = "";
+		
+		if (limiter == null) limiters.remove(apiKey);
+		else limiters.put(apiKey, limiter);
+	}
+	
+	/**
+	 * Sets the settings used for the limiters created on demand (it does not change the existing ones).
+	 * 
+	 * @param rate The number of requests per second
+	 * @param capacity The bucket capacity (maximum burst)
+	 */
+	public static void setDefaults(double rate, int capacity) {
+		if (rate <= 0) throw new IllegalArgumentException("The rate must be positive");
+		
+		defaultRate = rate;
+		defaultCapacity = Math.max(1, capacity);
+	}
+	
+	//endregion
+	
+	/**
+	 * Tokens added per nanosecond.
+	 */
+	private final double tokensPerNano;
+	
+	/**
+	 * The bucket capacity.
+	 */
+	private final int capacity;
+	
+	/**
+	 * The available tokens.
+	 */
+	private double tokens;
+	
+	/**
+	 * Last time (nanoseconds) the tokens were refilled.
+	 */
+	private long lastRefill;
+	
+	/**
+	 * Time (nanoseconds) until the limiter is paused.
+	 */
+	private long pausedUntil;
+	
+	/**
+	 * Maximum number of times a request rejected with 429 is sent again.
+	 */
+	private volatile int maxThrottledRetries = 3;
+	
+	/**
+	 * Creates a new limiter with a full bucket.
+	 * 
+	 * @param rate The number of requests per second
+	 * @param capacity The bucket capacity (maximum burst)
+	 */
+	public TMDbRateLimiter(double rate, int capacity) {
+		if (rate <= 0) throw new IllegalArgumentException("The rate must be positive");
+		
+		this.tokensPerNano = rate / TimeUnit.SECONDS.toNanos(1);
+		this.capacity = Math.max(1, capacity);
+		this.tokens = this.capacity;
+		this.lastRefill = System.nanoTime();
+		this.pausedUntil = lastRefill;
+	}
+	
+	//region Getters/Setters
+	
+	/**
+	 * Gets the number of requests per second.
+	 * 
+	 * @return The number of requests per second
+	 */
+	public double getRate() {
+		return tokensPerNano * TimeUnit.SECONDS.toNanos(1);
+	}
+	
+	/**
+	 * Gets the bucket capacity.
+	 * 
+	 * @return The bucket capacity
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * Gets the maximum number of times a request rejected with 429 is sent again.
+	 * 
+	 * @return The maximum number of retries
+	 */
+	public int getMaxThrottledRetries() {
+		return maxThrottledRetries;
+	}
+	
+	/**
+	 * Sets the maximum number of times a request rejected with 429 is sent again (0 to never retry).
+	 * 
+	 * @param retries The maximum number of retries
+	 */
+	public void setMaxThrottledRetries(int retries) {
+		if (retries < 0) retries = 0;
+		maxThrottledRetries = retries;
+	}
+	
+	//endregion
+	
+	/**
+	 * Takes a token, waiting until one is available and the limiter is not paused.
+	 * 
+	 * @throws InterruptedException Throws if the thread is interrupted while waiting
+	 */
+	public void acquire() throws InterruptedException {
+		for (;;) {
+			long wait;
+			
+			synchronized (this) {
+				long now = System.nanoTime();
+				refill(now);
+				
+				if (now - pausedUntil < 0) {
+					wait = pausedUntil - now;
+				} else if (tokens >= 1) {
+					tokens -= 1;
+					return;
+				} else {
+					wait = (long) Math.ceil((1 - tokens) / tokensPerNano);
+				}
+			}
+			
+			TimeUnit.NANOSECONDS.sleep(wait);
+		}
+	}
+	
+	/**
+	 * Takes a token if it is immediately available.
+	 * 
+	 * @return Whether the token has been taken
+	 */
+	public synchronized boolean tryAcquire() {
+		long now = System.nanoTime();
+		refill(now);
+		
+		if (now - pausedUntil >= 0 && tokens >= 1) {
+			tokens -= 1;
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Pauses the limiter: no token is given for the given time. 
+	 * The bucket is emptied so the requests restart slowly after the pause.
+	 * 
+	 * @param millis The pause length in milliseconds
+	 */
+	public synchronized void pause(long millis) {
+		long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+		if (until - pausedUntil > 0) pausedUntil = until;
+		tokens = 0;
+		lastRefill = pausedUntil;
+	}
+	
+	/**
+	 * Refills the bucket according to the elapsed time.
+	 * 
+	 * @param now The current time in nanoseconds
+	 */
+	private void refill(long now) {
+		if (now - lastRefill > 0) {
+			tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+			lastRefill = now;
+		}
+	}
+	
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.net;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import mk.tmdb.response.TMDbStatus;
+
+/**
+ * Immutable retry policy applied by {@link mk.tmdb.core.TMDbAPI TMDbAPI} to the requests that fail 
+ * with a transient status.
+ * <p>
+ * The delay before the attempt n+1 is <code>min(maxBackoff, initialBackoff * 2^(n-1))</code> with a random 
+ * jitter that takes away up to half of it, so that clients failing together do not retry together. 
+ * No attempt is made once the total deadline (measured from the first attempt) would be exceeded.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbRetryPolicy {
+
+	/**
+	 * Policy that never retries.
+	 */
+	public static final TMDbRetryPolicy NONE = new TMDbRetryPolicy(1, 0, 0, 0);
+	
+	/**
+	 * Default policy: 3 attempts, backoff from 500 milliseconds up to 5 seconds, 30 seconds deadline, 
+	 * retries on timeout, service offline, internal error and unknown (I/O) error.
+	 */
+	public static final TMDbRetryPolicy DEFAULT = new TMDbRetryPolicy(3, 500, 5000, 30000, 
+																	  TMDbStatus.TIMEOUT, 
+																	  TMDbStatus.SERVICE_OFFLINE, 
+																	  TMDbStatus.INTERNAL_ERROR, 
+																	  TMDbStatus.UNKNOWN_ERROR);
+	
+	/**
+	 * Maximum number of attempts (first one included).
+	 */
+	private final int maxAttempts;
+	
+	/**
+	 * Delay before the first retry in milliseconds.
+	 */
+	private final long initialBackoff;
+	
+	/**
+	 * Maximum delay between two attempts in milliseconds.
+	 */
+	private final long maxBackoff;
+	
+	/**
+	 * Total time budget in milliseconds (0 for no deadline).
+	 */
+	private final long deadline;
+	
+	/**
+	 * The statuses that can be retried.
+	 */
+	private final Set<TMDbStatus> retryable;
+	
+	/**
+	 * Creates a new retry policy.
+	 * 
+	 * @param maxAttempts The maximum number of attempts (first one included)
+	 * @param initialBackoff The delay before the first retry in milliseconds
+	 * @param maxBackoff The maximum delay between two attempts in milliseconds
+	 * @param deadline The total time budget in milliseconds (0 for no deadline)
+	 * @param retryable The statuses that can be retried
+	 */
+	public TMDbRetryPolicy(int maxAttempts, long initialBackoff, long maxBackoff, long deadline, TMDbStatus... retryable) {
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.initialBackoff = Math.max(0, initialBackoff);
+		this.maxBackoff = Math.max(this.initialBackoff, maxBackoff);
+		this.deadline = Math.max(0, deadline);
+		
+		EnumSet<TMDbStatus> statuses = EnumSet.noneOf(TMDbStatus.class);
+		Collections.addAll(statuses, retryable);
+		this.retryable = Collections.unmodifiableSet(statuses);
+	}
+	
+	//region Getters
+	
+	/**
+	 * Gets the maximum number of attempts (first one included).
+	 * 
+	 * @return The maximum number of attempts
+	 */
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+	
+	/**
+	 * Gets the delay before the first retry.
+	 * 
+	 * @return The delay in milliseconds
+	 */
+	public long getInitialBackoff() {
+		return initialBackoff;
+	}
+	
+	/**
+	 * Gets the maximum delay between two attempts.
+	 * 
+	 * @return The delay in milliseconds
+	 */
+	public long getMaxBackoff() {
+		return maxBackoff;
+	}
+	
+	/**
+	 * Gets the total time budget.
+	 * 
+	 * @return The time budget in milliseconds (0 for no deadline)
+	 */
+	public long getDeadline() {
+		return deadline;
+	}
+	
+	/**
+	 * Gets the statuses that can be retried.
+	 * 
+	 * @return The retryable statuses
+	 */
+	public Set<TMDbStatus> getRetryableStatuses() {
+		return retryable;
+	}
+	
+	//endregion
+	
+	/**
+	 * Gets whether the given status can be retried.
+	 * 
+	 * @param status The response status
+	 * @return Whether the status can be retried
+	 */
+	public boolean isRetryable(TMDbStatus status) {
+		return retryable.contains(status);
+	}
+	
+	/**
+	 * Gets the delay to wait before a new attempt, or -1 if no new attempt has to be made.
+	 * 
+	 * @param status The status of the failed attempt
+	 * @param attempt The number of the failed attempt (starting from 1)
+	 * @param elapsed The time elapsed since the first attempt in milliseconds
+	 * @return The delay in milliseconds or -1
+	 */
+	public long getRetryDelay(TMDbStatus status, int attempt, long elapsed) {
+		if (attempt >= maxAttempts || !isRetryable(status)) return -1;
+		
+		long delay = initialBackoff << Math.min(attempt - 1, 30);
+		if (delay > maxBackoff || delay < 0) delay = maxBackoff;
+		if (delay > 1) delay -= ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+		
+		if (deadline > 0 && elapsed + delay >= deadline) return -1;
+		
+		return delay;
+	}
+	
+}
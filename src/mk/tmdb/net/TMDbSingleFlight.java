@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.net;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent identical calls: while a call for a key is in flight, the other 
+ * callers with the same key wait for it and receive its result instead of making their own call.
+ * 
+ * @author Mirko Polato
+ *
+ * @param <V> The type of the results
+ */
+public class TMDbSingleFlight<V> {
+
+	/**
+	 * The calls in flight, by key.
+	 */
+	private final ConcurrentMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<String, CompletableFuture<V>>();
+	
+	/**
+	 * Number of calls actually performed.
+	 */
+	private final AtomicLong executed = new AtomicLong();
+	
+	/**
+	 * Number of calls served by a call already in flight.
+	 */
+	private final AtomicLong coalesced = new AtomicLong();
+	
+	/**
+	 * Performs the call of the given key, or waits for the identical call already in flight.
+	 * 
+	 * @param key The call key
+	 * @param call The call to perform
+	 * @return The result of the call
+	 */
+	public V execute(String key, Supplier<V> call) {
+		CompletableFuture<V> flight = new CompletableFuture<V>();
+		CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+		
+		if (leader != null) {
+			coalesced.incrementAndGet();
+			try {
+				return leader.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+				throw e;
+			}
+		}
+		
+		executed.incrementAndGet();
+		try {
+			V result = call.get();
+			flight.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+	
+	/**
+	 * Gets the number of calls actually performed.
+	 * 
+	 * @return The number of executed calls
+	 */
+	public long getExecutedCount() {
+		return executed.get();
+	}
+	
+	/**
+	 * Gets the number of calls served by an identical call already in flight.
+	 * 
+	 * @return The number of coalesced calls
+	 */
+	public long getCoalescedCount() {
+		return coalesced.get();
+	}
+	
+	/**
+	 * Gets the number of calls currently in flight.
+	 * 
+	 * @return The number of calls in flight
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+	
+}
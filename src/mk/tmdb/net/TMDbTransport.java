@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.net;
+
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Service provider interface used by {@link mk.tmdb.core.TMDbAPI TMDbAPI} to perform the HTTP requests.
+ * The default implementation is {@link TMDbPooledTransport}; a different one can be plugged in through
+ * {@link mk.tmdb.core.TMDbAPI#setTransport(TMDbTransport) TMDbAPI.setTransport}.
+ * <p>
+ * Implementations must be thread safe and must always return the response of the server, 
+ * also when the status code is an error one, since TMDb reports its own status in the body.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public interface TMDbTransport {
+
+	/**
+	 * Makes an HTTP request (GET).
+	 * 
+	 * @param url The query URL
+	 * @param readTimeout The read timeout in milliseconds
+	 * @return The server response
+	 * @throws IOException Throws if the request cannot be performed
+	 */
+	public TMDbHttpResponse get(URL url, int readTimeout) throws IOException;
+	
+	/**
+	 * Makes an HTTP request (POST) sending the given JSON body.
+	 * 
+	 * @param url The query URL
+	 * @param json The JSON body to post
+	 * @param readTimeout The read timeout in milliseconds
+	 * @return The server response
+	 * @throws IOException Throws if the request cannot be performed
+	 */
+	public TMDbHttpResponse post(URL url, String json, int readTimeout) throws IOException;
+	
+}
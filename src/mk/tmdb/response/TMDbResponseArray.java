@@ -20,8 +20,8 @@
 
 package mk.tmdb.response;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import mk.tmdb.core.TMDbConstants;
@@ -47,9 +47,10 @@ public class TMDbResponseArray extends TMDbResponse {
 	private int page = 0;
 	
 	/**
-	 * The JSON objects list contained in the response.
+	 * The JSON objects list contained in the response, presized to the results of the first page. 
+	 * It is synchronized, as the pages can be merged into it by several threads.
 	 */
-	private List<JSONObject> data = Collections.synchronizedList(new LinkedList<JSONObject>());
+	private List<JSONObject> data = Collections.synchronizedList(new ArrayList<JSONObject>());
 	
 	/**
 	 * The total number of the retrieved results.
@@ -98,9 +99,12 @@ public class TMDbResponseArray extends TMDbResponse {
 	 * @param array The list of JSON object
 	 */
 	private void setData(JSONArray array) {
+		List<JSONObject> list = new ArrayList<JSONObject>(array.size());
 		for(Object obj : array) {
-			data.add((JSONObject) obj);
+			list.add((JSONObject) obj);
 		}
+		
+		data = Collections.synchronizedList(list);
 	}
 	
 	/**
@@ -133,6 +133,16 @@ public enum TMDbStatus {
 	 */
 	INVALID_DATE_RANGE(20, "Invalid date range. Should be a range no longer than 14 days."),
 	
+	/**
+	 * Code 25: Request limit exceeded - Your request count is over the allowed limit.
+	 */
+	REQUEST_LIMIT_EXCEEDED(25, "Request limit exceeded - Your request count is over the allowed limit."),
+	
+	/**
+	 * Code 97: No connection available - Too many concurrent requests to the same host.
+	 */
+	POOL_EXHAUSTED(97, "No connection available - Too many concurrent requests to the same host."),
+	
 	/**
 	 * Code 98: Malformed URL.
 	 */
@@ -0,0 +1,530 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.sync;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import mk.tmdb.cache.TMDbDiskCache;
+import mk.tmdb.cache.TMDbResponseCache;
+import mk.tmdb.core.TMDbAPI;
+import mk.tmdb.core.TMDbBulkLoader;
+import mk.tmdb.core.TMDbConstants;
+import mk.tmdb.core.TMDbURLCreator;
+import mk.tmdb.entity.TMDbEntity;
+import mk.tmdb.entity.movie.TMDbMovieThumbnail;
+import mk.tmdb.entity.person.TMDbPersonThumbnail;
+import mk.tmdb.exception.TMDbResponseException;
+import mk.tmdb.response.TMDbResponseArray;
+import mk.tmdb.response.TMDbStatus;
+import mk.tmdb.utils.Log;
+import mk.tmdb.utils.TMDbExecutors;
+import net.sf.json.JSONObject;
+
+/**
+ * Incremental synchronization engine based on the TMDb change lists.
+ * <p>
+ * Each sync gets the IDs of the movies and people changed since the checkpoint, invalidates their 
+ * responses in the caches of {@link TMDbAPI}, optionally loads them again (see {@link #setRefetch(boolean)}) 
+ * and publishes them to the listeners; then it persists the new checkpoint. If an entity cannot be 
+ * loaded again, the failure is published and the checkpoint is not moved, so the window is synced 
+ * again by the next sync. An ID is synced once per sync even if it changed several times. 
+ * <p>
+ * The change lists have the granularity of a day, so consecutive windows overlap on the day of the 
+ * checkpoint. The IDs already applied for that day are persisted with the checkpoint (at most 
+ * {@link #MAX_APPLIED_IDS} per type) and are not synced again when the day is listed again; the IDs 
+ * listed for the following days are always synced. As the change lists carry no time, an ID that 
+ * changes again on the same day after being applied is synced only once the day is over, by the 
+ * sync that lists the next day it changes. 
+ * <p>
+ * The syncs can be run on demand ({@link #sync()}) or periodically ({@link #start(long)}).
+ * 
+ * @author Mirko Polato
+ *
+ */
+public class TMDbChangeSync {
+
+	/**
+	 * The synchronized entity types.
+	 */
+	public enum Type {
+		MOVIE(TMDbConstants.MOVIE),
+		PERSON(TMDbConstants.PERSON);
+		
+		private final String resource;
+		
+		private Type(String resource) {
+			this.resource = resource;
+		}
+		
+		/**
+		 * Gets the API resource of the type.
+		 * 
+		 * @return The resource name
+		 */
+		public String getResource() {
+			return resource;
+		}
+	}
+	
+	/**
+	 * Receives the changed entities.
+	 */
+	public interface Listener {
+		
+		/**
+		 * Called for each changed entity, once its cached responses have been invalidated.
+		 * 
+		 * @param type The entity type
+		 * @param id The entity ID
+		 * @param entity The entity loaded again, or null if refetching is disabled or the loading failed
+		 * @param status NONE, or the failure status if the entity could not be loaded again
+		 */
+		public void onChanged(Type type, int id, TMDbEntity entity, TMDbStatus status);
+		
+	}
+	
+	/**
+	 * Default time covered by the first sync, when there is no checkpoint (1 day).
+	 */
+	public static final long DEFAULT_INITIAL_WINDOW = 24 * 60 * 60 * 1000L;
+	
+	/**
+	 * Maximum number of IDs already applied for the checkpoint day that are remembered per type. 
+	 * The IDs beyond it are synced again when their day is listed again.
+	 */
+	public static final int MAX_APPLIED_IDS = 50000;
+	
+	/**
+	 * Suffix of the checkpoint property that holds the IDs applied for the checkpoint day.
+	 */
+	private static final String APPLIED_SUFFIX = ".applied";
+	
+	/**
+	 * The checkpoint file.
+	 */
+	private final File checkpointFile;
+	
+	/**
+	 * The end of the last synced window of each type.
+	 */
+	private final Properties checkpoint = new Properties();
+	
+	/**
+	 * The locks that serialize the syncs of each type.
+	 */
+	private final Map<Type, Object> locks = new EnumMap<Type, Object>(Type.class);
+	
+	/**
+	 * The listeners.
+	 */
+	private final List<Listener> listeners = new CopyOnWriteArrayList<Listener>();
+	
+	/**
+	 * The sync scheduler.
+	 */
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(TMDbExecutors.daemonThreadFactory("tmdb-sync"));
+	
+	private ScheduledFuture<?> schedule = null;
+	private volatile boolean refetch = true;
+	private volatile long initialWindow = DEFAULT_INITIAL_WINDOW;
+	
+	/**
+	 * Creates a new sync engine that persists its checkpoint in the given file.
+	 * 
+	 * @param checkpointFile The checkpoint file (read if it exists)
+	 * @throws IOException If the checkpoint file exists but cannot be read
+	 */
+	public TMDbChangeSync(File checkpointFile) throws IOException {
+		this.checkpointFile = checkpointFile;
+		
+		if (checkpointFile.isFile()) {
+			InputStream in = new FileInputStream(checkpointFile);
+			try {
+				checkpoint.load(in);
+			} finally {
+				in.close();
+			}
+		}
+		
+		for (Type type : Type.values()) {
+			locks.put(type, new Object());
+		}
+	}
+	
+	//region Settings
+	
+	/**
+	 * Adds a listener of the changed entities.
+	 * 
+	 * @param listener The listener
+	 */
+	public void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+	
+	/**
+	 * Removes a listener of the changed entities.
+	 * 
+	 * @param listener The listener
+	 */
+	public void removeListener(Listener listener) {
+		listeners.remove(listener);
+	}
+	
+	/**
+	 * Sets whether the changed entities are loaded again (true by default) or only invalidated in the caches.
+	 * 
+	 * @param enabled Whether the changed entities are loaded again
+	 */
+	public void setRefetch(boolean enabled) {
+		refetch = enabled;
+	}
+	
+	/**
+	 * Sets the time covered by the first sync of a type, when there is no checkpoint.
+	 * 
+	 * @param millis The initial window in milliseconds
+	 */
+	public void setInitialWindow(long millis) {
+		initialWindow = Math.max(0, millis);
+	}
+	
+	/**
+	 * Gets the end of the last synced window of the given type.
+	 * 
+	 * @param type The entity type
+	 * @return The checkpoint or null if the type has never been synced
+	 */
+	public synchronized Date getCheckpoint(Type type) {
+		String value = checkpoint.getProperty(type.name());
+		return value != null ? new Date(Long.parseLong(value)) : null;
+	}
+	
+	//endregion
+	
+	//region Scheduling
+	
+	/**
+	 * Starts syncing periodically. The first sync starts immediately.
+	 * 
+	 * @param periodMillis The time between the end of a sync and the start of the next one
+	 */
+	public synchronized void start(long periodMillis) {
+		if (schedule != null) schedule.cancel(false);
+		
+		schedule = scheduler.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					sync();
+				} catch (RuntimeException e) {
+					Log.print(e);
+				}
+			}
+		}, 0, periodMillis, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Stops syncing periodically. A sync in progress is completed.
+	 */
+	public synchronized void stop() {
+		if (schedule != null) schedule.cancel(false);
+		schedule = null;
+	}
+	
+	//endregion
+	
+	//region Sync
+	
+	/**
+	 * Syncs all the entity types.
+	 * 
+	 * @return The number of synced entities
+	 */
+	public int sync() {
+		int count = 0;
+		for (Type type : Type.values()) {
+			try {
+				count += sync(type);
+			} catch (TMDbResponseException e) {
+				Log.print(e);
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Syncs the entities of the given type changed since its checkpoint, and moves the checkpoint 
+	 * forward once all of them have been published, if none of them failed to load. The syncs of 
+	 * the same type (e.g. a periodic one and an on demand one) are performed one at a time.
+	 * 
+	 * @param type The entity type
+	 * @return The number of synced entities
+	 * @throws TMDbResponseException Throws whether the change list cannot be retrieved (the checkpoint is not moved)
+	 */
+	public int sync(final Type type) throws TMDbResponseException {
+		synchronized (locks.get(type)) {
+			return syncWindow(type);
+		}
+	}
+	
+	/**
+	 * Syncs the entities of the given type changed since its checkpoint, holding the lock of the type.
+	 * 
+	 * @param type The entity type
+	 * @return The number of synced entities
+	 * @throws TMDbResponseException Throws whether the change list cannot be retrieved (the checkpoint is not moved)
+	 */
+	private int syncWindow(final Type type) throws TMDbResponseException {
+		
+		Date end = new Date();
+		Date checkpointTime = getCheckpoint(type);
+		Date start = checkpointTime != null ? checkpointTime : new Date(end.getTime() - initialWindow);
+		
+		ZoneId zone = ZoneId.systemDefault();
+		LocalDate startDay = start.toInstant().atZone(zone).toLocalDate();
+		boolean sameDay = !end.toInstant().atZone(zone).toLocalDate().isAfter(startDay);
+		
+		// The checkpoint day has already been partially synced: its applied IDs are skipped.
+		Set<Integer> applied = getApplied(type);
+		Set<Integer> overlap = getChangedIDs(type, start, sameDay ? end : start);
+		overlap.removeAll(applied);
+		
+		Set<Integer> later = sameDay ? new LinkedHashSet<Integer>() 
+									 : getChangedIDs(type, Date.from(startDay.plusDays(1).atStartOfDay(zone).toInstant()), end);
+		
+		Set<Integer> changed = new LinkedHashSet<Integer>(overlap);
+		changed.addAll(later);
+		
+		for (int id : changed) {
+			invalidate(type, id);
+		}
+		
+		Set<Integer> done = new HashSet<Integer>();
+		if (refetch) {
+			Iterator<TMDbBulkLoader.Result<TMDbEntity>> results = TMDbBulkLoader.stream(changed.stream().mapToInt(Integer::intValue), id -> load(type, id)).iterator();
+			while (results.hasNext()) {
+				TMDbBulkLoader.Result<TMDbEntity> result = results.next();
+				if (result.isSuccess()) done.add(result.getId());
+				publish(type, result.getId(), result.getEntity(), result.getStatus());
+			}
+		} else {
+			for (int id : changed) {
+				publish(type, id, null, TMDbStatus.NONE);
+			}
+			done.addAll(changed);
+		}
+		
+		if (done.size() == changed.size()) {
+			// The new checkpoint day is the last listed one: its applied IDs are the ones listed after the old checkpoint day.
+			if (sameDay) addApplied(applied, changed);
+			else applied = addApplied(new LinkedHashSet<Integer>(), later);
+			
+			saveCheckpoint(type, end, applied);
+			
+		} else if (checkpointTime != null) {
+			// The checkpoint is not moved, but the IDs of its day that have been applied are remembered.
+			overlap.retainAll(done);
+			saveCheckpoint(type, checkpointTime, addApplied(applied, overlap));
+		}
+		
+		return changed.size();
+	}
+	
+	/**
+	 * Gets the IDs already applied for the day of the checkpoint of the given type.
+	 * 
+	 * @param type The entity type
+	 * @return The applied IDs
+	 */
+	private synchronized Set<Integer> getApplied(Type type) {
+		Set<Integer> applied = new LinkedHashSet<Integer>();
+		
+		String value = checkpoint.getProperty(type.name() + APPLIED_SUFFIX);
+		if (value != null && !value.isEmpty()) {
+			for (String id : value.split(",")) {
+				applied.add(Integer.parseInt(id));
+			}
+		}
+		
+		return applied;
+	}
+	
+	/**
+	 * Adds the given IDs to the applied ones, up to {@link #MAX_APPLIED_IDS}.
+	 * 
+	 * @param applied The applied IDs
+	 * @param ids The IDs to add
+	 * @return The applied IDs
+	 */
+	private static Set<Integer> addApplied(Set<Integer> applied, Set<Integer> ids) {
+		for (int id : ids) {
+			if (applied.size() >= MAX_APPLIED_IDS) break;
+			applied.add(id);
+		}
+		
+		return applied;
+	}
+	
+	/**
+	 * Gets the deduplicated IDs changed in the given window.
+	 * 
+	 * @param type The entity type
+	 * @param start The window start
+	 * @param end The window end
+	 * @return The changed IDs
+	 * @throws TMDbResponseException Throws whether the server response is not a success.
+	 */
+	private static Set<Integer> getChangedIDs(Type type, Date start, Date end) throws TMDbResponseException {
+		TMDbResponseArray response = type == Type.MOVIE ? TMDbAPI.getAllChangedMovies(start, end) 
+														: TMDbAPI.getAllChangedPersons(start, end);
+		
+		if (response.hasError()) throw new TMDbResponseException(response.getStatus());
+		
+		Set<Integer> ids = new LinkedHashSet<Integer>();
+		for (JSONObject json : response.getData()) {
+			ids.add(json.getInt(TMDbConstants.ID));
+		}
+		
+		return ids;
+	}
+	
+	/**
+	 * Removes the cached responses of an entity from the caches of {@link TMDbAPI}.
+	 * 
+	 * @param type The entity type
+	 * @param id The entity ID
+	 */
+	private static void invalidate(Type type, int id) {
+		TMDbResponseCache cache = TMDbAPI.getCache();
+		TMDbDiskCache diskCache = TMDbAPI.getDiskCache();
+		if (cache == null && diskCache == null) return;
+		
+		try {
+			String key = TMDbURLCreator.getResourceKey(type.getResource(), id);
+			if (cache != null) cache.invalidateResource(key);
+			if (diskCache != null) diskCache.invalidateResource(key);
+		} catch (MalformedURLException e) {
+			Log.print(e);
+		}
+	}
+	
+	/**
+	 * Loads an entity again.
+	 * 
+	 * @param type The entity type
+	 * @param id The entity ID
+	 * @return The entity
+	 * @throws TMDbResponseException Throws whether the server response is not a success.
+	 */
+	private static TMDbEntity load(Type type, int id) throws TMDbResponseException {
+		return type == Type.MOVIE ? TMDbMovieThumbnail.getInformation(id) : TMDbPersonThumbnail.getInformation(id);
+	}
+	
+	/**
+	 * Publishes a changed entity to the listeners.
+	 * 
+	 * @param type The entity type
+	 * @param id The entity ID
+	 * @param entity The entity or null
+	 * @param status The loading status
+	 */
+	private void publish(Type type, int id, TMDbEntity entity, TMDbStatus status) {
+		for (Listener listener : listeners) {
+			try {
+				listener.onChanged(type, id, entity, status);
+			} catch (RuntimeException e) {
+				Log.print(e);
+			}
+		}
+	}
+	
+	/**
+	 * Moves the checkpoint of a type forward and persists it. The file is replaced atomically, 
+	 * so a crash never leaves a partial checkpoint, and the temporary file is deleted if the writing 
+	 * fails. A checkpoint is never moved backwards.
+	 * 
+	 * @param type The entity type
+	 * @param end The end of the synced window
+	 * @param applied The IDs applied for the day of the window end
+	 */
+	private synchronized void saveCheckpoint(Type type, Date end, Set<Integer> applied) {
+		Date current = getCheckpoint(type);
+		if (current != null && current.after(end)) return;
+		
+		StringBuilder ids = new StringBuilder();
+		for (int id : applied) {
+			if (ids.length() > 0) ids.append(',');
+			ids.append(id);
+		}
+		
+		checkpoint.setProperty(type.name(), Long.toString(end.getTime()));
+		checkpoint.setProperty(type.name() + APPLIED_SUFFIX, ids.toString());
+		
+		File temp = null;
+		try {
+			File parent = checkpointFile.getAbsoluteFile().getParentFile();
+			temp = File.createTempFile(checkpointFile.getName(), ".tmp", parent);
+			
+			OutputStream out = new FileOutputStream(temp);
+			try {
+				checkpoint.store(out, "TMDb change sync checkpoint");
+			} finally {
+				out.close();
+			}
+			
+			Files.move(temp.toPath(), checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			
+		} catch (IOException e) {
+			Log.print(e);
+		} finally {
+			if (temp != null && temp.exists() && !temp.delete()) temp.deleteOnExit();
+		}
+	}
+	
+	//endregion
+	
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Static class that creates the executors used by the library for its background work.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public final class TMDbExecutors {
+
+	private TMDbExecutors() {}
+	
+	/**
+	 * Creates an executor suitable for blocking network calls: a virtual thread per task executor 
+	 * if the JVM supports it (Java 21 or later), a cached pool of daemon threads otherwise.
+	 * 
+	 * @param name The prefix of the threads name (used only by the fallback pool)
+	 * @return The new executor
+	 */
+	public static ExecutorService newBlockingExecutor(String name) {
+		try {
+			
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+			
+		} catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool(daemonThreadFactory(name));
+		}
+	}
+	
+	/**
+	 * Creates a thread factory that makes daemon threads named "name-N".
+	 * 
+	 * @param name The prefix of the threads name
+	 * @return The thread factory
+	 */
+	public static ThreadFactory daemonThreadFactory(final String name) {
+		final AtomicInteger count = new AtomicInteger();
+		
+		return new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable task) {
+				Thread thread = new Thread(task, name + "-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		};
+	}
+	
+}
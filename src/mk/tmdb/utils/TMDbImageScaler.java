@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Static class that derives the smaller sizes of an image locally, so that a single download 
+ * serves several {@link TMDbSize sizes}.
+ * <p>
+ * The image is halved with bilinear interpolation until it reaches the target size; the steps 
+ * keep the quality close to a bicubic resampling at a fraction of its cost. As TMDb does, an 
+ * image is never enlarged: if it is not larger than the target size it is copied as it is.
+ * 
+ * @author Mirko Polato
+ *
+ */
+public final class TMDbImageScaler {
+
+	private TMDbImageScaler() {}
+	
+	/**
+	 * Derives the given size of the source image and writes it to the target file, in the same 
+	 * format of the source.
+	 * 
+	 * @param source The source image file
+	 * @param target The target image file
+	 * @param size The target size
+	 * @throws IOException Throws if the source cannot be read or the target cannot be written
+	 */
+	public static void resize(File source, File target, TMDbSize size) throws IOException {
+		
+		String format;
+		BufferedImage image;
+		
+		ImageInputStream in = ImageIO.createImageInputStream(source);
+		if (in == null) throw new IOException("Cannot read the image " + source);
+		try {
+			
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+			if (!readers.hasNext()) throw new IOException("Unsupported image format: " + source);
+			
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(in, true, true);
+				format = reader.getFormatName();
+				image = reader.read(0);
+			} finally {
+				reader.dispose();
+			}
+			
+		} finally {
+			in.close();
+		}
+		
+		int width = image.getWidth();
+		int height = image.getHeight();
+		
+		if (size.getWidth() > 0 && size.getWidth() < width) {
+			height = Math.max(1, (int) Math.round((double) height * size.getWidth() / width));
+			width = size.getWidth();
+		} else if (size.getHeight() > 0 && size.getHeight() < height) {
+			width = Math.max(1, (int) Math.round((double) width * size.getHeight() / height));
+			height = size.getHeight();
+		} else {
+			Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			return;
+		}
+		
+		if (!ImageIO.write(scale(image, width, height), format, target)) {
+			throw new IOException("Cannot write the image format " + format);
+		}
+	}
+	
+	/**
+	 * Scales the given image down to the given size, halving it at each step.
+	 * 
+	 * @param image The image
+	 * @param width The target width, not larger than the image width
+	 * @param height The target height, not larger than the image height
+	 * @return The scaled image
+	 */
+	public static BufferedImage scale(BufferedImage image, int width, int height) {
+		
+		int type = image.getTransparency() == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+		int w = image.getWidth();
+		int h = image.getHeight();
+		BufferedImage current = image;
+		
+		do {
+			w = Math.max(w / 2, width);
+			h = Math.max(h / 2, height);
+			
+			BufferedImage next = new BufferedImage(w, h, type);
+			Graphics2D g = next.createGraphics();
+			try {
+				g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				g.drawImage(current, 0, 0, w, h, null);
+			} finally {
+				g.dispose();
+			}
+			current = next;
+			
+		} while (w != width || h != height);
+		
+		return current;
+	}
+	
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (C) 2012-2013  Mirko Polato
+ * 
+ * This file is part of MKtmdb.
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ ******************************************************************************/
+
+package mk.tmdb.utils;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import net.sf.json.JSONArray;
+
+/**
+ * Compact immutable list backed by an array of the exact size, used by the entities for their 
+ * parsed collections. Being immutable after it has been built, it is safe to share between 
+ * threads without locking; all the empty lists are the same shared instance.
+ * 
+ * @author Mirko Polato
+ *
+ * @param <E> The type of the elements
+ */
+public final class TMDbImmutableList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * The shared empty list.
+	 */
+	private static final TMDbImmutableList<Object> EMPTY = new TMDbImmutableList<Object>(new Object[0]);
+	
+	/**
+	 * The elements.
+	 */
+	private final Object[] elements;
+	
+	private TMDbImmutableList(Object[] elements) {
+		this.elements = elements;
+	}
+	
+	//region Factories
+	
+	/**
+	 * Returns the shared empty list.
+	 * 
+	 * @param <E> The type of the elements
+	 * @return The empty list
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> List<E> empty() {
+		return (List<E>) EMPTY;
+	}
+	
+	/**
+	 * Returns an immutable copy of the given collection (the collection itself if it is already immutable).
+	 * 
+	 * @param collection The collection to copy (null means empty)
+	 * @param <E> The type of the elements
+	 * @return The immutable list
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> List<E> copyOf(Collection<? extends E> collection) {
+		if (collection instanceof TMDbImmutableList) return (List<E>) collection;
+		if (collection == null || collection.isEmpty()) return empty();
+		
+		return new TMDbImmutableList<E>(collection.toArray());
+	}
+	
+	/**
+	 * Converts the elements of a JSON array into an immutable list of the same size.
+	 * 
+	 * @param array The JSON array (null means empty)
+	 * @param mapper The conversion of a single element, e.g. <code>obj -> new TMDbGenre((JSONObject) obj)</code>
+	 * @param <E> The type of the elements
+	 * @return The immutable list
+	 */
+	public static <E> List<E> of(JSONArray array, Function<Object, ? extends E> mapper) {
+		if (array == null || array.isEmpty()) return empty();
+		
+		Object[] elements = new Object[array.size()];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = mapper.apply(array.get(i));
+		}
+		
+		return new TMDbImmutableList<E>(elements);
+	}
+	
+	//endregion
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		if (index < 0 || index >= elements.length) throw new IndexOutOfBoundsException("Index: " + index + ", size: " + elements.length);
+		return (E) elements[index];
+	}
+	
+	@Override
+	public int size() {
+		return elements.length;
+	}
+	
+	@Override
+	public Object[] toArray() {
+		return elements.clone();
+	}
+	
+	/**
+	 * Keeps the shared empty instance on deserialization.
+	 * 
+	 * @return The deserialized list
+	 */
+	private Object readResolve() {
+		return elements.length == 0 ? EMPTY : this;
+	}
+	
+}
@@ -31,7 +31,7 @@ public enum TMDbSize {
 	/**
 	 * Image width 45 px.
 	 */
-	W_45 {
+	W_45(45, 0) {
 	    public String toString() {
 	        return "w45";
 	    }
@@ -40,7 +40,7 @@ public enum TMDbSize {
 	/**
 	 * Image width 92 px.
 	 */
-	W_92 {
+	W_92(92, 0) {
 	    public String toString() {
 	        return "w92";
 	    }
@@ -49,7 +49,7 @@ public enum TMDbSize {
 	/**
 	 * Image width 154 px.
 	 */
-	W_154 {
+	W_154(154, 0) {
 	    public String toString() {
 	        return "w154";
 	    }
@@ -58,7 +58,7 @@ public enum TMDbSize {
 	/**Image width 185 px.
 	 * 
 	 */
-	W_185 {
+	W_185(185, 0) {
 	    public String toString() {
 	        return "w185";
 	    }
@@ -67,7 +67,7 @@ public enum TMDbSize {
 	/**
 	 * Image width 300 px.
 	 */
-	W_300 {
+	W_300(300, 0) {
 	    public String toString() {
 	        return "w300";
 	    }
@@ -76,7 +76,7 @@ public enum TMDbSize {
 	/**
 	 * Image width 342 px.
 	 */
-	W_342 {
+	W_342(342, 0) {
 	    public String toString() {
 	        return "w342";
 	    }
@@ -85,7 +85,7 @@ public enum TMDbSize {
 	/**
 	 * Image width 500 px.
 	 */
-	W_500 {
+	W_500(500, 0) {
 	    public String toString() {
 	        return "w500";
 	    }
@@ -94,7 +94,7 @@ public enum TMDbSize {
 	/**
 	 * Image width 780 px.
 	 */
-	W_780 {
+	W_780(780, 0) {
 	    public String toString() {
 	        return "w780";
 	    }
@@ -103,7 +103,7 @@ public enum TMDbSize {
 	/**
 	 * Image width 1280 px.
 	 */
-	W_1280 {
+	W_1280(1280, 0) {
 	    public String toString() {
 	        return "w1280";
 	    }
@@ -112,7 +112,7 @@ public enum TMDbSize {
 	/**
 	 * Image height 632 px.
 	 */
-	H_632 {
+	H_632(0, 632) {
 	    public String toString() {
 	        return "h632";
 	    }
@@ -121,10 +121,43 @@ public enum TMDbSize {
 	/**
 	 * Original image size.
 	 */
-	ORIGINAL {
+	ORIGINAL(0, 0) {
 	    public String toString() {
 	        return "original";
 	    }
+	};
+	
+	/**
+	 * The width in pixels (0 if the size does not constrain the width).
+	 */
+	private final int width;
+	
+	/**
+	 * The height in pixels (0 if the size does not constrain the height).
+	 */
+	private final int height;
+	
+	private TMDbSize(int width, int height) {
+		this.width = width;
+		this.height = height;
+	}
+	
+	/**
+	 * Gets the width of the size.
+	 * 
+	 * @return The width in pixels, or 0 if the size does not constrain the width
+	 */
+	public int getWidth() {
+		return width;
+	}
+	
+	/**
+	 * Gets the height of the size.
+	 * 
+	 * @return The height in pixels, or 0 if the size does not constrain the height
+	 */
+	public int getHeight() {
+		return height;
 	}
 	
 }
@@ -26,7 +26,9 @@ package mk.tmdb.utils.sort;
  * @author Mirko Polato
  *
  * @param <T> Parametric type
+ * @deprecated Use a {@link java.util.Comparator}, see {@link ITMDbSortType#getComparator()}.
  */
+@Deprecated
 public interface ITMDbCompare<T> {
 	
     public boolean compare(T param1, T param2);
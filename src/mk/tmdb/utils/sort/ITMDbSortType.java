@@ -20,8 +20,10 @@
 
 package mk.tmdb.utils.sort;
 
+import java.util.Comparator;
+
 /**
- * This interface imposes to implements the getComparer method on the objects of each class that implements it.
+ * This interface imposes to implements the getComparator method on the objects of each class that implements it.
  * 
  * @author Mirko Polato
  *
@@ -29,6 +31,20 @@ package mk.tmdb.utils.sort;
  */
 public interface ITMDbSortType<T> {
 
+	/**
+	 * Gets the comparator that imposes the sort order.
+	 * 
+	 * @return The comparator
+	 */
+	public Comparator<T> getComparator();
+	
+	/**
+	 * Gets the boolean comparer of the sort order: true whether the first object comes before the second one.
+	 * 
+	 * @return The comparer
+	 * @deprecated Use {@link #getComparator()}.
+	 */
+	@Deprecated
 	public ITMDbCompare<T> getComparer();
 	
 }
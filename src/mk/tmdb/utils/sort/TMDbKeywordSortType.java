@@ -20,10 +20,14 @@
 
 package mk.tmdb.utils.sort;
 
+import java.util.Comparator;
+
 import mk.tmdb.entity.TMDbKeyword;
 
 /**
  * Enumeration with the possible sort type for Keywords.
+ * The comparators are consistent with equals on the sort key only, and the entities whose key 
+ * is not set (e.g. a missing value) are sorted last in both the orders.
  * 
  * @author Mirko Polato
  *
@@ -33,51 +37,41 @@ public enum TMDbKeywordSortType implements ITMDbSortType<TMDbKeyword> {
 	/**
 	 * Sort by ID in ascendent order.
 	 */
-	ASC_ID(new ITMDbCompare<TMDbKeyword>() {
-		@Override
-		public boolean compare(TMDbKeyword word1, TMDbKeyword word2) {
-			return word1.getId() < word2.getId();
-		}
-	}),
+	ASC_ID(Comparator.comparingInt(TMDbKeyword::getId)),
 	
 	/**
 	 * Sort by ID in descendant order.
 	 */
-	DESC_ID(new ITMDbCompare<TMDbKeyword>() {
-		@Override
-		public boolean compare(TMDbKeyword word1, TMDbKeyword word2) {
-			return word1.getId() >= word2.getId();
-		}
-	}),
+	DESC_ID(Comparator.comparingInt(TMDbKeyword::getId).reversed()),
 	
 	/**
 	 * Sort by keyword value in ascendent order.
 	 */
-	ASC_VALUE(new ITMDbCompare<TMDbKeyword>() {
-		@Override
-		public boolean compare(TMDbKeyword word1, TMDbKeyword word2) {
-			return word1.getValue().compareTo(word2.getValue()) < 0;
-		}
-	}),
+	ASC_VALUE(Comparator.comparing(TMDbKeyword::getValue, Comparator.nullsLast(Comparator.<String>naturalOrder()))),
 	
 	/**
 	 * Sort by keyword value in descendant order.
 	 */
-	DESC_VALUE(new ITMDbCompare<TMDbKeyword>() {
-		@Override
-		public boolean compare(TMDbKeyword word1, TMDbKeyword word2) {
-			return word1.getValue().compareTo(word2.getValue()) >= 0;
-		}
-	});
+	DESC_VALUE(Comparator.comparing(TMDbKeyword::getValue, Comparator.nullsLast(Comparator.<String>reverseOrder())));
+	
 	
+	private final Comparator<TMDbKeyword> comparator;
 	
-	private final ITMDbCompare<TMDbKeyword> comparer;
+	TMDbKeywordSortType(Comparator<TMDbKeyword> comparator) {
+		this.comparator = comparator;
+	}
 	
-	TMDbKeywordSortType(ITMDbCompare<TMDbKeyword> comparer) {
-		this.comparer = comparer;
+	@Override
+	public Comparator<TMDbKeyword> getComparator() {
+		return comparator;
 	}
 	
+	/**
+	 * @deprecated Use {@link #getComparator()}.
+	 */
+	@Override
+	@Deprecated
 	public ITMDbCompare<TMDbKeyword> getComparer() {
-		return comparer;
+		return (first, second) -> comparator.compare(first, second) < 0;
 	}
 }
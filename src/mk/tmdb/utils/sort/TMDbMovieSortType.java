@@ -20,10 +20,16 @@
 
 package mk.tmdb.utils.sort;
 
+import java.util.Comparator;
+import java.util.Date;
+import java.util.function.ToDoubleFunction;
+
 import mk.tmdb.entity.movie.TMDbMovieReduced;
 
 /**
  * Enumeration with the possible sort type for Movies.
+ * The comparators are consistent with equals on the sort key only, and the entities whose key 
+ * is not set (e.g. a missing title or release date) are sorted last in both the orders.
  * 
  * @author Mirko Polato
  *
@@ -33,175 +39,154 @@ public enum TMDbMovieSortType implements ITMDbSortType<TMDbMovieReduced> {
 	/**
 	 * Sort by ID in ascendent order.
 	 */
-	ASC_ID(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getId() < movie2.getId();
-		}
-	}),
+	ASC_ID(Comparator.comparingInt(TMDbMovieReduced::getId), 
+		movie -> movie.getId()),
 	
 	/**
 	 * Sort by ID in descendant order.
 	 */
-	DESC_ID(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getId() >= movie2.getId();
-		}
-	}),
+	DESC_ID(Comparator.comparingInt(TMDbMovieReduced::getId).reversed(), 
+		movie -> -movie.getId()),
 	
 	/**
 	 * Sort by title in ascendent order.
 	 */
-	ASC_TITLE(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getTitle().compareTo(movie2.getTitle()) < 0;
-		}
-	}),
+	ASC_TITLE(Comparator.comparing(TMDbMovieReduced::getTitle, Comparator.nullsLast(Comparator.<String>naturalOrder())), 
+		null),
 	
 	/**
 	 * Sort by title in descendant order.
 	 */
-	DESC_TITLE(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getTitle().compareTo(movie2.getTitle()) >= 0;
-		}
-	}),
+	DESC_TITLE(Comparator.comparing(TMDbMovieReduced::getTitle, Comparator.nullsLast(Comparator.<String>reverseOrder())), 
+		null),
 	
 	/**
 	 * Sort by original title in ascendent order.
 	 */
-	ASC_ORIGINAL_TITLE(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getOriginalTitle().compareTo(movie2.getOriginalTitle()) < 0;
-		}
-	}),
+	ASC_ORIGINAL_TITLE(Comparator.comparing(TMDbMovieReduced::getOriginalTitle, Comparator.nullsLast(Comparator.<String>naturalOrder())), 
+		null),
 	
 	/**
 	 * Sort by original title in descendant order.
 	 */
-	DESC_ORIGINAL_TITLE(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getOriginalTitle().compareTo(movie2.getOriginalTitle()) >= 0;
-		}
-	}),
+	DESC_ORIGINAL_TITLE(Comparator.comparing(TMDbMovieReduced::getOriginalTitle, Comparator.nullsLast(Comparator.<String>reverseOrder())), 
+		null),
 	
 	/**
 	 * Sort by release date in ascendent order.
 	 */
-	ASC_RELEASE(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			if (movie1.isReleaseDateSet()) {
-				if (movie2.isReleaseDateSet()) {
-					return movie1.getReleaseDate().compareTo(movie2.getReleaseDate()) < 0;
-				} else {
-					return true;
-				}
-			} else {
-				if (movie2.isReleaseDateSet()) {
-					return false;
-				} else {
-					return true;
-				}
-			}
-		}
-	}),
+	ASC_RELEASE(Comparator.comparing(TMDbMovieSortType::getReleaseDate, Comparator.nullsLast(Comparator.<Date>naturalOrder())), 
+		movie -> movie.isReleaseDateSet() ? getEpochDay(movie) : Double.POSITIVE_INFINITY),
 	
 	/**
 	 * Sort by release date in descendant order.
 	 */
-	DESC_RELEASE(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			if (movie1.isReleaseDateSet()) {
-				if (movie2.isReleaseDateSet()) {
-					return movie1.getReleaseDate().compareTo(movie2.getReleaseDate()) >= 0;
-				} else {
-					return true;
-				}
-			} else {
-				if (movie2.isReleaseDateSet()) {
-					return false;
-				} else {
-					return true;
-				}
-			}
-		}
-	}),
+	DESC_RELEASE(Comparator.comparing(TMDbMovieSortType::getReleaseDate, Comparator.nullsLast(Comparator.<Date>reverseOrder())), 
+		movie -> movie.isReleaseDateSet() ? -getEpochDay(movie) : Double.POSITIVE_INFINITY),
 	
 	/**
 	 * Sort by popularity in ascendent order.
 	 */
-	ASC_POPULARITY(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getPopularity() < movie2.getPopularity();
-		}
-	}),
+	ASC_POPULARITY(Comparator.comparingDouble(TMDbMovieReduced::getPopularity), 
+		TMDbMovieReduced::getPopularity),
 	
 	/**
 	 * Sort by popularity in descendant order.
 	 */
-	DESC_POPULARITY(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getPopularity() >= movie2.getPopularity();
-		}
-	}),
+	DESC_POPULARITY(Comparator.comparingDouble(TMDbMovieReduced::getPopularity).reversed(), 
+		movie -> -movie.getPopularity()),
 	
 	/**
 	 * Sort by vote average in ascendent order.
 	 */
-	ASC_VOTE_AVG(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getVoteAverage() < movie2.getVoteAverage();
-		}
-	}),
+	ASC_VOTE_AVG(Comparator.comparingDouble(TMDbMovieReduced::getVoteAverage), 
+		TMDbMovieReduced::getVoteAverage),
 	
 	/**
 	 * Sort by vote average in descendant order.
 	 */
-	DESC_VOTE_AVG(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getVoteAverage() >= movie2.getVoteAverage();
-		}
-	}),
+	DESC_VOTE_AVG(Comparator.comparingDouble(TMDbMovieReduced::getVoteAverage).reversed(), 
+		movie -> -movie.getVoteAverage()),
 	
 	/**
 	 * Sort by vote count in ascendent order.
 	 */
-	ASC_VOTE_COUNT(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getVoteCount() < movie2.getVoteCount();
-		}
-	}),
+	ASC_VOTE_COUNT(Comparator.comparingInt(TMDbMovieReduced::getVoteCount), 
+		movie -> movie.getVoteCount()),
 	
 	/**
 	 * Sort by vote count in descendant order.
 	 */
-	DESC_VOTE_COUNT(new ITMDbCompare<TMDbMovieReduced>() {
-		@Override
-		public boolean compare(TMDbMovieReduced movie1, TMDbMovieReduced movie2) {
-			return movie1.getVoteCount() >= movie2.getVoteCount();
-		}
-	});
+	DESC_VOTE_COUNT(Comparator.comparingInt(TMDbMovieReduced::getVoteCount).reversed(), 
+		movie -> -movie.getVoteCount());
+	
+	
+	private final Comparator<TMDbMovieReduced> comparator;
+	
+	/**
+	 * The primitive sort key, oriented so that the ascending order of the keys is the sort order 
+	 * (null if the order is not numeric).
+	 */
+	private final ToDoubleFunction<TMDbMovieReduced> key;
+	
+	TMDbMovieSortType(Comparator<TMDbMovieReduced> comparator, ToDoubleFunction<TMDbMovieReduced> key) {
+		this.comparator = comparator;
+		this.key = key;
+	}
+	
+	@Override
+	public Comparator<TMDbMovieReduced> getComparator() {
+		return comparator;
+	}
+	
+	/**
+	 * Gets whether the sort order is defined by a primitive key (see {@link #getKey(TMDbMovieReduced)}).
+	 * 
+	 * @return Whether the sort order has a primitive key
+	 */
+	public boolean hasKey() {
+		return key != null;
+	}
 	
+	/**
+	 * Gets the primitive sort key of the movie: sorting the keys in ascending order gives the 
+	 * same order of the {@link #getComparator() comparator}. The unset values get the highest key.
+	 * 
+	 * @param movie The movie
+	 * @return The primitive sort key
+	 * @throws UnsupportedOperationException Throws if the sort order has not a primitive key
+	 */
+	public double getKey(TMDbMovieReduced movie) {
+		if (key == null) throw new UnsupportedOperationException(name() + " has not a primitive sort key");
+		return key.applyAsDouble(movie);
+	}
 	
-	private final ITMDbCompare<TMDbMovieReduced> comparer;
+	/**
+	 * Gets the release date of the movie as days since the epoch.
+	 * 
+	 * @param movie The movie
+	 * @return The epoch day of the release date
+	 */
+	private static double getEpochDay(TMDbMovieReduced movie) {
+		return Math.floorDiv(movie.getReleaseDate().getTime(), 86400000L);
+	}
 	
-	TMDbMovieSortType(ITMDbCompare<TMDbMovieReduced> comparer) {
-		this.comparer = comparer;
+	/**
+	 * Gets the release date of the movie, if it is set.
+	 * 
+	 * @param movie The movie
+	 * @return The release date or null
+	 */
+	private static Date getReleaseDate(TMDbMovieReduced movie) {
+		return movie.isReleaseDateSet() ? movie.getReleaseDate() : null;
 	}
 	
+	/**
+	 * @deprecated Use {@link #getComparator()}.
+	 */
+	@Override
+	@Deprecated
 	public ITMDbCompare<TMDbMovieReduced> getComparer() {
-		return comparer;
+		return (first, second) -> comparator.compare(first, second) < 0;
 	}
 }
@@ -20,10 +20,14 @@
 
 package mk.tmdb.utils.sort;
 
+import java.util.Comparator;
+
 import mk.tmdb.entity.person.TMDbPersonThumbnail;
 
 /**
  * Enumeration with the possible sort type for People.
+ * The comparators are consistent with equals on the sort key only, and the entities whose key 
+ * is not set (e.g. a missing name) are sorted last in both the orders.
  * 
  * @author Mirko Polato
  *
@@ -33,51 +37,41 @@ public enum TMDbPeopleSortType implements ITMDbSortType<TMDbPersonThumbnail> {
 	/**
 	 * Sort by ID in ascendent order.
 	 */
-	ASC_ID(new ITMDbCompare<TMDbPersonThumbnail>() {
-		@Override
-		public boolean compare(TMDbPersonThumbnail person1, TMDbPersonThumbnail person2) {
-			return person1.getId() < person2.getId();
-		}
-	}),
+	ASC_ID(Comparator.comparingInt(TMDbPersonThumbnail::getId)),
 	
 	/**
 	 * Sort by ID in descendant order.
 	 */
-	DESC_ID(new ITMDbCompare<TMDbPersonThumbnail>() {
-		@Override
-		public boolean compare(TMDbPersonThumbnail person1, TMDbPersonThumbnail person2) {
-			return person1.getId() >= person2.getId();
-		}
-	}),
+	DESC_ID(Comparator.comparingInt(TMDbPersonThumbnail::getId).reversed()),
 	
 	/**
 	 * Sort by name in ascendent order.
 	 */
-	ASC_NAME(new ITMDbCompare<TMDbPersonThumbnail>() {
-		@Override
-		public boolean compare(TMDbPersonThumbnail person1, TMDbPersonThumbnail person2) {
-			return person1.getName().compareTo(person2.getName()) < 0;
-		}
-	}),
+	ASC_NAME(Comparator.comparing(TMDbPersonThumbnail::getName, Comparator.nullsLast(Comparator.<String>naturalOrder()))),
 	
 	/**
 	 * Sort by name in descendant order.
 	 */
-	DESC_NAME(new ITMDbCompare<TMDbPersonThumbnail>() {
-		@Override
-		public boolean compare(TMDbPersonThumbnail person1, TMDbPersonThumbnail person2) {
-			return person1.getName().compareTo(person2.getName()) >= 0;
-		}
-	});
+	DESC_NAME(Comparator.comparing(TMDbPersonThumbnail::getName, Comparator.nullsLast(Comparator.<String>reverseOrder())));
+	
 	
+	private final Comparator<TMDbPersonThumbnail> comparator;
 	
-	private final ITMDbCompare<TMDbPersonThumbnail> comparer;
+	TMDbPeopleSortType(Comparator<TMDbPersonThumbnail> comparator) {
+		this.comparator = comparator;
+	}
 	
-	TMDbPeopleSortType(ITMDbCompare<TMDbPersonThumbnail> comparer) {
-		this.comparer = comparer;
+	@Override
+	public Comparator<TMDbPersonThumbnail> getComparator() {
+		return comparator;
 	}
 	
+	/**
+	 * @deprecated Use {@link #getComparator()}.
+	 */
+	@Override
+	@Deprecated
 	public ITMDbCompare<TMDbPersonThumbnail> getComparer() {
-		return comparer;
+		return (first, second) -> comparator.compare(first, second) < 0;
 	}
 }
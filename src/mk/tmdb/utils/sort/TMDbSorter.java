@@ -20,6 +20,9 @@
 
 package mk.tmdb.utils.sort;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 import mk.tmdb.entity.TMDbKeyword;
@@ -34,6 +37,11 @@ import mk.tmdb.entity.person.TMDbPersonThumbnail;
  */
 public class TMDbSorter {
 
+	/**
+	 * Minimum number of elements sorted in parallel.
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 13;
+
 	/**
 	 * Sorts the given set of movies.
 	 * 
@@ -45,11 +53,54 @@ public class TMDbSorter {
 		
 		TMDbMovieReduced[] moviesArray = movies.toArray(new TMDbMovieReduced[0]);
 		
-		heapSort(moviesArray, sort);
+		sort(moviesArray, sort);
 		
 		return moviesArray;
 	}
 	
+	/**
+	 * Sorts the given set of movies by several keys: the first sort type decides the order, 
+	 * the following ones break the ties (e.g. <code>DESC_VOTE_AVG, DESC_VOTE_COUNT</code>). 
+	 * The numeric keys are extracted once per movie, then compared as primitives; the ties 
+	 * of all the keys keep the input order.
+	 * 
+	 * @param movies The set of movies
+	 * @param sort The main sort type
+	 * @param thenBy The tie-break sort types
+	 * @return A sorted array
+	 */
+	public static TMDbMovieReduced[] sortMovies(List<TMDbMovieReduced> movies, TMDbMovieSortType sort, TMDbMovieSortType... thenBy) {
+		return topMovies(movies, movies.size(), sort, thenBy);
+	}
+	
+	/**
+	 * Selects the first k movies of the given set in the given order, without sorting the whole set: 
+	 * the candidates are kept in a bounded heap, so the selection runs in O(n log k). 
+	 * The order is defined as in {@link #sortMovies(List, TMDbMovieSortType, TMDbMovieSortType...)}.
+	 * 
+	 * @param movies The set of movies
+	 * @param k The number of movies to select
+	 * @param sort The main sort type
+	 * @param thenBy The tie-break sort types
+	 * @return The first k movies (fewer if the set is smaller), sorted
+	 */
+	public static TMDbMovieReduced[] topMovies(Collection<TMDbMovieReduced> movies, int k, TMDbMovieSortType sort, TMDbMovieSortType... thenBy) {
+		
+		TMDbMovieSortType[] types = new TMDbMovieSortType[thenBy.length + 1];
+		types[0] = sort;
+		System.arraycopy(thenBy, 0, types, 1, thenBy.length);
+		
+		MovieKeys keys = new MovieKeys(movies.toArray(new TMDbMovieReduced[0]), types);
+		int[] selected = keys.select(Math.max(0, Math.min(k, movies.size())));
+		
+		TMDbMovieReduced[] result = new TMDbMovieReduced[selected.length];
+		for (int i = 0; i < selected.length; i++) {
+			result[i] = keys.movies[selected[i]];
+		}
+		
+		return result;
+	}
+	
 	/**
 	 * Sorts the given set of people.
 	 * 
@@ -61,7 +112,7 @@ public class TMDbSorter {
 		
 		TMDbPersonThumbnail[] peopleArray = people.toArray(new TMDbPersonThumbnail[0]);
 		
-		heapSort(peopleArray, sort);
+		sort(peopleArray, sort);
 		
 		return peopleArray;
 	}
@@ -77,71 +128,143 @@ public class TMDbSorter {
 		
 		TMDbKeyword[] keysArray = keys.toArray(new TMDbKeyword[0]);
 		
-		heapSort(keysArray, sort);
+		sort(keysArray, sort);
 		
 		return keysArray;
 	}
 
 	/**
-	 * Parametric heap sort (Outer loop).
+	 * Sorts the given array in place. The sort is stable (equal elements keep their order) and 
+	 * runs in O(n log n); the arrays with at least {@link #PARALLEL_THRESHOLD} elements are sorted 
+	 * in parallel by the common fork/join pool.
 	 * 
 	 * @param array The array to sort
 	 * @param sort The sort type
 	 */
-	private static <T> void heapSort(T array[], ITMDbSortType<T> sort) {
-		for(int i = array.length; i > 1; i--){
-			internalHeapSort(array, i - 1, sort.getComparer());
-		}
+	public static <T> void sort(T[] array, ITMDbSortType<? super T> sort) {
+		sort(array, sort.getComparator());
 	}
 	
 	/**
-	 * Parametric heap sort.
+	 * Sorts the given array in place. The sort is stable (equal elements keep their order) and 
+	 * runs in O(n log n); the arrays with at least {@link #PARALLEL_THRESHOLD} elements are sorted 
+	 * in parallel by the common fork/join pool.
 	 * 
 	 * @param array The array to sort
-	 * @param ubound The array length
-	 * @param comp The comparer
+	 * @param comparator The comparator that imposes the order
 	 */
-	private static <T> void internalHeapSort(T array[], int ubound, ITMDbCompare<T> comp){
-
-		int lChild, rChild, mChild;
+	@SuppressWarnings("unchecked")
+	public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+		if (array.length >= PARALLEL_THRESHOLD) {
+			Arrays.parallelSort(array, (Comparator<T>) comparator);
+		} else {
+			Arrays.sort(array, comparator);
+		}
+	}
+	
+	/**
+	 * The sort keys of a set of movies, extracted once. The movies are referred by their index 
+	 * in the input array, and the index is the last tie-break, so the order is total and stable.
+	 */
+	private static final class MovieKeys {
 		
-		int root = (ubound - 1) / 2;
-
-		for(int j = root; j >= 0; j--){
+		private final TMDbMovieReduced[] movies;
+		private final TMDbMovieSortType[] types;
+		
+		/**
+		 * The primitive keys of each sort type (null for the types compared by their comparator).
+		 */
+		private final double[][] keys;
+		
+		MovieKeys(TMDbMovieReduced[] movies, TMDbMovieSortType[] types) {
+			this.movies = movies;
+			this.types = types;
+			this.keys = new double[types.length][];
 			
-			for(int i = root; i >= 0; i--){
-				
-				lChild = (2 * i) + 1;
-				rChild = (2 * i) + 2;
+			for (int t = 0; t < types.length; t++) {
+				if (!types[t].hasKey()) continue;
 				
-				if((lChild <= ubound) && (rChild <= ubound)){
-					
-					if(!comp.compare(array[rChild], array[lChild])) {
-						mChild = rChild;
-					} else { 
-						mChild = lChild;
-					}
-					
-				} else {
-					
-					if(rChild > ubound) { 
-						mChild = lChild;
-					} else { 
-						mChild = rChild;
-					}
-					
+				keys[t] = new double[movies.length];
+				for (int i = 0; i < movies.length; i++) {
+					keys[t][i] = types[t].getKey(movies[i]);
 				}
-
-				if(comp.compare(array[i], array[mChild])){
-					T temp = array[i];
-					array[i] = array[mChild];
-					array[mChild] = temp;
+			}
+		}
+		
+		/**
+		 * Compares two movies by their keys.
+		 * 
+		 * @param a The index of the first movie
+		 * @param b The index of the second movie
+		 * @return A negative number, zero or a positive number whether the first movie comes before, is or comes after the second one
+		 */
+		int compare(int a, int b) {
+			for (int t = 0; t < types.length; t++) {
+				int result = keys[t] != null ? Double.compare(keys[t][a], keys[t][b]) 
+											 : types[t].getComparator().compare(movies[a], movies[b]);
+				if (result != 0) return result;
+			}
+			
+			return Integer.compare(a, b);
+		}
+		
+		/**
+		 * Selects the indexes of the first k movies, sorted.
+		 * 
+		 * @param k The number of movies to select (at most the number of movies)
+		 * @return The sorted indexes
+		 */
+		int[] select(int k) {
+			if (k == 0) return new int[0];
+			
+			// Max-heap of the best k movies: the root is the worst of them.
+			int[] heap = new int[k];
+			int size = 0;
+			for (int i = 0; i < movies.length; i++) {
+				if (size < k) {
+					heap[size] = i;
+					siftUp(heap, size++);
+				} else if (compare(i, heap[0]) < 0) {
+					heap[0] = i;
+					siftDown(heap, 0, size);
 				}
 			}
+			
+			// Heap sort: the worst movie goes last.
+			for (int end = size - 1; end > 0; end--) {
+				int worst = heap[0];
+				heap[0] = heap[end];
+				heap[end] = worst;
+				siftDown(heap, 0, end);
+			}
+			
+			return heap;
+		}
+		
+		private void siftUp(int[] heap, int child) {
+			while (child > 0) {
+				int parent = (child - 1) / 2;
+				if (compare(heap[child], heap[parent]) <= 0) return;
+				
+				int temp = heap[child];
+				heap[child] = heap[parent];
+				heap[parent] = temp;
+				child = parent;
+			}
 		}
 		
-		T temp = array[0];
-		array[0] = array[ubound];
-		array[ubound] = temp;
+		private void siftDown(int[] heap, int parent, int size) {
+			while (true) {
+				int child = 2 * parent + 1;
+				if (child >= size) return;
+				if (child + 1 < size && compare(heap[child + 1], heap[child]) > 0) child++;
+				if (compare(heap[child], heap[parent]) <= 0) return;
+				
+				int temp = heap[child];
+				heap[child] = heap[parent];
+				heap[parent] = temp;
+				parent = child;
+			}
+		}
 	}
 }